@@ -0,0 +1,70 @@
+package com.careermappro.bench;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Builds Spring Data repository stand-ins backed by plain collections, so benchmarks
+ * measure the services' own work rather than a database round-trip.
+ *
+ * Only the methods a benchmark registers are implemented; anything else throws,
+ * which keeps a benchmark from silently measuring a code path it didn't set up.
+ */
+public final class InMemoryRepository<T> {
+
+    private final Class<T> type;
+    private final Map<String, Function<Object[], Object>> methods = new HashMap<>();
+
+    private InMemoryRepository(Class<T> type) {
+        this.type = type;
+    }
+
+    public static <T> InMemoryRepository<T> of(Class<T> type) {
+        return new InMemoryRepository<>(type);
+    }
+
+    /**
+     * Answer every overload of the named repository method with the given function of its arguments
+     */
+    public InMemoryRepository<T> on(String methodName, Function<Object[], Object> answer) {
+        methods.put(methodName, answer);
+        return this;
+    }
+
+    public T build() {
+        Map<String, Function<Object[], Object>> answers = Map.copyOf(methods);
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (self, method, args) -> {
+            switch (method.getName()) {
+                case "toString":
+                    return "InMemory" + type.getSimpleName();
+                case "hashCode":
+                    return System.identityHashCode(self);
+                case "equals":
+                    return self == args[0];
+                default:
+                    Function<Object[], Object> answer = answers.get(method.getName());
+                    if (answer == null) {
+                        throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName() + " is not set up");
+                    }
+                    return answer.apply(args == null ? new Object[0] : args);
+            }
+        });
+        return type.cast(proxy);
+    }
+
+    /**
+     * Set a private field, for @Autowired-injected services and entities without an id setter
+     */
+    public static void inject(Object target, String fieldName, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot set " + target.getClass().getSimpleName() + "." + fieldName, e);
+        }
+    }
+}
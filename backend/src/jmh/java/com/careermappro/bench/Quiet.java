@@ -0,0 +1,29 @@
+package com.careermappro.bench;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+
+/**
+ * Several services log every call with System.out. In a benchmark fork that would
+ * flood the console and measure terminal I/O, so trials run with stdout discarded.
+ */
+public final class Quiet {
+
+    private static PrintStream original;
+
+    private Quiet() {}
+
+    public static synchronized void start() {
+        if (original == null) {
+            original = System.out;
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        }
+    }
+
+    public static synchronized void stop() {
+        if (original != null) {
+            System.setOut(original);
+            original = null;
+        }
+    }
+}
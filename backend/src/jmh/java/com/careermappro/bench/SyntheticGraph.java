@@ -0,0 +1,207 @@
+package com.careermappro.bench;
+
+import com.careermappro.entities.PrereqEdge;
+import com.careermappro.entities.RoleSkill;
+import com.careermappro.entities.Skill;
+import com.careermappro.entities.SkillNode;
+import com.careermappro.entities.UserSkillState;
+import com.careermappro.entities.UserSkillState.SkillStatus;
+import com.careermappro.repositories.PrereqEdgeRepository;
+import com.careermappro.repositories.RoleSkillRepository;
+import com.careermappro.repositories.SkillNodeRepository;
+import com.careermappro.repositories.UserSkillStateRepository;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Deterministic synthetic skill graph and user population for the benchmarks.
+ *
+ * - Skill node ids run 1..nodeCount; each node takes up to three prerequisites from
+ *   the 200 nodes before it, so the graph is a DAG with realistic local fan-in.
+ * - One role (id 1) requires roleSize nodes with weights between 0.05 and 0.4.
+ * - Every user has a state for about 60% of the nodes, so 10k nodes x 170 users
+ *   is roughly 1M user_skill_states rows.
+ */
+public final class SyntheticGraph {
+
+    public static final int ROLE_ID = 1;
+
+    private static final String[] VOCABULARY = {
+        "java", "spring boot", "react", "node.js", "typescript", "sql", "postgres", "docker",
+        "kubernetes", "aws", "python", "django", "graphql", "rest api", "redis", "kafka",
+        "next.js", "vue", "terraform", "machine learning", "pandas", "swift", "kotlin", "css"
+    };
+
+    public final int nodeCount;
+    public final int userCount;
+    public final List<SkillNode> nodes;
+    public final List<PrereqEdge> edges;
+    public final List<RoleSkill> roleSkills;
+
+    private final Map<Integer, List<PrereqEdge>> edgesTo = new HashMap<>();
+    private final Map<Integer, List<PrereqEdge>> edgesFrom = new HashMap<>();
+    // [userId - 1][skillId - 1], null where the user has no state for the skill
+    private final UserSkillState[][] statesByUserSkill;
+    private final List<List<UserSkillState>> statesByUser;
+
+    private SyntheticGraph(int nodeCount, int userCount, int roleSize, long seed) {
+        this.nodeCount = nodeCount;
+        this.userCount = userCount;
+        Random random = new Random(seed);
+
+        nodes = new ArrayList<>(nodeCount);
+        List<Skill> skills = new ArrayList<>(nodeCount);
+        for (int id = 1; id <= nodeCount; id++) {
+            String base = VOCABULARY[random.nextInt(VOCABULARY.length)];
+            SkillNode node = new SkillNode();
+            node.setSkillNodeId(id);
+            node.setCanonicalName(base + " " + id);
+            node.setAliases("[\"" + base.replace(" ", "") + id + "\", \"" + base.replace(".", "") + " " + id + "\"]");
+            node.setDomain("synthetic");
+            nodes.add(node);
+
+            Skill skill = new Skill(node.getCanonicalName(), "Technical", Skill.DifficultyLevel.Intermediate);
+            InMemoryRepository.inject(skill, "skillId", id);
+            skills.add(skill);
+        }
+
+        edges = new ArrayList<>();
+        for (int to = 2; to <= nodeCount; to++) {
+            int prereqs = random.nextInt(4);
+            for (int i = 0; i < prereqs; i++) {
+                int from = Math.max(1, to - 1 - random.nextInt(Math.min(200, to - 1)));
+                PrereqEdge edge = new PrereqEdge();
+                edge.setEdgeId(edges.size() + 1);
+                edge.setFromSkillId(from);
+                edge.setToSkillId(to);
+                edge.setType(random.nextDouble() < 0.3 ? PrereqEdge.EdgeType.HARD : PrereqEdge.EdgeType.SOFT);
+                edge.setStrength(0.3 + random.nextDouble() * 0.7);
+                edges.add(edge);
+                edgesTo.computeIfAbsent(to, k -> new ArrayList<>()).add(edge);
+                edgesFrom.computeIfAbsent(from, k -> new ArrayList<>()).add(edge);
+            }
+        }
+
+        roleSkills = new ArrayList<>(roleSize);
+        List<Skill> shuffled = new ArrayList<>(skills);
+        Collections.shuffle(shuffled, random);
+        for (Skill skill : shuffled.subList(0, Math.min(roleSize, shuffled.size()))) {
+            roleSkills.add(new RoleSkill(null, skill, 0.05 + random.nextDouble() * 0.35, 7.0));
+        }
+
+        SkillStatus[] statuses = SkillStatus.values();
+        LocalDateTime now = LocalDateTime.now();
+        statesByUserSkill = new UserSkillState[userCount][];
+        statesByUser = new ArrayList<>(userCount);
+        int stateId = 1;
+        for (int user = 1; user <= userCount; user++) {
+            UserSkillState[] row = new UserSkillState[nodeCount];
+            List<UserSkillState> list = new ArrayList<>((int) (nodeCount * 0.6) + 1);
+            for (int skillId = 1; skillId <= nodeCount; skillId++) {
+                if (random.nextDouble() >= 0.6) {
+                    continue;
+                }
+                UserSkillState state = new UserSkillState();
+                state.setId(stateId++);
+                state.setUserId(user);
+                state.setSkillId(skillId);
+                state.setStatus(statuses[random.nextInt(statuses.length)]);
+                state.setConfidence(random.nextDouble());
+                state.setEvidenceScore(random.nextDouble() * 10);
+                state.setUpdatedAt(now);
+                row[skillId - 1] = state;
+                list.add(state);
+            }
+            statesByUserSkill[user - 1] = row;
+            statesByUser.add(list);
+        }
+    }
+
+    public static SyntheticGraph generate(int nodeCount, int userCount, int roleSize) {
+        return new SyntheticGraph(nodeCount, userCount, roleSize, 42L);
+    }
+
+    public List<UserSkillState> statesOf(int userId) {
+        return statesByUser.get(userId - 1);
+    }
+
+    public UserSkillState stateOf(int userId, int skillId) {
+        if (userId < 1 || userId > userCount || skillId < 1 || skillId > nodeCount) {
+            return null;
+        }
+        return statesByUserSkill[userId - 1][skillId - 1];
+    }
+
+    public UserSkillStateRepository userSkillStateRepository() {
+        return InMemoryRepository.of(UserSkillStateRepository.class)
+            .on("findByUserId", args -> statesOf((Integer) args[0]))
+            .on("findByUserIdAndSkillId", args -> Optional.ofNullable(stateOf((Integer) args[0], (Integer) args[1])))
+            .on("findByUserIdAndSkillIdIn", args -> {
+                Integer userId = (Integer) args[0];
+                List<UserSkillState> found = new ArrayList<>();
+                for (Object skillId : (Collection<?>) args[1]) {
+                    UserSkillState state = stateOf(userId, (Integer) skillId);
+                    if (state != null) {
+                        found.add(state);
+                    }
+                }
+                return found;
+            })
+            // States are mutated in place; saving a new one only happens for unknown pairs
+            .on("save", args -> args[0])
+            // In-memory stand-ins for the single-statement upserts (known pairs only)
+            .on("applyStrongEvidence", args -> {
+                UserSkillState state = stateOf((Integer) args[0], (Integer) args[1]);
+                if (state != null) {
+                    SkillStatus status = state.getStatus();
+                    state.setStatus(status == SkillStatus.INFERRED || status == SkillStatus.ACTIVE ? SkillStatus.PROVED
+                        : status == SkillStatus.UNSEEN ? SkillStatus.INFERRED : status);
+                    state.setConfidence(Math.max(state.getConfidence(), (Double) args[2]));
+                    state.setEvidenceScore(state.getEvidenceScore() + (Double) args[3]);
+                    state.setLastEvidenceAt((LocalDateTime) args[4]);
+                    state.setStaleAt((LocalDateTime) args[5]);
+                    state.setUpdatedAt((LocalDateTime) args[4]);
+                }
+                return null;
+            })
+            .on("applyMediumEvidence", args -> {
+                UserSkillState state = stateOf((Integer) args[0], (Integer) args[1]);
+                if (state != null) {
+                    if (state.getStatus() == SkillStatus.UNSEEN) {
+                        state.setStatus(SkillStatus.INFERRED);
+                    }
+                    state.setConfidence(Math.max(state.getConfidence(), (Double) args[2]));
+                    state.setEvidenceScore(state.getEvidenceScore() + (Double) args[3]);
+                    state.setLastEvidenceAt((LocalDateTime) args[4]);
+                    state.setUpdatedAt((LocalDateTime) args[4]);
+                }
+                return null;
+            })
+            .on("touch", args -> null)
+            .build();
+    }
+
+    public PrereqEdgeRepository prereqEdgeRepository() {
+        return InMemoryRepository.of(PrereqEdgeRepository.class)
+            .on("findByToSkillId", args -> edgesTo.getOrDefault((Integer) args[0], List.of()))
+            .on("findByFromSkillId", args -> edgesFrom.getOrDefault((Integer) args[0], List.of()))
+            .build();
+    }
+
+    public RoleSkillRepository roleSkillRepository() {
+        return InMemoryRepository.of(RoleSkillRepository.class)
+            .on("findByRoleId", args -> ROLE_ID == (Integer) args[0] ? roleSkills : List.of())
+            .build();
+    }
+
+    public SkillNodeRepository skillNodeRepository() {
+        return InMemoryRepository.of(SkillNodeRepository.class)
+            .on("findById", args -> {
+                int id = (Integer) args[0];
+                return id >= 1 && id <= nodeCount ? Optional.of(nodes.get(id - 1)) : Optional.empty();
+            })
+            .on("findAll", args -> nodes)
+            .build();
+    }
+}
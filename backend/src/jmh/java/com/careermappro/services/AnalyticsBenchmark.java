@@ -0,0 +1,54 @@
+package com.careermappro.services;
+
+import com.careermappro.bench.InMemoryRepository;
+import com.careermappro.entities.Proficiency;
+import com.careermappro.repositories.ProficiencyRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Domain averages over a user's proficiencies; dominated by the per-skill
+ * regex domain inference.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AnalyticsBenchmark {
+
+    private static final String[] SKILLS = {
+        "Java", "Spring Boot", "React", "TypeScript", "Docker", "Kubernetes", "AWS Lambda",
+        "Machine Learning", "Pandas", "Swift", "Kotlin", "Technical Writing", "Project Management"
+    };
+
+    @Param({"20", "200", "2000"})
+    public int proficiencies;
+
+    private AnalyticsService analytics;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(11);
+        List<Proficiency> rows = new ArrayList<>(proficiencies);
+        for (int i = 0; i < proficiencies; i++) {
+            rows.add(new Proficiency(1, SKILLS[random.nextInt(SKILLS.length)] + " " + i, random.nextDouble() * 10));
+        }
+
+        ProficiencyRepository repository = InMemoryRepository.of(ProficiencyRepository.class)
+            .on("findByUserId", args -> rows)
+            .build();
+        analytics = new AnalyticsService(repository);
+    }
+
+    @Benchmark
+    public Map<String, Double> getDomainAverages() {
+        return analytics.getDomainAverages(1);
+    }
+}
@@ -0,0 +1,67 @@
+package com.careermappro.services;
+
+import com.careermappro.bench.Quiet;
+import com.careermappro.bench.SyntheticGraph;
+import com.careermappro.dto.FrontierNode;
+import com.careermappro.dto.RecommendedAction;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Frontier computation and next-action scoring for one user against one role.
+ * Users are visited round-robin so every invocation sees a different state set.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class DecisionEngineBenchmark {
+
+    @Param({"1000", "10000"})
+    public int skillNodes;
+
+    @Param({"10", "170"})
+    public int users;
+
+    @Param({"100"})
+    public int roleSkills;
+
+    private DecisionEngineService engine;
+    private int nextUser;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Quiet.start();
+        SyntheticGraph graph = SyntheticGraph.generate(skillNodes, users, roleSkills);
+        engine = new DecisionEngineService(
+            graph.userSkillStateRepository(),
+            graph.skillNodeRepository(),
+            graph.prereqEdgeRepository(),
+            graph.roleSkillRepository()
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Quiet.stop();
+    }
+
+    @Benchmark
+    public List<FrontierNode> computeFrontier() {
+        return engine.computeFrontier(nextUser(), SyntheticGraph.ROLE_ID);
+    }
+
+    @Benchmark
+    public RecommendedAction selectNextAction() {
+        return engine.selectNextAction(nextUser(), SyntheticGraph.ROLE_ID);
+    }
+
+    private int nextUser() {
+        nextUser = nextUser % users + 1;
+        return nextUser;
+    }
+}
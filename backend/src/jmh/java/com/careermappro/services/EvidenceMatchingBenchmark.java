@@ -0,0 +1,76 @@
+package com.careermappro.services;
+
+import com.careermappro.bench.SyntheticGraph;
+import com.careermappro.entities.SkillAlias;
+import com.careermappro.entities.SkillNode;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Canonical skill lookup for names coming back from extraction: exact names,
+ * aliases, punctuation variants and misses in roughly equal parts. The map stands in
+ * for the skill_aliases rows ingestEvidence fetches per call.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EvidenceMatchingBenchmark {
+
+    private static final int NAME_COUNT = 1024;
+
+    @Param({"1000", "10000"})
+    public int skillNodes;
+
+    private EvidenceExtractionService service;
+    private SyntheticGraph graph;
+    private Map<String, SkillNode> skillMap;
+    private final String[] extractedNames = new String[NAME_COUNT];
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        graph = SyntheticGraph.generate(skillNodes, 1, 0);
+        service = new EvidenceExtractionService(null, null, null, null, null);
+        skillMap = new HashMap<>();
+        ObjectMapper objectMapper = new ObjectMapper();
+        for (SkillNode node : graph.nodes) {
+            skillMap.put(SkillAlias.normalize(node.getCanonicalName()), node);
+            try {
+                for (JsonNode alias : objectMapper.readTree(node.getAliases())) {
+                    skillMap.putIfAbsent(SkillAlias.normalize(alias.asText()), node);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        Random random = new Random(7);
+        for (int i = 0; i < NAME_COUNT; i++) {
+            SkillNode node = graph.nodes.get(random.nextInt(graph.nodes.size()));
+            String name = node.getCanonicalName();
+            extractedNames[i] = switch (i % 4) {
+                case 0 -> name.toUpperCase();
+                case 1 -> name.replace(" ", "");
+                case 2 -> " " + name.replace(" ", "-") + " ";
+                default -> "unknown skill " + i;
+            };
+        }
+    }
+
+    @Benchmark
+    public SkillNode findCanonicalSkill() {
+        next = (next + 1) & (NAME_COUNT - 1);
+        return service.findCanonicalSkill(extractedNames[next], skillMap);
+    }
+}
@@ -0,0 +1,54 @@
+package com.careermappro.services;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing a model response into question maps, for typical and large quizzes.
+ * The payload is wrapped in prose the way chat completions usually return it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuizParsingBenchmark {
+
+    @Param({"5", "20", "100"})
+    public int questions;
+
+    private QuizService quizService;
+    private String response;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        quizService = new QuizService(null, null, null, null, null, null, null);
+
+        StringBuilder json = new StringBuilder("Here are the questions you asked for:\n[");
+        for (int i = 0; i < questions; i++) {
+            if (i > 0) {
+                json.append(",\n");
+            }
+            json.append("{")
+                .append("\"questionText\": \"Which statement about topic ").append(i).append(" is correct?\", ")
+                .append("\"optionA\": \"The first option for question ").append(i).append("\", ")
+                .append("\"optionB\": \"The second option\", ")
+                .append("\"optionC\": \"The third option\", ")
+                .append("\"optionD\": \"None of the above\", ")
+                .append("\"correctAnswer\": \"").append("ABCD".charAt(i % 4)).append("\", ")
+                .append("\"subtopic\": \"subtopic-").append(i % 7).append("\"")
+                .append("}");
+        }
+        json.append("]\nLet me know if you need more.");
+        response = json.toString();
+    }
+
+    @Benchmark
+    public List<Map<String, String>> parseQuestionJson() {
+        return quizService.parseQuestionJson(response);
+    }
+}
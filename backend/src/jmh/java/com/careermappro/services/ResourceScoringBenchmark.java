@@ -0,0 +1,85 @@
+package com.careermappro.services;
+
+import com.careermappro.bench.InMemoryRepository;
+import com.careermappro.bench.Quiet;
+import com.careermappro.models.CuratedResource;
+import com.careermappro.models.UserResourceRating;
+import com.careermappro.repositories.CuratedResourceRepository;
+import com.careermappro.repositories.UserResourceRatingRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Personalized ranking of a node's resources for a user who has rated about a third of them.
+ * Every node has enough candidates that resource discovery (an OpenAI call) never runs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResourceScoringBenchmark {
+
+    private static final String[] TYPES = {"video", "article", "documentation", "course", "interactive"};
+
+    @Param({"10", "100", "1000"})
+    public int resourcesPerNode;
+
+    private ResourceSelectionService selection;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Quiet.start();
+        Random random = new Random(5);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<CuratedResource> resources = new ArrayList<>(resourcesPerNode);
+        Map<Integer, UserResourceRating> ratings = new HashMap<>();
+        for (int id = 1; id <= resourcesPerNode; id++) {
+            CuratedResource resource = new CuratedResource("Resource " + id, "https://example.com/" + id,
+                TYPES[random.nextInt(TYPES.length)], "synthetic", "Synthetic resource", 15 + random.nextInt(60));
+            resource.setResourceId(id);
+            resource.setAvgQualityScore(1.0f + random.nextFloat() * 4.0f);
+            resource.setTotalRatings(random.nextInt(300));
+            resource.setLastVerified(now.minusDays(random.nextInt(720)));
+            resources.add(resource);
+
+            if (random.nextInt(3) == 0) {
+                ratings.put(id, new UserResourceRating(1, id, 1.0f + random.nextInt(5), random.nextInt(5) > 0));
+            }
+        }
+
+        CuratedResourceRepository resourceRepository = InMemoryRepository.of(CuratedResourceRepository.class)
+            // A fresh list per call: the service appends discovered resources and sorts in place
+            .on("findByNodeId", args -> new ArrayList<>(resources))
+            .build();
+        UserResourceRatingRepository ratingRepository = InMemoryRepository.of(UserResourceRatingRepository.class)
+            .on("findByUserIdAndResourceId", args -> Optional.ofNullable(ratings.get((Integer) args[1])))
+            .on("findByUserIdAndRatingLessThan", args -> ratings.values().stream()
+                .filter(r -> r.getRating() < (Float) args[1])
+                .toList())
+            .on("findByUserIdAndHelpfulFalse", args -> ratings.values().stream()
+                .filter(r -> !r.getHelpful())
+                .toList())
+            .on("findPreferredResourceType", args -> new Object[] {"video", 4.5, 3L})
+            .build();
+
+        selection = new ResourceSelectionService();
+        InMemoryRepository.inject(selection, "curatedResourceRepository", resourceRepository);
+        InMemoryRepository.inject(selection, "userResourceRatingRepository", ratingRepository);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Quiet.stop();
+    }
+
+    @Benchmark
+    public List<CuratedResource> getResourcesForNode() {
+        return selection.getResourcesForNode(1, 1);
+    }
+}
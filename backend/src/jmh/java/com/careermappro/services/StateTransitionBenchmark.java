@@ -0,0 +1,66 @@
+package com.careermappro.services;
+
+import com.careermappro.bench.Quiet;
+import com.careermappro.bench.SyntheticGraph;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * State machine cost: a single evidence-driven transition, and a full frontier
+ * propagation over every non-PROVED state a user has.
+ * States are mutated in place, so after warmup the propagation measures steady state.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class StateTransitionBenchmark {
+
+    @Param({"1000", "10000"})
+    public int skillNodes;
+
+    @Param({"10", "170"})
+    public int users;
+
+    private StateTransitionService transitions;
+    private int nextUser;
+    private int nextSkill;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Quiet.start();
+        SyntheticGraph graph = SyntheticGraph.generate(skillNodes, users, 100);
+        transitions = new StateTransitionService(
+            graph.userSkillStateRepository(),
+            graph.prereqEdgeRepository(),
+            graph.skillNodeRepository()
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Quiet.stop();
+    }
+
+    @Benchmark
+    public void updateStateFromEvidence(Blackhole blackhole) {
+        nextSkill = nextSkill % skillNodes + 1;
+        transitions.updateStateFromEvidence(nextUser(), nextSkill, 0.8, "QUIZ");
+        blackhole.consume(nextSkill);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void recomputeUserFrontier() {
+        transitions.recomputeUserFrontier(nextUser(), SyntheticGraph.ROLE_ID);
+    }
+
+    private int nextUser() {
+        nextUser = nextUser % users + 1;
+        return nextUser;
+    }
+}
@@ -0,0 +1,28 @@
+package com.careermappro.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Parses --key=value arguments; a bare --flag maps to "true"
+ */
+final class CommandLine {
+
+    private CommandLine() {}
+
+    static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg + " (use --key=value)");
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,278 @@
+package com.careermappro.loadtest;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * DatasetSeeder
+ * Fills an existing CareerMap database with a production-sized synthetic dataset:
+ * a skill graph, users, skill states, proficiencies, evidence and quiz history.
+ *
+ * Run the backend once first so Hibernate has created the schema, then:
+ *   ./gradlew seedDataset --args="--users=10000 --skills=2000"
+ *
+ * Connection settings come from --url/--username/--password or the same
+ * DB_URL/DB_USERNAME/DB_PASSWORD variables the backend uses. Rows are written with
+ * JDBC batches in explicit id ranges above the current maxima, so a run never
+ * touches existing data and the same --seed always produces the same rows
+ * (timestamps are relative to the day of the run). Add rewriteBatchedStatements=true
+ * to a MySQL URL for multi-row inserts.
+ */
+public final class DatasetSeeder {
+
+    private static final String[] DOMAINS = {"backend", "frontend", "data", "devops", "mobile", "security"};
+    private static final String[] STATUSES = {"UNSEEN", "INFERRED", "ACTIVE", "PROVED", "STALE"};
+    private static final String[] EVIDENCE_TYPES = {"QUIZ", "PROJECT", "REPO", "CERT", "WORK_SAMPLE"};
+    private static final String[] DIFFICULTIES = {"Beginner", "Intermediate", "Advanced", "Expert"};
+
+    private final Options options;
+    private final Random random;
+    private final LocalDateTime today = LocalDate.now().atStartOfDay();
+    private final Map<String, Integer> written = new LinkedHashMap<>();
+
+    record Options(String url, String username, String password, int users, int skills, int statesPerUser,
+                   int quizzesPerUser, int evidencePerUser, long seed, int batchSize, String prefix) {
+
+        static Options parse(Map<String, String> args) {
+            int skills = Integer.parseInt(args.getOrDefault("skills", "1000"));
+            return new Options(
+                args.getOrDefault("url", env("DB_URL", "jdbc:mysql://localhost:3306/careermap?useSSL=false&serverTimezone=UTC&allowPublicKeyRetrieval=true&rewriteBatchedStatements=true")),
+                args.getOrDefault("username", env("DB_USERNAME", "root")),
+                args.getOrDefault("password", env("DB_PASSWORD", "")),
+                Integer.parseInt(args.getOrDefault("users", "1000")),
+                skills,
+                Math.min(skills, Integer.parseInt(args.getOrDefault("states-per-user", "200"))),
+                Integer.parseInt(args.getOrDefault("quizzes-per-user", "10")),
+                Integer.parseInt(args.getOrDefault("evidence-per-user", "3")),
+                Long.parseLong(args.getOrDefault("seed", "42")),
+                Integer.parseInt(args.getOrDefault("batch-size", "1000")),
+                args.getOrDefault("prefix", "seed")
+            );
+        }
+    }
+
+    DatasetSeeder(Options options) {
+        this.options = options;
+        this.random = new Random(options.seed());
+    }
+
+    public static void main(String[] args) throws SQLException {
+        Options options = Options.parse(CommandLine.parse(args));
+        long start = System.nanoTime();
+        Map<String, Integer> rows = new DatasetSeeder(options).run();
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println("[SEED] Done in " + elapsedMs + " ms");
+        rows.forEach((table, count) -> System.out.println(String.format("[SEED]   %-22s %,d rows", table, count)));
+    }
+
+    Map<String, Integer> run() throws SQLException {
+        try (Connection connection = DriverManager.getConnection(options.url(), options.username(), options.password())) {
+            connection.setAutoCommit(false);
+
+            int firstNodeId = maxId(connection, "skill_nodes", "skill_node_id") + 1;
+            int firstUserId = maxId(connection, "users", "id") + 1;
+            int firstEvidenceId = maxId(connection, "evidence", "evidence_id") + 1;
+
+            System.out.println(String.format("[SEED] %d skills from id %d, %d users from id %d (seed %d)",
+                options.skills(), firstNodeId, options.users(), firstUserId, options.seed()));
+
+            seedSkillGraph(connection, firstNodeId);
+            seedUsers(connection, firstUserId, firstNodeId, firstEvidenceId);
+
+            if (connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgres")) {
+                // Explicit ids don't advance identity sequences on PostgreSQL
+                resetSequence(connection, "skill_nodes", "skill_node_id");
+                resetSequence(connection, "users", "id");
+                resetSequence(connection, "evidence", "evidence_id");
+                connection.commit();
+            }
+        }
+        return written;
+    }
+
+    private void seedSkillGraph(Connection connection, int firstNodeId) throws SQLException {
+        try (Batch nodes = new Batch(connection, "skill_nodes",
+                "INSERT INTO skill_nodes (skill_node_id, canonical_name, aliases, domain, difficulty, decay_half_life_days, created_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)");
+             Batch edges = new Batch(connection, "prereq_edges",
+                "INSERT INTO prereq_edges (from_skill_id, to_skill_id, type, strength, created_at) VALUES (?, ?, ?, ?, ?)", nodes)) {
+
+            for (int i = 0; i < options.skills(); i++) {
+                int nodeId = firstNodeId + i;
+                String name = options.prefix() + "-skill-" + i;
+                nodes.add(nodeId, name, "[\"" + name.replace("-", "") + "\"]", DOMAINS[random.nextInt(DOMAINS.length)],
+                    1 + random.nextInt(5), 180, Timestamp.valueOf(today));
+
+                // Up to three prerequisites among the previous 200 nodes keeps the graph a DAG
+                Set<Integer> prerequisites = new HashSet<>();
+                int count = i == 0 ? 0 : random.nextInt(4);
+                for (int p = 0; p < count; p++) {
+                    prerequisites.add(nodeId - 1 - random.nextInt(Math.min(200, i)));
+                }
+                for (int from : prerequisites) {
+                    edges.add(from, nodeId, random.nextDouble() < 0.3 ? "HARD" : "SOFT",
+                        0.3 + random.nextDouble() * 0.7, Timestamp.valueOf(today));
+                }
+            }
+            nodes.flush();
+            edges.flush();
+            connection.commit();
+        }
+    }
+
+    private void seedUsers(Connection connection, int firstUserId, int firstNodeId, int firstEvidenceId) throws SQLException {
+        // Every seeded user can log in with "password"; hashing once keeps BCrypt out of the loop
+        String passwordHash = new BCryptPasswordEncoder().encode("password");
+        int[] skillOrder = new int[options.skills()];
+        for (int i = 0; i < skillOrder.length; i++) {
+            skillOrder[i] = i;
+        }
+        int evidenceId = firstEvidenceId;
+
+        try (Batch users = new Batch(connection, "users",
+                "INSERT INTO users (id, name, email, password, xp, level, streak) VALUES (?, ?, ?, ?, ?, ?, ?)");
+             Batch states = new Batch(connection, "user_skill_states",
+                "INSERT INTO user_skill_states (user_id, skill_id, status, confidence, evidence_score, last_evidence_at, stale_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", users);
+             Batch proficiencies = new Batch(connection, "proficiencies",
+                "INSERT INTO proficiencies (user_id, skill, proficiency) VALUES (?, ?, ?)", users);
+             Batch evidence = new Batch(connection, "evidence",
+                "INSERT INTO evidence (evidence_id, user_id, type, source_uri, raw_text, created_at) VALUES (?, ?, ?, ?, ?, ?)", users);
+             Batch links = new Batch(connection, "evidence_skill_links",
+                "INSERT INTO evidence_skill_links (evidence_id, skill_id, support, extracted_by, confidence, created_at) VALUES (?, ?, ?, ?, ?, ?)", evidence);
+             Batch quizzes = new Batch(connection, "quizzes",
+                "INSERT INTO quizzes (user_id, skill_name, difficulty, num_questions, score, proficiency_awarded, status, created_at, completed_at, time_taken_seconds) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", users)) {
+
+            for (int u = 0; u < options.users(); u++) {
+                int userId = firstUserId + u;
+                int xp = random.nextInt(5000);
+                users.add(userId, "Seed User " + u, options.prefix() + "-user-" + u + "@load.test", passwordHash,
+                    xp, xp / 100 + 1, random.nextInt(30));
+
+                // Partial Fisher-Yates: the first statesPerUser slots become this user's distinct skills
+                for (int i = 0; i < options.statesPerUser(); i++) {
+                    int j = i + random.nextInt(skillOrder.length - i);
+                    int swap = skillOrder[i];
+                    skillOrder[i] = skillOrder[j];
+                    skillOrder[j] = swap;
+
+                    int skill = skillOrder[i];
+                    LocalDateTime lastEvidence = today.minusDays(random.nextInt(365));
+                    states.add(userId, firstNodeId + skill, STATUSES[random.nextInt(STATUSES.length)],
+                        random.nextDouble(), random.nextDouble() * 10, Timestamp.valueOf(lastEvidence),
+                        Timestamp.valueOf(lastEvidence.plusDays(180)), Timestamp.valueOf(lastEvidence));
+                    if (i < 20) {
+                        proficiencies.add(userId, options.prefix() + "-skill-" + skill, random.nextDouble() * 10);
+                    }
+                }
+
+                for (int e = 0; e < options.evidencePerUser(); e++) {
+                    String type = EVIDENCE_TYPES[random.nextInt(EVIDENCE_TYPES.length)];
+                    Timestamp at = Timestamp.valueOf(today.minusDays(random.nextInt(365)));
+                    evidence.add(evidenceId, userId, type, "https://example.com/" + options.prefix() + "/" + evidenceId,
+                        "Synthetic " + type.toLowerCase() + " evidence " + evidenceId, at);
+                    for (int l = 0; l < 3; l++) {
+                        links.add(evidenceId, firstNodeId + skillOrder[random.nextInt(options.statesPerUser())],
+                            random.nextDouble(), "seed", random.nextDouble(), at);
+                    }
+                    evidenceId++;
+                }
+
+                for (int q = 0; q < options.quizzesPerUser(); q++) {
+                    boolean completed = random.nextInt(10) < 8;
+                    LocalDateTime created = today.minusDays(random.nextInt(365)).plusMinutes(random.nextInt(1440));
+                    double score = random.nextInt(101);
+                    quizzes.add(userId, options.prefix() + "-skill-" + skillOrder[random.nextInt(options.statesPerUser())],
+                        DIFFICULTIES[random.nextInt(DIFFICULTIES.length)], 5,
+                        completed ? score : null, completed ? score / 10 : null,
+                        completed ? "COMPLETED" : "PENDING", Timestamp.valueOf(created),
+                        completed ? Timestamp.valueOf(created.plusMinutes(10)) : null,
+                        completed ? 60 + random.nextInt(600) : null);
+                }
+
+                if ((u + 1) % 1000 == 0) {
+                    connection.commit();
+                    System.out.println("[SEED] " + (u + 1) + " users written");
+                }
+            }
+
+            users.flush();
+            states.flush();
+            proficiencies.flush();
+            evidence.flush();
+            links.flush();
+            quizzes.flush();
+            connection.commit();
+        }
+    }
+
+    private static int maxId(Connection connection, String table, String column) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(" + column + "), 0) FROM " + table)) {
+            rs.next();
+            return rs.getInt(1);
+        }
+    }
+
+    private static void resetSequence(Connection connection, String table, String column) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SELECT setval(pg_get_serial_sequence('" + table + "', '" + column + "'), " +
+                "(SELECT COALESCE(MAX(" + column + "), 1) FROM " + table + "))");
+        }
+    }
+
+    private static String env(String name, String fallback) {
+        String value = System.getenv(name);
+        return value != null && !value.isEmpty() ? value : fallback;
+    }
+
+    /**
+     * One prepared INSERT, executed every batchSize rows. Batches holding the rows this
+     * one references by foreign key are passed as parents and always flushed first, so
+     * a child batch that fills sooner never reaches the database ahead of its parents.
+     */
+    private final class Batch implements AutoCloseable {
+        private final String table;
+        private final PreparedStatement statement;
+        private final Batch[] parents;
+        private int pending;
+
+        Batch(Connection connection, String table, String sql, Batch... parents) throws SQLException {
+            this.table = table;
+            this.statement = connection.prepareStatement(sql);
+            this.parents = parents;
+        }
+
+        void add(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                statement.setObject(i + 1, values[i]);
+            }
+            statement.addBatch();
+            written.merge(table, 1, Integer::sum);
+            if (++pending >= options.batchSize()) {
+                flush();
+            }
+        }
+
+        void flush() throws SQLException {
+            for (Batch parent : parents) {
+                parent.flush();
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+                pending = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            statement.close();
+        }
+    }
+}
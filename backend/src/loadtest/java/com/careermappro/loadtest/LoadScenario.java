@@ -0,0 +1,281 @@
+package com.careermappro.loadtest;
+
+import com.careermappro.openai.OpenAiStubServer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * LoadScenario
+ * Replays a weighted mix of the app's hot endpoints against a running backend and
+ * reports throughput and latency percentiles per endpoint.
+ *
+ *   ./gradlew seedDataset --args="--users=1000"
+ *   ./gradlew loadTest --args="--first-user-id=1 --users=1000 --concurrency=200 --requests=500"
+ *
+ * Each worker is a virtual thread with its own Random(seed + worker), so the same
+ * seed, concurrency and request count replay exactly the same request sequence.
+ * By default an OpenAiStubServer is started on --stub-port (8089) for the AI-backed
+ * endpoints; start the backend with OPENAI_BASE_URL=http://localhost:8089/v1 and tune
+ * the stub with the --stub-* options of OpenAiStub. Pass --no-stub to skip it.
+ */
+public final class LoadScenario {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String[] QUIZ_SKILLS = {"Java", "Python", "SQL", "React", "Docker"};
+
+    /**
+     * One entry of the traffic mix; name is the report key, weight its relative share
+     */
+    private record Endpoint(String name, int weight) {}
+
+    private static final List<Endpoint> MIX = List.of(
+        new Endpoint("GET /api/v1/path", 20),
+        new Endpoint("GET /api/v2/frontier", 15),
+        new Endpoint("GET /api/gamification/user/{id}", 15),
+        new Endpoint("GET /api/gamification/leaderboard", 10),
+        new Endpoint("GET /api/skillmap/user/{id}", 10),
+        new Endpoint("GET /api/quizzes/user/{id}", 10),
+        new Endpoint("GET /api/sessions/current", 10),
+        new Endpoint("POST /api/gamification/update-xp/{id}", 8),
+        new Endpoint("POST /api/quizzes/generate", 2)
+    );
+
+    private static final int TOTAL_WEIGHT = MIX.stream().mapToInt(Endpoint::weight).sum();
+
+    record Options(String baseUrl, int firstUserId, int users, int concurrency, int requestsPerWorker,
+                   long durationSeconds, long seed, boolean stub, String report) {
+
+        static Options parse(Map<String, String> args) {
+            return new Options(
+                args.getOrDefault("base-url", "http://localhost:8080"),
+                Integer.parseInt(args.getOrDefault("first-user-id", "1")),
+                Integer.parseInt(args.getOrDefault("users", "1000")),
+                Integer.parseInt(args.getOrDefault("concurrency", "100")),
+                Integer.parseInt(args.getOrDefault("requests", "500")),
+                Long.parseLong(args.getOrDefault("duration", "0")),
+                Long.parseLong(args.getOrDefault("seed", "42")),
+                !args.containsKey("no-stub"),
+                args.get("report")
+            );
+        }
+    }
+
+    /**
+     * Latencies (microseconds) and error count for one endpoint, per worker then merged
+     */
+    static final class Samples {
+        long[] latencies = new long[64];
+        int count;
+        int errors;
+
+        void add(long micros, boolean ok) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = micros;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        void merge(Samples other) {
+            for (int i = 0; i < other.count; i++) {
+                add(other.latencies[i], true);
+            }
+            errors += other.errors;
+        }
+
+        long percentile(double p) {
+            if (count == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p / 100.0 * count) - 1;
+            return latencies[Math.max(0, Math.min(count - 1, index))];
+        }
+    }
+
+    private final Options options;
+    private final HttpClient client;
+
+    LoadScenario(Options options) {
+        this.options = options;
+        this.client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> arguments = CommandLine.parse(args);
+        Options options = Options.parse(arguments);
+        OpenAiStubServer stub = options.stub() ? OpenAiStub.start(arguments) : null;
+        try {
+            new LoadScenario(options).run();
+        } finally {
+            if (stub != null) {
+                stub.close();
+            }
+        }
+    }
+
+    void run() throws Exception {
+        System.out.println(String.format("[LOAD] %d workers x %d requests against %s (users %d..%d, seed %d)",
+            options.concurrency(), options.requestsPerWorker(), options.baseUrl(),
+            options.firstUserId(), options.firstUserId() + options.users() - 1, options.seed()));
+
+        long deadline = options.durationSeconds() > 0
+            ? System.nanoTime() + options.durationSeconds() * 1_000_000_000L
+            : Long.MAX_VALUE;
+        long start = System.nanoTime();
+
+        List<Future<Map<String, Samples>>> workers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < options.concurrency(); w++) {
+                int worker = w;
+                workers.add(executor.submit(() -> runWorker(worker, deadline)));
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        Map<String, Samples> merged = new LinkedHashMap<>();
+        for (Endpoint endpoint : MIX) {
+            merged.put(endpoint.name(), new Samples());
+        }
+        for (Future<Map<String, Samples>> worker : workers) {
+            worker.get().forEach((name, samples) -> merged.get(name).merge(samples));
+        }
+        report(merged, elapsedSeconds);
+    }
+
+    private Map<String, Samples> runWorker(int worker, long deadline) {
+        Random random = new Random(options.seed() + worker);
+        Map<String, Samples> samples = new HashMap<>();
+
+        for (int i = 0; i < options.requestsPerWorker() && System.nanoTime() < deadline; i++) {
+            Endpoint endpoint = pick(random);
+            int userId = options.firstUserId() + random.nextInt(options.users());
+            HttpRequest request = requestFor(endpoint, userId, random);
+
+            long begin = System.nanoTime();
+            boolean ok;
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                ok = response.statusCode() < 400;
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            samples.computeIfAbsent(endpoint.name(), k -> new Samples()).add((System.nanoTime() - begin) / 1_000, ok);
+        }
+        return samples;
+    }
+
+    private static Endpoint pick(Random random) {
+        int roll = random.nextInt(TOTAL_WEIGHT);
+        for (Endpoint endpoint : MIX) {
+            roll -= endpoint.weight();
+            if (roll < 0) {
+                return endpoint;
+            }
+        }
+        return MIX.get(MIX.size() - 1);
+    }
+
+    private HttpRequest requestFor(Endpoint endpoint, int userId, Random random) {
+        String base = options.baseUrl();
+        return switch (endpoint.name()) {
+            case "GET /api/v1/path" -> get(base + "/api/v1/path?userId=" + userId);
+            case "GET /api/v2/frontier" -> get(base + "/api/v2/frontier?userId=" + userId);
+            case "GET /api/gamification/user/{id}" -> get(base + "/api/gamification/user/" + userId);
+            case "GET /api/gamification/leaderboard" -> get(base + "/api/gamification/leaderboard");
+            case "GET /api/skillmap/user/{id}" -> get(base + "/api/skillmap/user/" + userId);
+            case "GET /api/quizzes/user/{id}" -> get(base + "/api/quizzes/user/" + userId);
+            case "GET /api/sessions/current" -> get(base + "/api/sessions/current?userId=" + userId);
+            case "POST /api/gamification/update-xp/{id}" ->
+                post(base + "/api/gamification/update-xp/" + userId, Map.of("xp", 5 + random.nextInt(46)));
+            case "POST /api/quizzes/generate" -> post(base + "/api/quizzes/generate", Map.of(
+                "userId", userId,
+                "skillName", QUIZ_SKILLS[random.nextInt(QUIZ_SKILLS.length)],
+                "difficulty", "Intermediate",
+                "numQuestions", 5
+            ));
+            default -> throw new IllegalStateException("No request for " + endpoint.name());
+        };
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30)).GET().build();
+    }
+
+    private static HttpRequest post(String url, Map<String, Object> body) {
+        try {
+            return HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(MAPPER.writeValueAsString(body)))
+                .build();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void report(Map<String, Samples> results, double elapsedSeconds) throws IOException {
+        long total = 0;
+        List<Map<String, Object>> rows = new ArrayList<>();
+
+        System.out.println(String.format("%-42s %8s %7s %9s %9s %9s %9s %9s",
+            "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        for (Map.Entry<String, Samples> entry : results.entrySet()) {
+            Samples samples = entry.getValue();
+            Arrays.sort(samples.latencies, 0, samples.count);
+            total += samples.count;
+
+            double throughput = samples.count / elapsedSeconds;
+            double p50 = samples.percentile(50) / 1000.0;
+            double p95 = samples.percentile(95) / 1000.0;
+            double p99 = samples.percentile(99) / 1000.0;
+            double max = samples.percentile(100) / 1000.0;
+            System.out.println(String.format("%-42s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f",
+                entry.getKey(), samples.count, samples.errors, throughput, p50, p95, p99, max));
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("endpoint", entry.getKey());
+            row.put("requests", samples.count);
+            row.put("errors", samples.errors);
+            row.put("throughput", throughput);
+            row.put("p50Ms", p50);
+            row.put("p95Ms", p95);
+            row.put("p99Ms", p99);
+            row.put("maxMs", max);
+            rows.add(row);
+        }
+        System.out.println(String.format("[LOAD] %d requests in %.1f s (%.1f req/s)", total, elapsedSeconds, total / elapsedSeconds));
+
+        if (options.report() != null) {
+            Map<String, Object> document = new LinkedHashMap<>();
+            document.put("options", options);
+            document.put("elapsedSeconds", elapsedSeconds);
+            document.put("endpoints", rows);
+            Path path = Path.of(options.report());
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            MAPPER.writerWithDefaultPrettyPrinter().writeValue(path.toFile(), document);
+            System.out.println("[LOAD] Report written to " + path.toAbsolutePath());
+        }
+    }
+}
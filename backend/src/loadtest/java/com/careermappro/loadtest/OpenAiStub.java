@@ -0,0 +1,39 @@
+package com.careermappro.loadtest;
+
+import com.careermappro.openai.LatencyModel;
+import com.careermappro.openai.OpenAiStubServer;
+import com.careermappro.openai.RecordedCompletions;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Starts an OpenAiStubServer from --stub-* options, standalone or inside LoadScenario.
+ * Run the backend with OPENAI_BASE_URL=http://localhost:<stub-port>/v1 to use it.
+ *
+ *   ./gradlew openaiStub --args="--stub-latency=lognormal:800,0.5 --stub-429-rate=0.02"
+ */
+final class OpenAiStub {
+
+    private OpenAiStub() {}
+
+    static OpenAiStubServer start(Map<String, String> options) throws IOException {
+        String recordings = options.get("stub-recordings");
+        return OpenAiStubServer.builder()
+            .port(Integer.parseInt(options.getOrDefault("stub-port", "8089")))
+            .latency(LatencyModel.parse(options.getOrDefault("stub-latency", "lognormal:800,0.5")))
+            .chunkDelayMillis(Long.parseLong(options.getOrDefault("stub-chunk-delay-ms", "20")))
+            .errorRate(Double.parseDouble(options.getOrDefault("stub-error-rate", "0")))
+            .rateLimitRate(Double.parseDouble(options.getOrDefault("stub-429-rate", "0")))
+            .retryAfterSeconds(Integer.parseInt(options.getOrDefault("stub-retry-after", "1")))
+            .seed(Long.parseLong(options.getOrDefault("seed", "42")))
+            .completions(recordings != null ? RecordedCompletions.load(Path.of(recordings)) : RecordedCompletions.defaults())
+            .start();
+    }
+
+    public static void main(String[] args) throws IOException {
+        OpenAiStubServer stub = start(CommandLine.parse(args));
+        Runtime.getRuntime().addShutdownHook(new Thread(stub::close));
+    }
+}
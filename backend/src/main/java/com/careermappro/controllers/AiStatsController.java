@@ -0,0 +1,50 @@
+package com.careermappro.controllers;
+
+import com.careermappro.services.AiCallTelemetry;
+import com.careermappro.services.OpenAiClient;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001", "http://localhost:3002", "https://levld.co", "https://www.levld.co"}, allowCredentials = "true")
+public class AiStatsController {
+
+    // Longest window the stats query will scan
+    private static final int MAX_HOURS = 24 * 30;
+
+    private final AiCallTelemetry telemetry;
+    private final OpenAiClient openAiClient;
+
+    public AiStatsController(AiCallTelemetry telemetry, OpenAiClient openAiClient) {
+        this.telemetry = telemetry;
+        this.openAiClient = openAiClient;
+    }
+
+    /**
+     * GET /api/v1/ai-stats?hours=24
+     * Per-feature LLM call counts, errors and p50/p95/p99 latency (ms), plus circuit breaker states
+     */
+    @GetMapping("/ai-stats")
+    public ResponseEntity<?> aiStats(@RequestParam(defaultValue = "24") int hours) {
+        if (hours <= 0 || hours > MAX_HOURS) {
+            return ResponseEntity.badRequest().body(Map.of("error", "hours must be between 1 and " + MAX_HOURS));
+        }
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("windowHours", hours);
+            response.put("features", telemetry.statsSince(Instant.now().minus(Duration.ofHours(hours))));
+            response.put("pendingRecords", telemetry.getPending());
+            response.put("droppedRecords", telemetry.getDropped());
+            response.put("circuitBreakers", openAiClient.breakerStates());
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.status(500).body(Map.of("error", e.getMessage()));
+        }
+    }
+}
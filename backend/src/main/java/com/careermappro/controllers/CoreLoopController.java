@@ -6,6 +6,7 @@ import com.careermappro.entities.SkillNode;
 import com.careermappro.models.DetailedPathNode;
 import com.careermappro.repositories.CareerRoleRepository;
 import com.careermappro.repositories.SkillNodeRepository;
+import com.careermappro.services.DetailedPathCacheService;
 import com.careermappro.services.OpenAIService;
 import com.careermappro.services.SessionService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -35,6 +36,9 @@ public class CoreLoopController {
     @Autowired
     private SkillNodeRepository skillNodeRepository;
 
+    @Autowired
+    private DetailedPathCacheService detailedPathCacheService;
+
     /**
      * STEP 1: Select a role and generate AI-powered learning path
      * POST /api/core-loop/select-role
@@ -109,57 +113,34 @@ public class CoreLoopController {
         @RequestParam Integer roleId
     ) {
         try {
-            // Get role
-            CareerRole role = careerRoleRepository.findById(roleId)
-                .orElseThrow(() -> new IllegalArgumentException("Role not found"));
+            // Path graph is identical across users - served from the per-role cache
+            DetailedPathCacheService.CachedPath cachedPath = detailedPathCacheService.getPath(roleId);
+            List<DetailedPathNode> detailedPath = cachedPath.nodes();
 
-            // Get ROLE-SPECIFIC skills (not all skills!)
-            List<SkillNode> availableSkills = skillNodeRepository.findSkillsByRoleId(roleId);
+            // User-specific progress applied as an overlay (one bulk query)
+            DetailedPathCacheService.PathOverlay overlay = detailedPathCacheService.overlayFor(userId, cachedPath);
 
-            // Fallback: if no role-specific skills found, use all skills
-            if (availableSkills.isEmpty()) {
-                System.out.println("[CORE LOOP] WARNING: No role-specific skills found for role " + roleId + ", using all skills");
-                availableSkills = skillNodeRepository.findAll();
-            } else {
-                System.out.println("[CORE LOOP] Found " + availableSkills.size() + " role-specific skills for " + role.getName());
-            }
+            // Focus node is the first node the user has not completed
+            DetailedPathNode focusNode = overlay.focusNode();
 
-            // Convert to format for OpenAI
-            List<Map<String, Object>> skillsForAI = new ArrayList<>();
-            for (SkillNode skill : availableSkills) {
-                Map<String, Object> skillMap = new HashMap<>();
-                skillMap.put("id", skill.getSkillNodeId());
-                skillMap.put("name", skill.getCanonicalName());
-                skillMap.put("difficulty", skill.getDifficulty());
-                skillsForAI.add(skillMap);
-            }
-
-            // Generate DETAILED personalized path with OpenAI
-            System.out.println(String.format("[CORE LOOP] User %d requested detailed path for role %s - Generating...",
-                userId, role.getName()));
-            List<DetailedPathNode> detailedPath = openAIService.generateDetailedLearningPath(
-                roleId, role.getName(), userId, skillsForAI
-            );
-
-            // Get focus node (first skill in path)
-            DetailedPathNode focusNode = detailedPath.isEmpty() ? null : detailedPath.get(0);
-
-            // Propose PROBE session for focus node if exists
+            // Propose PROBE session for the skill behind the focus node, if it resolves to one
             // Don't fail the entire request if session creation fails
-            // (skill nodes may not exist in database for template-based paths)
             Session session = null;
-            if (focusNode != null) {
+            Integer focusSkillId = focusNode != null ? cachedPath.skillIdFor(focusNode) : null;
+            if (focusSkillId != null) {
                 try {
-                    session = sessionService.proposeProbeSession(userId, focusNode.getSkillNodeId());
+                    session = sessionService.proposeProbeSession(userId, focusSkillId);
                 } catch (Exception e) {
                     System.out.println("[CORE LOOP] Skipping session creation - " + e.getMessage());
                 }
             }
 
             Map<String, Object> response = new HashMap<>();
-            response.put("role", Map.of("id", role.getCareerRoleId(), "name", role.getName()));
+            response.put("role", Map.of("id", cachedPath.roleId(), "name", cachedPath.roleName()));
             response.put("path", detailedPath);
             response.put("focusNode", focusNode);
+            response.put("completedNodeIds", overlay.completedNodeIds());
+            response.put("activeNodeIds", overlay.activeNodeIds());
             if (session != null) {
                 response.put("session", Map.of(
                     "id", session.getSessionId(),
@@ -168,8 +149,8 @@ public class CoreLoopController {
                 ));
             }
 
-            System.out.println(String.format("[CORE LOOP] Detailed path generated with %d nodes. Focus: %s",
-                detailedPath.size(), focusNode != null ? focusNode.getName() : "none"));
+            System.out.println(String.format("[CORE LOOP] Detailed path for user %d: %d nodes, %d completed. Focus: %s",
+                userId, detailedPath.size(), overlay.completedNodeIds().size(), focusNode != null ? focusNode.getName() : "none"));
 
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -1,59 +1,62 @@
 package com.careermappro.controllers;
 
 import com.careermappro.entities.*;
+import com.careermappro.events.StreakUpdatedEvent;
 import com.careermappro.repositories.*;
+import com.careermappro.services.AchievementService;
+import com.careermappro.services.LeaderboardService;
+import com.careermappro.services.LeaderboardService.Window;
+import com.careermappro.services.XpWriteBehindService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @RestController
 @CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001", "http://localhost:3002", "https://levld.co", "https://www.levld.co"}, allowCredentials = "true")
 @RequestMapping("/api/gamification")
 public class GamificationController {
 
-    private final UserRepository userRepository;
-    private final AchievementRepository achievementRepository;
     private final UserAchievementRepository userAchievementRepository;
-    private final QuizRepository quizRepository;
-    private final UserSkillRepository userSkillRepository;
-    private final CareerGoalRepository careerGoalRepository;
+    private final LeaderboardService leaderboardService;
+    private final AchievementService achievementService;
+    private final XpWriteBehindService xpWriteBehindService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public GamificationController(
-        UserRepository userRepository,
-        AchievementRepository achievementRepository,
         UserAchievementRepository userAchievementRepository,
-        QuizRepository quizRepository,
-        UserSkillRepository userSkillRepository,
-        CareerGoalRepository careerGoalRepository
+        LeaderboardService leaderboardService,
+        AchievementService achievementService,
+        XpWriteBehindService xpWriteBehindService,
+        ApplicationEventPublisher eventPublisher
     ) {
-        this.userRepository = userRepository;
-        this.achievementRepository = achievementRepository;
         this.userAchievementRepository = userAchievementRepository;
-        this.quizRepository = quizRepository;
-        this.userSkillRepository = userSkillRepository;
-        this.careerGoalRepository = careerGoalRepository;
+        this.leaderboardService = leaderboardService;
+        this.achievementService = achievementService;
+        this.xpWriteBehindService = xpWriteBehindService;
+        this.eventPublisher = eventPublisher;
     }
 
     @GetMapping("/user/{userId}")
     public Map<String, Object> getUserGamificationData(@PathVariable Integer userId) {
-        User user = userRepository.findById(userId).orElse(null);
-        if (user == null) {
+        // Committed totals plus pending write-behind deltas
+        XpWriteBehindService.Totals totals = xpWriteBehindService.current(userId);
+        if (totals == null) {
             return Map.of("error", "User not found");
         }
 
-        // Get user's achievements
-        List<UserAchievement> userAchievements = userAchievementRepository.findByUserId(userId);
-        List<Achievement> allAchievements = achievementRepository.findAll();
-
-        // Calculate progress for each achievement
-        List<Map<String, Object>> achievementsData = allAchievements.stream().map(achievement -> {
-            UserAchievement userAch = userAchievements.stream()
-                .filter(ua -> ua.getAchievement().getId().equals(achievement.getId()))
-                .findFirst()
-                .orElse(null);
+        // Counters are maintained from domain events; achievements unlock push-style
+        UserProgressCounters counters = achievementService.getCounters(userId);
+        Map<Integer, UserAchievement> unlocked = new HashMap<>();
+        for (UserAchievement ua : userAchievementRepository.findByUserId(userId)) {
+            if (ua.isUnlocked()) {
+                unlocked.put(ua.getAchievement().getId(), ua);
+            }
+        }
 
+        List<Map<String, Object>> achievementsData = new ArrayList<>();
+        for (Achievement achievement : achievementService.getCatalog()) {
             Map<String, Object> achData = new HashMap<>();
             achData.put("id", achievement.getId());
             achData.put("name", achievement.getName());
@@ -62,113 +65,117 @@ public class GamificationController {
             achData.put("xpReward", achievement.getXpReward());
             achData.put("category", achievement.getCategory());
 
-            if (userAch != null && userAch.isUnlocked()) {
+            UserAchievement userAch = unlocked.get(achievement.getId());
+            if (userAch != null) {
                 achData.put("unlocked", true);
                 achData.put("unlockedAt", userAch.getUnlockedAt().toString());
                 achData.put("progress", 100);
             } else {
                 achData.put("unlocked", false);
-                int progress = calculateProgress(userId, achievement);
-                achData.put("progress", progress);
+                achData.put("progress", achievementService.progressFor(achievement, counters));
             }
-
-            return achData;
-        }).collect(Collectors.toList());
+            achievementsData.add(achData);
+        }
 
         Map<String, Object> result = new HashMap<>();
-        result.put("xp", user.getXp());
-        result.put("level", user.getLevel());
-        result.put("streak", user.getStreak());
+        result.put("xp", totals.xp());
+        result.put("level", totals.level());
+        result.put("streak", totals.streak());
         result.put("achievements", achievementsData);
-        result.put("totalBadges", (int) achievementsData.stream().filter(a -> (boolean) a.get("unlocked")).count());
+        result.put("totalBadges", unlocked.size());
 
         return result;
     }
 
     @PostMapping("/update-xp/{userId}")
     public Map<String, Object> updateUserXP(@PathVariable Integer userId, @RequestBody Map<String, Integer> request) {
-        User user = userRepository.findById(userId).orElse(null);
-        if (user == null) {
+        // Coalesced in memory and flushed in batches; level (100 XP per level) is recomputed in SQL.
+        // The buffer and the leaderboard both take the delta, so concurrent calls add up.
+        int xpToAdd = request.getOrDefault("xp", 0);
+        xpWriteBehindService.addXp(userId, xpToAdd);
+
+        // Read back after the add: includes this call's XP and any other gains still pending.
+        // For an unknown user the queued delta flushes as an UPDATE that matches no row.
+        XpWriteBehindService.Totals after = xpWriteBehindService.current(userId);
+        if (after == null) {
             return Map.of("error", "User not found");
         }
-
-        Integer xpToAdd = request.getOrDefault("xp", 0);
-        user.setXp(user.getXp() + xpToAdd);
-
-        // Calculate new level (100 XP per level)
-        int newLevel = (user.getXp() / 100) + 1;
-        user.setLevel(newLevel);
-
-        userRepository.save(user);
+        leaderboardService.recordXp(userId, xpToAdd);
 
         return Map.of(
-            "xp", user.getXp(),
-            "level", user.getLevel(),
+            "xp", after.xp(),
+            "level", after.level(),
             "message", "XP updated successfully"
         );
     }
 
     @PostMapping("/update-streak/{userId}")
     public Map<String, Object> updateUserStreak(@PathVariable Integer userId, @RequestBody Map<String, Integer> request) {
-        User user = userRepository.findById(userId).orElse(null);
-        if (user == null) {
+        XpWriteBehindService.Totals current = xpWriteBehindService.current(userId);
+        if (current == null) {
             return Map.of("error", "User not found");
         }
 
         Integer streak = request.get("streak");
-        if (streak != null) {
-            user.setStreak(streak);
-            userRepository.save(user);
+        if (streak == null) {
+            return Map.of("streak", current.streak());
         }
 
-        return Map.of("streak", user.getStreak());
+        xpWriteBehindService.setStreak(userId, streak);
+        leaderboardService.updateStreak(userId, streak);
+        eventPublisher.publishEvent(new StreakUpdatedEvent(userId, streak));
+
+        return Map.of("streak", streak);
     }
 
     @GetMapping("/leaderboard")
-    public List<Map<String, Object>> getLeaderboard() {
-        List<User> allUsers = userRepository.findAll();
-
-        return allUsers.stream()
-            .sorted((u1, u2) -> Integer.compare(u2.getXp(), u1.getXp()))
-            .limit(10)
-            .map(user -> {
-                Map<String, Object> userData = new HashMap<>();
-                userData.put("name", user.getName());
-                userData.put("xp", user.getXp());
-                userData.put("level", user.getLevel());
-                userData.put("streak", user.getStreak());
-                return userData;
-            })
-            .collect(Collectors.toList());
+    public List<Map<String, Object>> getLeaderboard(
+        @RequestParam(defaultValue = "10") int limit,
+        @RequestParam(defaultValue = "ALL_TIME") Window window
+    ) {
+        return toLeaderboardRows(leaderboardService.top(window, Math.min(Math.max(limit, 1), 100)), 1);
     }
 
-    private int calculateProgress(Integer userId, Achievement achievement) {
-        String category = achievement.getCategory();
-        String criteria = achievement.getUnlockCriteria();
-
-        try {
-            int target = Integer.parseInt(criteria);
-            int current = 0;
-
-            switch (category) {
-                case "quiz":
-                    current = quizRepository.findAll().size(); // Simplified - should count user's completed quizzes
-                    break;
-                case "skill":
-                    current = userSkillRepository.findByUserId(userId).size();
-                    break;
-                case "streak":
-                    User user = userRepository.findById(userId).orElse(null);
-                    current = user != null ? user.getStreak() : 0;
-                    break;
-                case "goal":
-                    current = careerGoalRepository.findByUserId(userId).size();
-                    break;
-            }
+    @GetMapping("/leaderboard/rank/{userId}")
+    public Map<String, Object> getLeaderboardRank(
+        @PathVariable Integer userId,
+        @RequestParam(defaultValue = "ALL_TIME") Window window
+    ) {
+        OptionalInt rank = leaderboardService.rankOf(window, userId);
+        if (rank.isEmpty()) {
+            return Map.of("error", "User not ranked");
+        }
+        return Map.of("userId", userId, "window", window, "rank", rank.getAsInt());
+    }
+
+    @GetMapping("/leaderboard/around/{userId}")
+    public List<Map<String, Object>> getLeaderboardAroundUser(
+        @PathVariable Integer userId,
+        @RequestParam(defaultValue = "5") int radius,
+        @RequestParam(defaultValue = "ALL_TIME") Window window
+    ) {
+        OptionalInt rank = leaderboardService.rankOf(window, userId);
+        if (rank.isEmpty()) {
+            return List.of();
+        }
+        int boundedRadius = Math.min(Math.max(radius, 0), 50);
+        List<LeaderboardService.Entry> neighbours = leaderboardService.around(window, userId, boundedRadius);
+        return toLeaderboardRows(neighbours, Math.max(1, rank.getAsInt() - boundedRadius));
+    }
 
-            return Math.min(100, (int) ((current / (double) target) * 100));
-        } catch (Exception e) {
-            return 0;
+    private List<Map<String, Object>> toLeaderboardRows(List<LeaderboardService.Entry> entries, int firstRank) {
+        List<Map<String, Object>> rows = new ArrayList<>(entries.size());
+        int rank = firstRank;
+        for (LeaderboardService.Entry entry : entries) {
+            Map<String, Object> userData = new HashMap<>();
+            userData.put("userId", entry.userId());
+            userData.put("rank", rank++);
+            userData.put("name", entry.name());
+            userData.put("xp", entry.xp());
+            userData.put("level", entry.level());
+            userData.put("streak", entry.streak());
+            rows.add(userData);
         }
+        return rows;
     }
 }
@@ -3,10 +3,13 @@ package com.careermappro.controllers;
 import com.careermappro.entities.*;
 import com.careermappro.services.MultiLevelFrontierService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -102,6 +105,34 @@ public class MultiLevelFrontierController {
         return ResponseEntity.ok(steps);
     }
 
+    /**
+     * Level 4: Stream all steps for a deep path as NDJSON, one step per line
+     * GET /api/frontier/paths/{pathId}/steps with Accept: application/x-ndjson
+     */
+    @GetMapping(value = "/paths/{pathId}/steps", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamStepsForDeepPath(@PathVariable Integer pathId) {
+        StreamingResponseBody body = out -> frontierService.streamSteps(pathId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+    /**
+     * Level 4: Get one page of steps for a deep path, in week order
+     * GET /api/frontier/paths/{pathId}/steps/page?cursor={nextCursor}&limit={limit}
+     */
+    @GetMapping("/paths/{pathId}/steps/page")
+    public ResponseEntity<?> getStepPage(
+            @PathVariable Integer pathId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        try {
+            return ResponseEntity.ok(frontierService.getStepPage(pathId, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     /**
      * Level 4: Get steps for a specific week
      * GET /api/frontier/paths/{pathId}/steps/week/{weekNumber}
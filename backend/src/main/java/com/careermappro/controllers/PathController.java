@@ -1,5 +1,6 @@
 package com.careermappro.controllers;
 
+import com.careermappro.services.PathActivityService;
 import com.careermappro.services.PathService;
 import com.careermappro.repositories.LearningPathRepository;
 import com.careermappro.repositories.PathUnitRepository;
@@ -7,12 +8,15 @@ import com.careermappro.repositories.PathStepRepository;
 import com.careermappro.repositories.StudyResourceRepository;
 import com.careermappro.repositories.PathProgressRepository;
 import com.careermappro.entities.LearningPath;
+import com.careermappro.entities.PathActivity;
 import com.careermappro.entities.PathUnit;
 import com.careermappro.entities.PathStep;
 import com.careermappro.entities.StudyResource;
 import com.careermappro.entities.PathProgress;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -30,15 +34,18 @@ public class PathController {
     private final PathStepRepository pathStepRepository;
     private final StudyResourceRepository studyResourceRepository;
     private final PathProgressRepository pathProgressRepository;
+    private final PathActivityService pathActivityService;
 
     public PathController(
             PathService pathService,
+            PathActivityService pathActivityService,
             LearningPathRepository learningPathRepository,
             PathUnitRepository pathUnitRepository,
             PathStepRepository pathStepRepository,
             StudyResourceRepository studyResourceRepository,
             PathProgressRepository pathProgressRepository) {
         this.pathService = pathService;
+        this.pathActivityService = pathActivityService;
         this.learningPathRepository = learningPathRepository;
         this.pathUnitRepository = pathUnitRepository;
         this.pathStepRepository = pathStepRepository;
@@ -55,6 +62,20 @@ public class PathController {
         return pathService.getPathState(userId);
     }
 
+    /**
+     * GET /api/v1/path/history?userId=X&limit=20[&beforeCreatedAt=...&beforeId=...]
+     * Path snapshots newest first; pass the returned next* values to page further back
+     */
+    @GetMapping("/path/history")
+    public Map<String, Object> getPathHistory(
+        @RequestParam Integer userId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime beforeCreatedAt,
+        @RequestParam(required = false) Integer beforeId,
+        @RequestParam(defaultValue = "20") int limit
+    ) {
+        return pathService.getPathHistory(userId, beforeCreatedAt, beforeId, Math.max(1, Math.min(limit, 100)));
+    }
+
     /**
      * PUT /api/v1/path/primary-role?userId=X&roleId=Y
      * Sets user's primary role
@@ -180,6 +201,76 @@ public class PathController {
         return response;
     }
 
+    /**
+     * POST /api/v1/learning-path/{pathId}/activities
+     * Record an activity (userId, type, optional stepId, minutes, description) and
+     * update the user's progress counters for the path
+     */
+    @PostMapping("/learning-path/{pathId}/activities")
+    public Map<String, Object> recordActivity(@PathVariable Integer pathId, @RequestBody Map<String, Object> request) {
+        Map<String, Object> response = new HashMap<>();
+        try {
+            Integer userId = (Integer) request.get("userId");
+            PathActivity.ActivityType type = PathActivity.ActivityType.valueOf(
+                String.valueOf(request.get("type")).toUpperCase());
+            Integer stepId = (Integer) request.get("stepId");
+            Integer minutes = (Integer) request.get("minutes");
+            String description = (String) request.get("description");
+            if (userId == null) {
+                response.put("error", "userId is required");
+                return response;
+            }
+
+            PathActivity activity = pathActivityService.record(userId, pathId, stepId, type, minutes, description);
+            response.put("activityId", activity.getActivityId());
+            response.put("progress", progressMap(pathActivityService.getProgress(userId, pathId)));
+        } catch (IllegalArgumentException | ClassCastException e) {
+            response.put("error", "Invalid activity: " + e.getMessage());
+        }
+        return response;
+    }
+
+    /**
+     * GET /api/v1/learning-path/{pathId}/progress?userId=X
+     * Progress counters for a user on a path, read from the single path_progress row
+     */
+    @GetMapping("/learning-path/{pathId}/progress")
+    public Map<String, Object> getProgress(@PathVariable Integer pathId, @RequestParam Integer userId) {
+        PathProgress progress = pathActivityService.getProgress(userId, pathId);
+        if (progress == null) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("error", "No progress recorded for this path");
+            return response;
+        }
+        return progressMap(progress);
+    }
+
+    /**
+     * POST /api/v1/learning-path/{pathId}/progress/rebuild?userId=X
+     * Recompute a user's progress counters for a path from the activity log
+     */
+    @PostMapping("/learning-path/{pathId}/progress/rebuild")
+    public Map<String, Object> rebuildProgress(@PathVariable Integer pathId, @RequestParam Integer userId) {
+        return progressMap(pathActivityService.rebuild(userId, pathId));
+    }
+
+    private Map<String, Object> progressMap(PathProgress progress) {
+        Map<String, Object> map = new HashMap<>();
+        map.put("pathId", progress.getPathId());
+        map.put("userId", progress.getUserId());
+        map.put("currentStepId", progress.getCurrentStepId());
+        map.put("totalUnits", progress.getTotalUnits());
+        map.put("completedUnits", progress.getCompletedUnits());
+        map.put("totalSteps", progress.getTotalSteps());
+        map.put("completedSteps", progress.getCompletedSteps());
+        map.put("totalTimeMinutes", progress.getTotalTimeMinutes());
+        map.put("evidenceSubmitted", progress.getEvidenceSubmitted());
+        map.put("quizzesCompleted", progress.getQuizzesCompleted());
+        map.put("overallProgress", progress.getOverallProgress());
+        map.put("lastActivityAt", progress.getLastActivityAt() != null ? progress.getLastActivityAt().toString() : null);
+        return map;
+    }
+
     /**
      * GET /api/v1/learning-path/{pathId}/units
      * Get all units in a learning path
@@ -0,0 +1,59 @@
+package com.careermappro.entities;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * One timed LLM call. Rows are written in JDBC batches by AiCallTelemetry and only
+ * read back in aggregate; the mapping is here so the table exists wherever the
+ * schema is generated from the entities.
+ */
+@Entity
+@Table(name = "ai_calls", indexes = {
+    @Index(name = "idx_created", columnList = "created_at"),
+    // Per-feature latency ranks in AiCallTelemetry.statsSince
+    @Index(name = "idx_feature_created", columnList = "feature, created_at")
+})
+public class AiCall {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "call_id")
+    private Integer callId;
+
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Column(name = "feature", nullable = false, length = 50)
+    private String feature;
+
+    @Column(name = "model", length = 50)
+    private String model;
+
+    @Column(name = "prompt_hash", length = 64)
+    private String promptHash;
+
+    @Column(name = "latency_ms")
+    private Integer latencyMs;
+
+    @Column(name = "status", length = 20)
+    private String status;
+
+    @Column(name = "error_code", length = 50)
+    private String errorCode;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    public AiCall() {}
+
+    public Integer getCallId() { return callId; }
+    public Integer getUserId() { return userId; }
+    public String getFeature() { return feature; }
+    public String getModel() { return model; }
+    public String getPromptHash() { return promptHash; }
+    public Integer getLatencyMs() { return latencyMs; }
+    public String getStatus() { return status; }
+    public String getErrorCode() { return errorCode; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -0,0 +1,69 @@
+package com.careermappro.entities;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Daily per-user rollup of path activities older than the retention window.
+ * Written in bulk by PathActivityRetentionService; read when rebuilding progress.
+ */
+@Entity
+@Table(name = "path_activity_daily", indexes = @Index(name = "idx_daily_date", columnList = "activity_date"))
+@IdClass(PathActivityDaily.Key.class)
+public class PathActivityDaily {
+
+    @Id
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Id
+    @Column(name = "path_id")
+    private Integer pathId;
+
+    @Id
+    @Column(name = "activity_date")
+    private LocalDate activityDate;
+
+    @Id
+    @Column(name = "activity_type", length = 32)
+    private String activityType;
+
+    @Column(name = "activity_count", nullable = false)
+    private Integer activityCount = 0;
+
+    @Column(name = "total_minutes", nullable = false)
+    private Integer totalMinutes = 0;
+
+    public PathActivityDaily() {}
+
+    public Integer getUserId() { return userId; }
+    public Integer getPathId() { return pathId; }
+    public LocalDate getActivityDate() { return activityDate; }
+    public String getActivityType() { return activityType; }
+    public Integer getActivityCount() { return activityCount; }
+    public Integer getTotalMinutes() { return totalMinutes; }
+
+    public static class Key implements Serializable {
+        private Integer userId;
+        private Integer pathId;
+        private LocalDate activityDate;
+        private String activityType;
+
+        public Key() {}
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key that)) return false;
+            return Objects.equals(userId, that.userId) && Objects.equals(pathId, that.pathId)
+                && Objects.equals(activityDate, that.activityDate) && Objects.equals(activityType, that.activityType);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(userId, pathId, activityDate, activityType);
+        }
+    }
+}
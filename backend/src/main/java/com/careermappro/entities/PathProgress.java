@@ -5,7 +5,10 @@ import java.time.LocalDateTime;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "path_progress")
+@Table(name = "path_progress", uniqueConstraints = {
+    // Conflict target of the insert-if-absent in PathProgressRepositoryCustomImpl
+    @UniqueConstraint(name = "unique_user_path", columnNames = {"user_id", "path_id"})
+})
 public class PathProgress {
 
     @Id
@@ -0,0 +1,75 @@
+package com.careermappro.entities;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Stored result of PathService.getPathState for one user and role,
+ * keyed by a fingerprint of the inputs it was computed from.
+ */
+@Entity
+@Table(name = "path_snapshots")
+public class PathSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "snapshot_id")
+    private Integer snapshotId;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Column(name = "role_id", nullable = false)
+    private Integer roleId;
+
+    @Column(name = "readiness_score")
+    private Double readinessScore;
+
+    @Column(name = "breakdown_json", columnDefinition = "TEXT")
+    private String breakdownJson;
+
+    @Column(name = "next_action_json", columnDefinition = "TEXT")
+    private String nextActionJson;
+
+    @Column(name = "state_version", length = 64)
+    private String stateVersion;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    public PathSnapshot() {}
+
+    public PathSnapshot(Integer userId, Integer roleId, Double readinessScore, String breakdownJson,
+                        String nextActionJson, String stateVersion) {
+        this.userId = userId;
+        this.roleId = roleId;
+        this.readinessScore = readinessScore;
+        this.breakdownJson = breakdownJson;
+        this.nextActionJson = nextActionJson;
+        this.stateVersion = stateVersion;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public Integer getSnapshotId() { return snapshotId; }
+
+    public Integer getUserId() { return userId; }
+    public void setUserId(Integer userId) { this.userId = userId; }
+
+    public Integer getRoleId() { return roleId; }
+    public void setRoleId(Integer roleId) { this.roleId = roleId; }
+
+    public Double getReadinessScore() { return readinessScore; }
+    public void setReadinessScore(Double readinessScore) { this.readinessScore = readinessScore; }
+
+    public String getBreakdownJson() { return breakdownJson; }
+    public void setBreakdownJson(String breakdownJson) { this.breakdownJson = breakdownJson; }
+
+    public String getNextActionJson() { return nextActionJson; }
+    public void setNextActionJson(String nextActionJson) { this.nextActionJson = nextActionJson; }
+
+    public String getStateVersion() { return stateVersion; }
+    public void setStateVersion(String stateVersion) { this.stateVersion = stateVersion; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -0,0 +1,63 @@
+package com.careermappro.entities;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * One posting of the resume keyword index: a keyword and a (career role, node) pair it proves.
+ * Generated and read in bulk by ResumeKeywordIndex; the mapping is here so the table
+ * exists wherever the schema is generated from the entities.
+ */
+@Entity
+@Table(name = "resume_keyword_index", indexes = @Index(name = "idx_keyword_role", columnList = "career_role_id"))
+@IdClass(ResumeKeyword.Key.class)
+public class ResumeKeyword {
+
+    @Id
+    @Column(name = "keyword", length = 100)
+    private String keyword;
+
+    @Id
+    @Column(name = "career_role_id")
+    private Integer careerRoleId;
+
+    @Id
+    @Column(name = "node_id")
+    private Integer nodeId;
+
+    @Column(name = "source", nullable = false, length = 16)
+    private String source;
+
+    @Column(name = "template_version", nullable = false)
+    private Integer templateVersion;
+
+    public ResumeKeyword() {}
+
+    public String getKeyword() { return keyword; }
+    public Integer getCareerRoleId() { return careerRoleId; }
+    public Integer getNodeId() { return nodeId; }
+    public String getSource() { return source; }
+    public Integer getTemplateVersion() { return templateVersion; }
+
+    public static class Key implements Serializable {
+        private String keyword;
+        private Integer careerRoleId;
+        private Integer nodeId;
+
+        public Key() {}
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key that)) return false;
+            return Objects.equals(keyword, that.keyword) && Objects.equals(careerRoleId, that.careerRoleId)
+                && Objects.equals(nodeId, that.nodeId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(keyword, careerRoleId, nodeId);
+        }
+    }
+}
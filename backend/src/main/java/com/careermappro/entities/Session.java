@@ -10,7 +10,9 @@ import java.time.LocalDateTime;
  * Core of the session-based engagement model
  */
 @Entity
-@Table(name = "sessions")
+@Table(name = "sessions", indexes = {
+    @Index(name = "idx_sessions_state_expires", columnList = "session_state, expires_at")
+})
 public class Session {
 
     @Id
@@ -120,6 +122,27 @@ public class Session {
             sessionId, userId));
     }
 
+    /**
+     * Detached copy of this session and its skill node, sharing no mutable state with it
+     */
+    public Session copy() {
+        Session copy = new Session();
+        copy.sessionId = sessionId;
+        copy.userId = userId;
+        copy.skillNode = skillNode != null ? skillNode.copy() : null;
+        copy.sessionType = sessionType;
+        copy.sessionState = sessionState;
+        copy.createdAt = createdAt;
+        copy.startedAt = startedAt;
+        copy.completedAt = completedAt;
+        copy.expiresAt = expiresAt;
+        copy.quizId = quizId;
+        copy.score = score;
+        copy.confidenceBefore = confidenceBefore;
+        copy.confidenceAfter = confidenceAfter;
+        return copy;
+    }
+
     public boolean isExpired() {
         return expiresAt != null && LocalDateTime.now().isAfter(expiresAt);
     }
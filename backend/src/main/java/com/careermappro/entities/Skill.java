@@ -1,5 +1,6 @@
 package com.careermappro.entities;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -33,9 +34,12 @@ public class Skill {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Not serialized: each collection is a lazy select per skill in list responses
+    @JsonIgnore
     @OneToMany(mappedBy = "skill", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Set<SkillDependency> dependencies = new HashSet<>();
 
+    @JsonIgnore
     @OneToMany(mappedBy = "prerequisiteSkill", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Set<SkillDependency> dependentSkills = new HashSet<>();
 
@@ -0,0 +1,56 @@
+package com.careermappro.entities;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * One normalized name (canonical name or alias) of a skill node.
+ * Mirrors skill_nodes.aliases so alias lookups are primary-key seeks instead of
+ * JSON scans; kept in sync by SkillNodeRepository.save / saveAll.
+ */
+@Entity
+@Table(name = "skill_aliases", indexes = @Index(name = "idx_skill_aliases_node", columnList = "skill_node_id"))
+@IdClass(SkillAlias.Key.class)
+public class SkillAlias {
+
+    @Id
+    @Column(name = "alias_normalized", length = 191)
+    private String aliasNormalized;
+
+    @Id
+    @Column(name = "skill_node_id")
+    private Integer skillNodeId;
+
+    public SkillAlias() {}
+
+    public String getAliasNormalized() { return aliasNormalized; }
+    public Integer getSkillNodeId() { return skillNodeId; }
+
+    /**
+     * Form names are stored and looked up in: lowercase, trimmed
+     */
+    public static String normalize(String name) {
+        return name == null ? "" : name.toLowerCase(Locale.ROOT).trim();
+    }
+
+    public static class Key implements Serializable {
+        private String aliasNormalized;
+        private Integer skillNodeId;
+
+        public Key() {}
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key that)) return false;
+            return Objects.equals(aliasNormalized, that.aliasNormalized) && Objects.equals(skillNodeId, that.skillNodeId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(aliasNormalized, skillNodeId);
+        }
+    }
+}
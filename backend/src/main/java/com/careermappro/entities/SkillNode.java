@@ -37,6 +37,21 @@ public class SkillNode {
         this.aliases = "[]";
     }
 
+    /**
+     * Detached copy of this node
+     */
+    public SkillNode copy() {
+        SkillNode copy = new SkillNode();
+        copy.skillNodeId = skillNodeId;
+        copy.canonicalName = canonicalName;
+        copy.aliases = aliases;
+        copy.domain = domain;
+        copy.difficulty = difficulty;
+        copy.decayHalfLifeDays = decayHalfLifeDays;
+        copy.createdAt = createdAt;
+        return copy;
+    }
+
     public Integer getSkillNodeId() { return skillNodeId; }
     public void setSkillNodeId(Integer skillNodeId) { this.skillNodeId = skillNodeId; }
     public String getCanonicalName() { return canonicalName; }
@@ -0,0 +1,75 @@
+package com.careermappro.entities;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Per-user counters that drive achievement progress.
+ * Kept up to date by AchievementService from domain events.
+ */
+@Entity
+@Table(name = "user_progress_counters")
+public class UserProgressCounters {
+
+    @Id
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Column(name = "quizzes_completed", nullable = false)
+    private Integer quizzesCompleted = 0;
+
+    @Column(name = "skills_tracked", nullable = false)
+    private Integer skillsTracked = 0;
+
+    @Column(name = "goals_set", nullable = false)
+    private Integer goalsSet = 0;
+
+    @Column(name = "streak", nullable = false)
+    private Integer streak = 0;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public UserProgressCounters() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public UserProgressCounters(Integer userId) {
+        this();
+        this.userId = userId;
+    }
+
+    public Integer getUserId() { return userId; }
+    public void setUserId(Integer userId) { this.userId = userId; }
+
+    public Integer getQuizzesCompleted() { return quizzesCompleted; }
+    public void setQuizzesCompleted(Integer quizzesCompleted) { this.quizzesCompleted = quizzesCompleted; }
+
+    public Integer getSkillsTracked() { return skillsTracked; }
+    public void setSkillsTracked(Integer skillsTracked) { this.skillsTracked = skillsTracked; }
+
+    public Integer getGoalsSet() { return goalsSet; }
+    public void setGoalsSet(Integer goalsSet) { this.goalsSet = goalsSet; }
+
+    public Integer getStreak() { return streak; }
+    public void setStreak(Integer streak) { this.streak = streak; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    /**
+     * Current value for an achievement category (quiz, skill, goal, streak)
+     */
+    public int valueFor(String category) {
+        if (category == null) {
+            return 0;
+        }
+        return switch (category) {
+            case "quiz" -> quizzesCompleted;
+            case "skill" -> skillsTracked;
+            case "goal" -> goalsSet;
+            case "streak" -> streak;
+            default -> 0;
+        };
+    }
+}
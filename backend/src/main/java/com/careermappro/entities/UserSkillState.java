@@ -1,10 +1,15 @@
 package com.careermappro.entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.NaturalId;
+
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_skill_states")
+@Table(name = "user_skill_states", uniqueConstraints = {
+    // Conflict target of the upserts in UserSkillStateRepositoryCustomImpl
+    @UniqueConstraint(name = "unique_user_skill", columnNames = {"user_id", "skill_id"})
+})
 public class UserSkillState {
 
     @Id
@@ -12,9 +17,12 @@ public class UserSkillState {
     @Column(name = "state_id")
     private Integer id;
 
+    // (userId, skillId) is the natural id, so managed states can be looked up by it in memory
+    @NaturalId
     @Column(name = "user_id", nullable = false)
     private Integer userId;
 
+    @NaturalId
     @Column(name = "skill_id", nullable = false)
     private Integer skillId;
 
@@ -0,0 +1,6 @@
+package com.careermappro.events;
+
+/**
+ * Published by CareerGoalService when a goal is created (delta +1) or deleted (delta -1)
+ */
+public record CareerGoalChangedEvent(Integer userId, int delta) {}
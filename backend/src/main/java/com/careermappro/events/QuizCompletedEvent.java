@@ -0,0 +1,6 @@
+package com.careermappro.events;
+
+/**
+ * Published by QuizService when a quiz is graded and marked COMPLETED
+ */
+public record QuizCompletedEvent(Integer userId, Integer quizId, double score) {}
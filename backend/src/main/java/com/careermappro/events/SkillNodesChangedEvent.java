@@ -0,0 +1,8 @@
+package com.careermappro.events;
+
+import java.util.List;
+
+/**
+ * Published by SkillNodeRepository.save / saveAll after skill nodes and their aliases are written
+ */
+public record SkillNodesChangedEvent(List<Integer> skillNodeIds) {}
@@ -0,0 +1,6 @@
+package com.careermappro.events;
+
+/**
+ * Published by SkillMapService when a user starts tracking a skill they had no record for
+ */
+public record SkillTrackedEvent(Integer userId, Integer skillId) {}
@@ -0,0 +1,6 @@
+package com.careermappro.events;
+
+/**
+ * Published when a user's login streak is set to a new value
+ */
+public record StreakUpdatedEvent(Integer userId, int streak) {}
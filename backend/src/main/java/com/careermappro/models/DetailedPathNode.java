@@ -25,6 +25,7 @@ public class DetailedPathNode {
     private Integer difficulty; // 1-10 scale
     private Integer estimatedHours; // Time to complete
     private String category; // "foundational", "core", "advanced", "specialized"
+    private boolean frozen; // Shared template nodes are frozen; edit a copy()
 
     public DetailedPathNode() {
         this.learnResources = new ArrayList<>();
@@ -33,12 +34,51 @@ public class DetailedPathNode {
         this.competencies = new ArrayList<>();
     }
 
+    /**
+     * Make this node (and its lists) immutable so it can be shared across requests
+     */
+    public DetailedPathNode freeze() {
+        this.learnResources = List.copyOf(learnResources);
+        this.dependencies = List.copyOf(dependencies);
+        this.unlocks = List.copyOf(unlocks);
+        this.competencies = List.copyOf(competencies);
+        this.frozen = true;
+        return this;
+    }
+
+    /**
+     * Mutable copy of this node
+     */
+    public DetailedPathNode copy() {
+        DetailedPathNode copy = new DetailedPathNode();
+        copy.skillNodeId = skillNodeId;
+        copy.name = name;
+        copy.whyItMatters = whyItMatters;
+        copy.learnResources = new ArrayList<>(learnResources);
+        copy.assessmentType = assessmentType;
+        copy.proofRequirement = proofRequirement;
+        copy.dependencies = new ArrayList<>(dependencies);
+        copy.unlocks = new ArrayList<>(unlocks);
+        copy.competencies = new ArrayList<>(competencies);
+        copy.difficulty = difficulty;
+        copy.estimatedHours = estimatedHours;
+        copy.category = category;
+        return copy;
+    }
+
+    private void checkMutable() {
+        if (frozen) {
+            throw new UnsupportedOperationException("Shared path template node is read-only; modify a copy()");
+        }
+    }
+
     // Getters and Setters
     public Integer getSkillNodeId() {
         return skillNodeId;
     }
 
     public void setSkillNodeId(Integer skillNodeId) {
+        checkMutable();
         this.skillNodeId = skillNodeId;
     }
 
@@ -47,6 +87,7 @@ public class DetailedPathNode {
     }
 
     public void setName(String name) {
+        checkMutable();
         this.name = name;
     }
 
@@ -55,6 +96,7 @@ public class DetailedPathNode {
     }
 
     public void setWhyItMatters(String whyItMatters) {
+        checkMutable();
         this.whyItMatters = whyItMatters;
     }
 
@@ -63,6 +105,7 @@ public class DetailedPathNode {
     }
 
     public void setLearnResources(List<LearningResource> learnResources) {
+        checkMutable();
         this.learnResources = learnResources;
     }
 
@@ -71,6 +114,7 @@ public class DetailedPathNode {
     }
 
     public void setAssessmentType(String assessmentType) {
+        checkMutable();
         this.assessmentType = assessmentType;
     }
 
@@ -79,6 +123,7 @@ public class DetailedPathNode {
     }
 
     public void setProofRequirement(String proofRequirement) {
+        checkMutable();
         this.proofRequirement = proofRequirement;
     }
 
@@ -87,6 +132,7 @@ public class DetailedPathNode {
     }
 
     public void setDependencies(List<Integer> dependencies) {
+        checkMutable();
         this.dependencies = dependencies;
     }
 
@@ -95,6 +141,7 @@ public class DetailedPathNode {
     }
 
     public void setUnlocks(List<Integer> unlocks) {
+        checkMutable();
         this.unlocks = unlocks;
     }
 
@@ -103,6 +150,7 @@ public class DetailedPathNode {
     }
 
     public void setCompetencies(List<Integer> competencies) {
+        checkMutable();
         this.competencies = competencies;
     }
 
@@ -111,6 +159,7 @@ public class DetailedPathNode {
     }
 
     public void setDifficulty(Integer difficulty) {
+        checkMutable();
         this.difficulty = difficulty;
     }
 
@@ -119,6 +168,7 @@ public class DetailedPathNode {
     }
 
     public void setEstimatedHours(Integer estimatedHours) {
+        checkMutable();
         this.estimatedHours = estimatedHours;
     }
 
@@ -127,6 +177,7 @@ public class DetailedPathNode {
     }
 
     public void setCategory(String category) {
+        checkMutable();
         this.category = category;
     }
 }
@@ -0,0 +1,60 @@
+package com.careermappro.models;
+
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PathView
+ * Copy-on-write view over a shared, frozen list of DetailedPathNodes.
+ * Creating a view is O(1); a node is only copied when a caller asks to edit it.
+ */
+public class PathView extends AbstractList<DetailedPathNode> {
+
+    private final List<DetailedPathNode> shared;
+    private Map<Integer, DetailedPathNode> overrides;
+
+    public PathView(List<DetailedPathNode> shared) {
+        this.shared = shared;
+    }
+
+    @Override
+    public DetailedPathNode get(int index) {
+        if (overrides != null) {
+            DetailedPathNode override = overrides.get(index);
+            if (override != null) {
+                return override;
+            }
+        }
+        return shared.get(index);
+    }
+
+    @Override
+    public int size() {
+        return shared.size();
+    }
+
+    @Override
+    public DetailedPathNode set(int index, DetailedPathNode node) {
+        DetailedPathNode previous = get(index);
+        if (overrides == null) {
+            overrides = new HashMap<>();
+        }
+        overrides.put(index, node);
+        return previous;
+    }
+
+    /**
+     * Mutable node at index, copying the shared node on first edit
+     */
+    public DetailedPathNode editable(int index) {
+        DetailedPathNode current = get(index);
+        if (overrides != null && overrides.get(index) == current) {
+            return current;
+        }
+        DetailedPathNode copy = current.copy();
+        set(index, copy);
+        return copy;
+    }
+}
@@ -7,4 +7,5 @@ import java.util.List;
 
 public interface CareerGoalRepository extends JpaRepository<CareerGoal, Integer> {
     List<CareerGoal> findByUserId(Integer userId);
+    long countByUserId(Integer userId);
 }
@@ -9,7 +9,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface CuratedResourceRepository extends JpaRepository<CuratedResource, Integer> {
+public interface CuratedResourceRepository extends JpaRepository<CuratedResource, Integer>, CuratedResourceRepositoryCustom {
 
     /**
      * Find resources by type (video, article, documentation, etc.)
@@ -37,16 +37,6 @@ public interface CuratedResourceRepository extends JpaRepository<CuratedResource
         """, nativeQuery = true)
     List<CuratedResource> findByNodeId(@Param("nodeId") Integer nodeId);
 
-    /**
-     * Find resources by tags (JSON search)
-     */
-    @Query(value = """
-        SELECT * FROM curated_resources
-        WHERE JSON_CONTAINS(tags, JSON_QUOTE(:tag))
-        ORDER BY avg_quality_score DESC
-        """, nativeQuery = true)
-    List<CuratedResource> findByTag(@Param("tag") String tag);
-
     /**
      * Find top-rated resources
      */
@@ -0,0 +1,16 @@
+package com.careermappro.repositories;
+
+import com.careermappro.models.CuratedResource;
+
+import java.util.List;
+
+/**
+ * Curated resource queries whose SQL differs per dialect
+ */
+public interface CuratedResourceRepositoryCustom {
+
+    /**
+     * Find resources by tags (JSON search), best rated first
+     */
+    List<CuratedResource> findByTag(String tag);
+}
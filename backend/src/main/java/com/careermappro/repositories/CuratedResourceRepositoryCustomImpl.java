@@ -0,0 +1,29 @@
+package com.careermappro.repositories;
+
+import com.careermappro.models.CuratedResource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.List;
+
+public class CuratedResourceRepositoryCustomImpl implements CuratedResourceRepositoryCustom {
+
+    private final NativeSqlTemplate nativeSql;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public CuratedResourceRepositoryCustomImpl(NativeSqlTemplate nativeSql) {
+        this.nativeSql = nativeSql;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<CuratedResource> findByTag(String tag) {
+        String sql = "SELECT * FROM curated_resources WHERE " + nativeSql.dialect().jsonArrayContains("tags", "?1") +
+            " ORDER BY avg_quality_score DESC";
+        return entityManager.createNativeQuery(sql, CuratedResource.class)
+            .setParameter(1, tag)
+            .getResultList();
+    }
+}
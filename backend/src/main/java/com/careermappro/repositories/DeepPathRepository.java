@@ -2,6 +2,7 @@ package com.careermappro.repositories;
 
 import com.careermappro.entities.DeepPath;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,4 +12,48 @@ import java.util.Optional;
 public interface DeepPathRepository extends JpaRepository<DeepPath, Integer> {
     List<DeepPath> findByCareerRole_CareerRoleId(Integer careerRoleId);
     Optional<DeepPath> findFirstByCareerRole_CareerRoleId(Integer careerRoleId);
+
+    /**
+     * Domain -> role -> every deep path of the role -> steps -> skill as flat rows, one
+     * statement. No rows when the role does not exist or has no paths; a path
+     * without steps yields one row with null step columns.
+     */
+    @Query("SELECT d.domainId AS domainId, d.name AS domainName, d.description AS domainDescription, " +
+           "d.icon AS domainIcon, d.color AS domainColor, " +
+           "r.careerRoleId AS careerRoleId, r.name AS roleName, r.description AS roleDescription, r.icon AS roleIcon, " +
+           "p.deepPathId AS deepPathId, p.name AS pathName, p.description AS pathDescription, " +
+           "p.durationWeeks AS durationWeeks, " +
+           "s.stepId AS stepId, s.weekNumber AS weekNumber, s.orderInWeek AS orderInWeek, " +
+           "s.description AS stepDescription, " +
+           "k.skillNodeId AS skillNodeId, k.canonicalName AS canonicalName, k.domain AS skillDomain, " +
+           "k.difficulty AS difficulty " +
+           "FROM DeepPath p JOIN p.careerRole r JOIN r.domain d " +
+           "LEFT JOIN p.steps s LEFT JOIN s.skill k " +
+           "WHERE r.careerRoleId = :careerRoleId " +
+           "ORDER BY p.deepPathId, s.weekNumber, s.orderInWeek, s.stepId")
+    List<HierarchyRow> findHierarchyRows(Integer careerRoleId);
+
+    interface HierarchyRow {
+        Integer getDomainId();
+        String getDomainName();
+        String getDomainDescription();
+        String getDomainIcon();
+        String getDomainColor();
+        Integer getCareerRoleId();
+        String getRoleName();
+        String getRoleDescription();
+        String getRoleIcon();
+        Integer getDeepPathId();
+        String getPathName();
+        String getPathDescription();
+        Integer getDurationWeeks();
+        Integer getStepId();
+        Integer getWeekNumber();
+        Integer getOrderInWeek();
+        String getStepDescription();
+        Integer getSkillNodeId();
+        String getCanonicalName();
+        String getSkillDomain();
+        Integer getDifficulty();
+    }
 }
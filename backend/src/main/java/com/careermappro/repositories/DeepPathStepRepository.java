@@ -1,13 +1,44 @@
 package com.careermappro.repositories;
 
 import com.careermappro.entities.DeepPathStep;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface DeepPathStepRepository extends JpaRepository<DeepPathStep, Integer> {
     List<DeepPathStep> findByDeepPath_DeepPathIdOrderByWeekNumberAscOrderInWeekAsc(Integer deepPathId);
     List<DeepPathStep> findByDeepPath_DeepPathIdAndWeekNumber(Integer deepPathId, Integer weekNumber);
+
+    /**
+     * Steps strictly after (weekNumber, orderInWeek, stepId) in path order, with their
+     * skills joined in. Walks idx_deep_path_steps_keyset instead of skipping OFFSET rows.
+     */
+    @Query("SELECT s FROM DeepPathStep s JOIN FETCH s.skill " +
+           "WHERE s.deepPath.deepPathId = :deepPathId AND (s.weekNumber > :weekNumber " +
+           "  OR (s.weekNumber = :weekNumber AND (s.orderInWeek > :orderInWeek " +
+           "  OR (s.orderInWeek = :orderInWeek AND s.stepId > :stepId)))) " +
+           "ORDER BY s.weekNumber, s.orderInWeek, s.stepId")
+    List<DeepPathStep> findPageAfter(Integer deepPathId, Integer weekNumber, Integer orderInWeek,
+                                     Integer stepId, Pageable pageable);
+
+    /**
+     * All steps of a path in path order as a forward-only, read-only cursor. Must be
+     * consumed inside a transaction and closed. On MySQL rows are only fetched in
+     * batches when the JDBC URL has useCursorFetch=true.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "100"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM DeepPathStep s JOIN FETCH s.skill WHERE s.deepPath.deepPathId = :deepPathId " +
+           "ORDER BY s.weekNumber, s.orderInWeek, s.stepId")
+    Stream<DeepPathStep> streamByDeepPathId(Integer deepPathId);
 }
@@ -1,12 +1,23 @@
 package com.careermappro.repositories;
 
 import com.careermappro.entities.Domain;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface DomainRepository extends JpaRepository<Domain, Integer> {
     Optional<Domain> findByName(String name);
+
+    /**
+     * All domains with the career roles (and their deep paths) that the JSON response
+     * serializes, in one statement instead of a lazy select per domain and per role
+     */
+    @EntityGraph(attributePaths = {"careerRoles", "careerRoles.deepPaths"})
+    @Query("SELECT DISTINCT d FROM Domain d")
+    List<Domain> findAllWithRoles();
 }
@@ -0,0 +1,70 @@
+package com.careermappro.repositories;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * NativeSqlTemplate
+ * Runs dialect-specific native SQL in the current transaction. Single statements go
+ * through the EntityManager, so Hibernate flushes pending changes first and sees the
+ * statement; batches go through JdbcTemplate on the same connection. The dialect is
+ * read from the connection once; rendered upserts are cached per Upsert constant.
+ */
+@Component
+public class NativeSqlTemplate {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Upsert, String> renderedUpserts = new ConcurrentHashMap<>();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile SqlDialect dialect;
+
+    public NativeSqlTemplate(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public SqlDialect dialect() {
+        SqlDialect current = dialect;
+        if (current == null) {
+            current = SqlDialect.fromProductName(jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName()));
+            dialect = current;
+        }
+        return current;
+    }
+
+    public String sql(Upsert upsert) {
+        return renderedUpserts.computeIfAbsent(upsert, statement -> statement.toSql(dialect()));
+    }
+
+    /**
+     * Run one upsert: the inserted values in column order, then any update parameters
+     */
+    public int upsert(Upsert upsert, Object... args) {
+        Query query = entityManager.createNativeQuery(sql(upsert));
+        for (int i = 0; i < args.length; i++) {
+            query.setParameter(i + 1, args[i]);
+        }
+        return query.executeUpdate();
+    }
+
+    /**
+     * Run an upsert for every row as one JDBC batch
+     */
+    public int[] batchUpsert(Upsert upsert, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate(sql(upsert), rows);
+    }
+}
@@ -0,0 +1,20 @@
+package com.careermappro.repositories;
+
+import com.careermappro.entities.PathActivityDaily;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PathActivityDailyRepository extends JpaRepository<PathActivityDaily, PathActivityDaily.Key> {
+
+    /**
+     * Rolled-up (activityType, count, minutes) for a user on a path (progress rebuild)
+     */
+    @Query("SELECT d.activityType, SUM(d.activityCount), SUM(d.totalMinutes) FROM PathActivityDaily d " +
+           "WHERE d.userId = :userId AND d.pathId = :pathId GROUP BY d.activityType")
+    List<Object[]> sumByTypeForUserAndPath(@Param("userId") Integer userId, @Param("pathId") Integer pathId);
+}
@@ -166,6 +166,24 @@ public interface PathActivityRepository extends JpaRepository<PathActivity, Inte
     @Query("SELECT pa.activityType, COUNT(pa) FROM PathActivity pa WHERE pa.pathId = :pathId GROUP BY pa.activityType")
     List<Object[]> getActivityStatisticsByPath(@Param("pathId") Integer pathId);
 
+    /**
+     * Activity counts by type for a user on a path (progress rebuild)
+     */
+    @Query("SELECT pa.activityType, COUNT(pa) FROM PathActivity pa WHERE pa.userId = :userId AND pa.pathId = :pathId GROUP BY pa.activityType")
+    List<Object[]> countByTypeForUserAndPath(@Param("userId") Integer userId, @Param("pathId") Integer pathId);
+
+    /**
+     * Metadata of a user's activities on a path that carry any (progress rebuild)
+     */
+    @Query("SELECT pa.metadata FROM PathActivity pa WHERE pa.userId = :userId AND pa.pathId = :pathId AND pa.metadata IS NOT NULL")
+    List<String> findMetadataForUserAndPath(@Param("userId") Integer userId, @Param("pathId") Integer pathId);
+
+    /**
+     * Every (userId, pathId) pair with activity, for rebuilding all progress rows
+     */
+    @Query("SELECT DISTINCT pa.userId, pa.pathId FROM PathActivity pa")
+    List<Object[]> findUserPathPairs();
+
     /**
      * Find step specific activities for a user
      */
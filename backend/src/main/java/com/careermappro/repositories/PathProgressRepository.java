@@ -1,22 +1,34 @@
 package com.careermappro.repositories;
 
 import com.careermappro.entities.PathProgress;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PathProgressRepository extends JpaRepository<PathProgress, Integer> {
+public interface PathProgressRepository extends JpaRepository<PathProgress, Integer>,
+        PathProgressRepositoryCustom {
 
     /**
      * Find progress record for a specific user and path
      */
     Optional<PathProgress> findByPathIdAndUserId(Integer pathId, Integer userId);
 
+    /**
+     * Load a progress row with a row lock, so a rebuild and concurrent activity deltas apply in sequence
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT pp FROM PathProgress pp WHERE pp.userId = :userId AND pp.pathId = :pathId")
+    Optional<PathProgress> findForUpdate(@Param("userId") Integer userId, @Param("pathId") Integer pathId);
+
     /**
      * Find all progress records for a user
      */
@@ -130,6 +142,33 @@ public interface PathProgressRepository extends JpaRepository<PathProgress, Inte
     @Query("SELECT pp FROM PathProgress pp WHERE pp.userId = :userId ORDER BY (pp.completedUnits * 100.0 / pp.totalUnits) DESC")
     List<PathProgress> findByUserIdOrderByCompletionPercentage(@Param("userId") Integer userId);
 
+    /**
+     * Apply one activity's delta to a progress row in a single UPDATE, so concurrent
+     * activities for the same user and path never lose an increment. Returns 0 when
+     * the row doesn't exist yet.
+     *
+     * overall_progress is assigned first: MySQL evaluates SET clauses left to right
+     * against already-updated columns, PostgreSQL against the old row, and this order
+     * gives both the same result.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE path_progress SET " +
+                   "overall_progress = CASE WHEN total_steps > 0 " +
+                   "  THEN LEAST(100, ROUND((completed_steps + :steps) * 100.0 / total_steps, 2)) " +
+                   "  ELSE overall_progress END, " +
+                   "completed_units = completed_units + :units, " +
+                   "completed_steps = completed_steps + :steps, " +
+                   "total_time_minutes = total_time_minutes + :minutes, " +
+                   "evidence_submitted = evidence_submitted + :evidence, " +
+                   "quizzes_completed = quizzes_completed + :quizzes, " +
+                   "current_step_id = COALESCE(:currentStepId, current_step_id), " +
+                   "last_activity_at = :at, updated_at = :at " +
+                   "WHERE user_id = :userId AND path_id = :pathId", nativeQuery = true)
+    int applyActivityDelta(@Param("userId") Integer userId, @Param("pathId") Integer pathId,
+                           @Param("units") int units, @Param("steps") int steps, @Param("minutes") int minutes,
+                           @Param("evidence") int evidence, @Param("quizzes") int quizzes,
+                           @Param("currentStepId") Integer currentStepId, @Param("at") LocalDateTime at);
+
     /**
      * Get completion statistics for a path
      */
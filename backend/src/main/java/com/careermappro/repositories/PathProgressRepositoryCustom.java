@@ -0,0 +1,15 @@
+package com.careermappro.repositories;
+
+import com.careermappro.entities.PathProgress;
+
+/**
+ * Insert-if-absent creation of a progress row, so two first activities for the
+ * same user and path can't collide on the (user_id, path_id) unique key
+ */
+public interface PathProgressRepositoryCustom {
+
+    /**
+     * Insert a new progress row. If another transaction created it first, that row is kept as is.
+     */
+    void insertIfAbsent(PathProgress progress);
+}
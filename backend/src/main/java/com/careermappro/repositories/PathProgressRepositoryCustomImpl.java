@@ -0,0 +1,28 @@
+package com.careermappro.repositories;
+
+import com.careermappro.entities.PathProgress;
+
+import java.sql.Timestamp;
+
+public class PathProgressRepositoryCustomImpl implements PathProgressRepositoryCustom {
+
+    private static final Upsert INSERT_IF_ABSENT = Upsert.into("path_progress")
+        .columns("user_id", "path_id", "total_units", "completed_units", "total_steps", "completed_steps",
+            "total_time_minutes", "evidence_submitted", "quizzes_completed", "overall_progress", "updated_at")
+        .key("user_id", "path_id")
+        .build();
+
+    private final NativeSqlTemplate nativeSql;
+
+    public PathProgressRepositoryCustomImpl(NativeSqlTemplate nativeSql) {
+        this.nativeSql = nativeSql;
+    }
+
+    @Override
+    public void insertIfAbsent(PathProgress progress) {
+        nativeSql.upsert(INSERT_IF_ABSENT, progress.getUserId(), progress.getPathId(), progress.getTotalUnits(),
+            progress.getCompletedUnits(), progress.getTotalSteps(), progress.getCompletedSteps(),
+            progress.getTotalTimeMinutes(), progress.getEvidenceSubmitted(), progress.getQuizzesCompleted(),
+            progress.getOverallProgress(), Timestamp.valueOf(progress.getUpdatedAt()));
+    }
+}
@@ -0,0 +1,31 @@
+package com.careermappro.repositories;
+
+import com.careermappro.entities.PathSnapshot;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PathSnapshotRepository extends JpaRepository<PathSnapshot, Integer> {
+
+    Optional<PathSnapshot> findFirstByUserIdOrderByCreatedAtDescSnapshotIdDesc(Integer userId);
+
+    List<PathSnapshot> findByUserIdOrderByCreatedAtDescSnapshotIdDesc(Integer userId, Pageable pageable);
+
+    /**
+     * Keyset page of a user's snapshots strictly older than (createdAt, snapshotId), newest first
+     */
+    @Query("SELECT s FROM PathSnapshot s WHERE s.userId = :userId " +
+           "AND (s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.snapshotId < :snapshotId)) " +
+           "ORDER BY s.createdAt DESC, s.snapshotId DESC")
+    List<PathSnapshot> findPageBefore(@Param("userId") Integer userId,
+                                      @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("snapshotId") Integer snapshotId,
+                                      Pageable pageable);
+}
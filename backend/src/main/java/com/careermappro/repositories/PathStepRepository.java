@@ -76,6 +76,12 @@ public interface PathStepRepository extends JpaRepository<PathStep, Integer> {
      */
     long countByUnitId(Integer unitId);
 
+    /**
+     * Count total steps across all units of a path
+     */
+    @Query("SELECT COUNT(ps) FROM PathStep ps WHERE ps.unitId IN (SELECT pu.unitId FROM PathUnit pu WHERE pu.pathId = :pathId)")
+    long countStepsInPath(@Param("pathId") Integer pathId);
+
     /**
      * Count completed steps in a unit
      */
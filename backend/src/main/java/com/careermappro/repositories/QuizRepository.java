@@ -11,4 +11,5 @@ public interface QuizRepository extends JpaRepository<Quiz, Integer> {
     List<Quiz> findByUserIdOrderByCreatedAtDesc(Integer userId);
     List<Quiz> findByUserIdAndSkillNameOrderByCreatedAtDesc(Integer userId, String skillName);
     List<Quiz> findByUserIdAndStatus(Integer userId, Quiz.QuizStatus status);
+    long countByUserIdAndStatus(Integer userId, Quiz.QuizStatus status);
 }
@@ -2,11 +2,16 @@ package com.careermappro.repositories;
 
 import com.careermappro.entities.RoleSkill;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
 public interface RoleSkillRepository extends JpaRepository<RoleSkill, Integer> {
-    List<RoleSkill> findByRoleId(Integer roleId);
+
+    // role and skill are EAGER; fetch them in the same statement instead of one select per row
+    @Query("SELECT rs FROM RoleSkill rs JOIN FETCH rs.role JOIN FETCH rs.skill WHERE rs.role.id = :roleId")
+    List<RoleSkill> findByRoleId(@Param("roleId") Integer roleId);
 }
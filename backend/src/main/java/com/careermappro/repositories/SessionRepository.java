@@ -2,9 +2,14 @@ package com.careermappro.repositories;
 
 import com.careermappro.entities.Session;
 import com.careermappro.entities.Session.SessionState;
+import com.careermappro.entities.SkillNode;
+import com.careermappro.entities.UserSkillState;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,12 +32,52 @@ public interface SessionRepository extends JpaRepository<Session, Integer> {
         SessionState state
     );
 
-    // Get all sessions for a user (for history)
-    List<Session> findByUserIdOrderByCreatedAtDesc(Integer userId);
+    // Get all sessions for a user (for history); skill nodes in the same statement
+    @Query("SELECT s FROM Session s JOIN FETCH s.skillNode WHERE s.userId = :userId ORDER BY s.createdAt DESC")
+    List<Session> findByUserIdOrderByCreatedAtDesc(@Param("userId") Integer userId);
 
     // Find expired sessions
     List<Session> findBySessionStateAndExpiresAtBefore(
         SessionState state,
         java.time.LocalDateTime dateTime
     );
+
+    /**
+     * Everything proposeProbeSession needs in one statement: the skill node, the user's
+     * confidence on it, and the user's unexpired open sessions (newest first).
+     * No rows means the skill node does not exist; one row with a null sessionId means no open sessions.
+     */
+    @Query("SELECT n AS skillNode, c.confidence AS confidence, s.sessionId AS sessionId, " +
+           "s.skillNode.skillNodeId AS sessionSkillNodeId, s.sessionState AS sessionState " +
+           "FROM SkillNode n " +
+           "LEFT JOIN UserSkillState c ON c.userId = :userId AND c.skillId = n.skillNodeId " +
+           "LEFT JOIN Session s ON s.userId = :userId AND s.sessionState IN :states " +
+           "AND (s.expiresAt IS NULL OR s.expiresAt > :now) " +
+           "WHERE n.skillNodeId = :skillNodeId " +
+           "ORDER BY s.createdAt DESC")
+    List<ProposalContextRow> findProposalContext(@Param("userId") Integer userId,
+                                                 @Param("skillNodeId") Integer skillNodeId,
+                                                 @Param("states") List<SessionState> states,
+                                                 @Param("now") LocalDateTime now);
+
+    /**
+     * Session with its skill node and the user's state for that skill, for completeSession
+     */
+    @Query("SELECT s AS session, u AS skillState FROM Session s JOIN FETCH s.skillNode " +
+           "LEFT JOIN UserSkillState u ON u.userId = s.userId AND u.skillId = s.skillNode.skillNodeId " +
+           "WHERE s.sessionId = :sessionId")
+    List<SessionWithStateRow> findWithSkillState(@Param("sessionId") Integer sessionId);
+
+    interface ProposalContextRow {
+        SkillNode getSkillNode();
+        Double getConfidence();
+        Integer getSessionId();
+        Integer getSessionSkillNodeId();
+        SessionState getSessionState();
+    }
+
+    interface SessionWithStateRow {
+        Session getSession();
+        UserSkillState getSkillState();
+    }
 }
@@ -2,10 +2,25 @@ package com.careermappro.repositories;
 
 import com.careermappro.entities.Skill;
 import com.careermappro.entities.SkillDependency;
+import com.careermappro.entities.SkillDependency.DependencyType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
 public interface SkillDependencyRepository extends JpaRepository<SkillDependency, Integer> {
     List<SkillDependency> findBySkill(Skill skill);
+
+    /**
+     * Every dependency edge as plain ids, in one statement, for graph building
+     */
+    @Query("SELECT d.skill.skillId AS skillId, d.prerequisiteSkill.skillId AS prerequisiteSkillId, " +
+           "d.dependencyType AS dependencyType FROM SkillDependency d")
+    List<DependencyEdge> findAllEdges();
+
+    interface DependencyEdge {
+        Integer getSkillId();
+        Integer getPrerequisiteSkillId();
+        DependencyType getDependencyType();
+    }
 }
@@ -6,11 +6,12 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface SkillNodeRepository extends JpaRepository<SkillNode, Integer> {
+public interface SkillNodeRepository extends JpaRepository<SkillNode, Integer>, SkillNodeRepositoryCustom {
 
     Optional<SkillNode> findByCanonicalName(String canonicalName);
 
@@ -19,9 +20,29 @@ public interface SkillNodeRepository extends JpaRepository<SkillNode, Integer> {
     @Query("SELECT s FROM SkillNode s WHERE s.canonicalName IN :names")
     List<SkillNode> findByCanonicalNameIn(List<String> names);
 
-    @Query(value = "SELECT * FROM skill_nodes WHERE JSON_CONTAINS(aliases, JSON_QUOTE(?1))", nativeQuery = true)
+    @Query("SELECT s.skillNodeId FROM SkillNode s WHERE s.skillNodeId IN :ids")
+    List<Integer> findExistingIds(List<Integer> ids);
+
+    /**
+     * (skillNodeId, canonicalName) for every skill node, without loading the entities
+     */
+    @Query("SELECT s.skillNodeId, s.canonicalName FROM SkillNode s")
+    List<Object[]> findAllCanonicalNames();
+
+    /**
+     * Skill nodes with the given name or alias, normalized with SkillAlias.normalize
+     */
+    @Query("SELECT s FROM SkillNode s WHERE s.skillNodeId IN " +
+           "(SELECT a.skillNodeId FROM SkillAlias a WHERE a.aliasNormalized = :alias)")
     List<SkillNode> findByAlias(String alias);
 
+    /**
+     * (normalized name, node) for every node known under one of the given normalized names
+     */
+    @Query("SELECT a.aliasNormalized AS alias, s AS skillNode FROM SkillAlias a " +
+           "JOIN SkillNode s ON s.skillNodeId = a.skillNodeId WHERE a.aliasNormalized IN :aliases")
+    List<AliasMatch> findByAliasIn(Collection<String> aliases);
+
     /**
      * Find all skills that are required for a specific role
      * Joins with role_skill table to get role-specific skills
@@ -33,4 +54,9 @@ public interface SkillNodeRepository extends JpaRepository<SkillNode, Integer> {
         ORDER BY rs.weight DESC
         """, nativeQuery = true)
     List<SkillNode> findSkillsByRoleId(Integer roleId);
+
+    interface AliasMatch {
+        String getAlias();
+        SkillNode getSkillNode();
+    }
 }
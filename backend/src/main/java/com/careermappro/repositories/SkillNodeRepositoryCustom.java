@@ -0,0 +1,24 @@
+package com.careermappro.repositories;
+
+import com.careermappro.entities.SkillNode;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Saves that keep skill_aliases in step with skill_nodes.canonical_name and aliases
+ */
+public interface SkillNodeRepositoryCustom {
+
+    @Transactional
+    <S extends SkillNode> S save(S node);
+
+    @Transactional
+    <S extends SkillNode> List<S> saveAll(Iterable<S> nodes);
+
+    /**
+     * Write alias rows for nodes that have none; returns the number of nodes filled in
+     */
+    @Transactional
+    int syncMissingAliases();
+}
@@ -0,0 +1,112 @@
+package com.careermappro.repositories;
+
+import com.careermappro.entities.SkillAlias;
+import com.careermappro.entities.SkillNode;
+import com.careermappro.events.SkillNodesChangedEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Persists skill nodes and rewrites their skill_aliases rows (canonical name plus each
+ * alias, normalized) in the same transaction. Alias rows go in as one JDBC batch.
+ */
+public class SkillNodeRepositoryCustomImpl implements SkillNodeRepositoryCustom {
+
+    private static final Upsert ALIAS = Upsert.into("skill_aliases")
+        .columns("alias_normalized", "skill_node_id")
+        .key("alias_normalized", "skill_node_id")
+        .build();
+
+    private static final int MAX_ALIAS_LENGTH = 191;
+
+    private final NativeSqlTemplate nativeSql;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public SkillNodeRepositoryCustomImpl(NativeSqlTemplate nativeSql, ApplicationEventPublisher eventPublisher) {
+        this.nativeSql = nativeSql;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public <S extends SkillNode> S save(S node) {
+        return saveAll(List.of(node)).get(0);
+    }
+
+    @Override
+    public <S extends SkillNode> List<S> saveAll(Iterable<S> nodes) {
+        List<S> saved = new ArrayList<>();
+        for (S node : nodes) {
+            if (node.getSkillNodeId() == null) {
+                entityManager.persist(node);
+                saved.add(node);
+            } else {
+                saved.add(entityManager.merge(node));
+            }
+        }
+        // Alias rows reference the nodes, so the nodes are written first
+        entityManager.flush();
+        replaceAliases(saved);
+        eventPublisher.publishEvent(new SkillNodesChangedEvent(saved.stream().map(SkillNode::getSkillNodeId).toList()));
+        return saved;
+    }
+
+    @Override
+    public int syncMissingAliases() {
+        List<SkillNode> missing = entityManager.createQuery(
+                "SELECT s FROM SkillNode s WHERE NOT EXISTS " +
+                "(SELECT 1 FROM SkillAlias a WHERE a.skillNodeId = s.skillNodeId)", SkillNode.class)
+            .getResultList();
+        replaceAliases(missing);
+        if (!missing.isEmpty()) {
+            eventPublisher.publishEvent(new SkillNodesChangedEvent(missing.stream().map(SkillNode::getSkillNodeId).toList()));
+        }
+        return missing.size();
+    }
+
+    private void replaceAliases(List<? extends SkillNode> nodes) {
+        if (nodes.isEmpty()) {
+            return;
+        }
+        List<Integer> ids = nodes.stream().map(SkillNode::getSkillNodeId).toList();
+        entityManager.createQuery("DELETE FROM SkillAlias a WHERE a.skillNodeId IN :ids")
+            .setParameter("ids", ids)
+            .executeUpdate();
+
+        List<Object[]> rows = new ArrayList<>();
+        for (SkillNode node : nodes) {
+            for (String alias : namesOf(node)) {
+                rows.add(new Object[] { alias, node.getSkillNodeId() });
+            }
+        }
+        nativeSql.batchUpsert(ALIAS, rows);
+    }
+
+    /**
+     * Distinct normalized canonical name and aliases; malformed alias JSON contributes nothing
+     */
+    private Set<String> namesOf(SkillNode node) {
+        Set<String> names = new LinkedHashSet<>();
+        names.add(SkillAlias.normalize(node.getCanonicalName()));
+        if (node.getAliases() != null && !node.getAliases().isBlank()) {
+            try {
+                for (JsonNode alias : objectMapper.readTree(node.getAliases())) {
+                    names.add(SkillAlias.normalize(alias.asText()));
+                }
+            } catch (IOException e) {
+                System.err.println("[SKILL-ALIASES] Unreadable aliases on skill node " + node.getSkillNodeId());
+            }
+        }
+        names.removeIf(name -> name.isEmpty() || name.length() > MAX_ALIAS_LENGTH);
+        return names;
+    }
+}
@@ -0,0 +1,79 @@
+package com.careermappro.repositories;
+
+import java.util.Locale;
+
+/**
+ * SQL dialects the native queries are written for: MySQL in development,
+ * PostgreSQL in production and H2 (MySQL mode) in tests.
+ * Renders the fragments that differ between them: upsert conflict clauses,
+ * column references inside them, and JSON predicates.
+ */
+public enum SqlDialect {
+
+    MYSQL, POSTGRESQL, H2;
+
+    /**
+     * Dialect for a JDBC DatabaseMetaData product name. Unknown products get MySQL syntax.
+     */
+    public static SqlDialect fromProductName(String productName) {
+        String name = productName == null ? "" : productName.toLowerCase(Locale.ROOT);
+        if (name.contains("postgres")) {
+            return POSTGRESQL;
+        }
+        if (name.contains("h2")) {
+            return H2;
+        }
+        return MYSQL;
+    }
+
+    /**
+     * The existing row's value of a column inside an upsert's update assignments
+     */
+    public String current(String table, String column) {
+        return this == POSTGRESQL ? table + "." + column : column;
+    }
+
+    /**
+     * The value the insert tried to write, inside an upsert's update assignments
+     */
+    public String incoming(String column) {
+        return this == POSTGRESQL ? "EXCLUDED." + column : "VALUES(" + column + ")";
+    }
+
+    /**
+     * Conflict clause appended to an INSERT. With no assignments the existing row is kept as is.
+     */
+    public String onConflict(String keyColumns, String firstKeyColumn, String assignments) {
+        if (this == POSTGRESQL) {
+            return assignments.isEmpty()
+                ? " ON CONFLICT (" + keyColumns + ") DO NOTHING"
+                : " ON CONFLICT (" + keyColumns + ") DO UPDATE SET " + assignments;
+        }
+        return assignments.isEmpty()
+            ? " ON DUPLICATE KEY UPDATE " + firstKeyColumn + " = " + firstKeyColumn
+            : " ON DUPLICATE KEY UPDATE " + assignments;
+    }
+
+    /**
+     * Predicate: the JSON array in column contains the string bound to param.
+     * H2 has no JSON containment, so tests fall back to matching the quoted text.
+     */
+    public String jsonArrayContains(String column, String param) {
+        return switch (this) {
+            case MYSQL -> "JSON_CONTAINS(" + column + ", JSON_QUOTE(" + param + "))";
+            case POSTGRESQL -> "CAST(" + column + " AS jsonb) @> jsonb_build_array(CAST(" + param + " AS text))";
+            case H2 -> "CAST(" + column + " AS VARCHAR) LIKE CONCAT('%\"', " + param + ", '\"%')";
+        };
+    }
+
+    /**
+     * Integer value of a top-level field of a JSON object column (NULL when absent; always NULL on H2)
+     */
+    public String jsonIntField(String column, String field) {
+        return switch (this) {
+            case MYSQL -> "CAST(JSON_UNQUOTE(JSON_EXTRACT(" + column + ", '$." + field + "')) AS UNSIGNED)";
+            case POSTGRESQL -> "CAST(" + column + " ->> '" + field + "' AS INTEGER)";
+            case H2 -> "CAST(NULL AS INTEGER)";
+        };
+    }
+}
@@ -0,0 +1,121 @@
+package com.careermappro.repositories;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * An INSERT that resolves a unique-key conflict in the same statement, rendered
+ * per SqlDialect as ON DUPLICATE KEY UPDATE or ON CONFLICT ... DO UPDATE / DO NOTHING.
+ *
+ * Update expressions are written once for all dialects: {col} is the existing row's
+ * value and {new.col} the value the insert tried to write. They may contain ? parameters,
+ * bound after the inserted values. MySQL applies assignments left to right, so an
+ * expression must not read a column assigned before it.
+ *
+ * Instances are immutable; declare them as constants and run them through NativeSqlTemplate.
+ */
+public final class Upsert {
+
+    private static final Pattern COLUMN_REF = Pattern.compile("\\{(new\\.)?([a-z_]+)}");
+
+    private final String table;
+    private final List<String> columns;
+    private final List<String> keyColumns;
+    private final Map<String, String> updates;
+
+    private Upsert(String table, List<String> columns, List<String> keyColumns, Map<String, String> updates) {
+        this.table = table;
+        this.columns = List.copyOf(columns);
+        this.keyColumns = List.copyOf(keyColumns);
+        this.updates = new LinkedHashMap<>(updates);
+    }
+
+    public static Builder into(String table) {
+        return new Builder(table);
+    }
+
+    public static class Builder {
+        private final String table;
+        private final List<String> columns = new ArrayList<>();
+        private final List<String> keyColumns = new ArrayList<>();
+        private final Map<String, String> updates = new LinkedHashMap<>();
+
+        private Builder(String table) {
+            this.table = table;
+        }
+
+        /**
+         * Inserted columns, in the order their values are bound
+         */
+        public Builder columns(String... names) {
+            columns.addAll(List.of(names));
+            return this;
+        }
+
+        /**
+         * Columns of the unique key the conflict is detected on
+         */
+        public Builder key(String... names) {
+            keyColumns.addAll(List.of(names));
+            return this;
+        }
+
+        /**
+         * On conflict, set column to expression. Without any, the existing row is kept.
+         */
+        public Builder set(String column, String expression) {
+            updates.put(column, expression);
+            return this;
+        }
+
+        /**
+         * On conflict, overwrite each column with the inserted value
+         */
+        public Builder setIncoming(String... names) {
+            for (String name : names) {
+                updates.put(name, "{new." + name + "}");
+            }
+            return this;
+        }
+
+        public Upsert build() {
+            if (columns.isEmpty() || keyColumns.isEmpty()) {
+                throw new IllegalStateException("Upsert into " + table + " needs columns and a key");
+            }
+            return new Upsert(table, columns, keyColumns, updates);
+        }
+    }
+
+    public String toSql(SqlDialect dialect) {
+        StringBuilder sql = new StringBuilder("INSERT INTO ").append(table)
+            .append(" (").append(String.join(", ", columns)).append(") VALUES (")
+            .append(String.join(", ", Collections.nCopies(columns.size(), "?"))).append(")");
+
+        List<String> assignments = new ArrayList<>(updates.size());
+        updates.forEach((column, expression) -> assignments.add(column + " = " + render(expression, dialect)));
+        sql.append(dialect.onConflict(String.join(", ", keyColumns), keyColumns.get(0), String.join(", ", assignments)));
+        return sql.toString();
+    }
+
+    private String render(String expression, SqlDialect dialect) {
+        Matcher matcher = COLUMN_REF.matcher(expression);
+        StringBuilder rendered = new StringBuilder();
+        while (matcher.find()) {
+            String column = matcher.group(2);
+            String reference = matcher.group(1) != null ? dialect.incoming(column) : dialect.current(table, column);
+            matcher.appendReplacement(rendered, Matcher.quoteReplacement(reference));
+        }
+        matcher.appendTail(rendered);
+        return rendered.toString();
+    }
+
+    @Override
+    public String toString() {
+        return "Upsert(" + table + ")";
+    }
+}
@@ -2,10 +2,15 @@ package com.careermappro.repositories;
 
 import com.careermappro.entities.UserAchievement;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface UserAchievementRepository extends JpaRepository<UserAchievement, Integer> {
-    List<UserAchievement> findByUserId(Integer userId);
+
+    // user and achievement are EAGER; fetch them in the same statement instead of one select per row
+    @Query("SELECT ua FROM UserAchievement ua JOIN FETCH ua.user JOIN FETCH ua.achievement WHERE ua.user.id = :userId")
+    List<UserAchievement> findByUserId(@Param("userId") Integer userId);
 }
@@ -0,0 +1,23 @@
+package com.careermappro.repositories;
+
+import com.careermappro.entities.UserProgressCounters;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface UserProgressCountersRepository extends JpaRepository<UserProgressCounters, Integer>,
+        UserProgressCountersRepositoryCustom {
+
+    /**
+     * Load counters with a row lock so concurrent events for the same user apply in sequence
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM UserProgressCounters c WHERE c.userId = :userId")
+    Optional<UserProgressCounters> findForUpdate(@Param("userId") Integer userId);
+}
@@ -0,0 +1,16 @@
+package com.careermappro.repositories;
+
+import com.careermappro.entities.UserProgressCounters;
+
+/**
+ * Insert-if-absent creation of a user's counters row, so two first events for
+ * the same user can't collide on the user_id primary key
+ */
+public interface UserProgressCountersRepositoryCustom {
+
+    /**
+     * Insert backfilled counters. If another transaction created the row first, the
+     * monotonic counts keep the larger snapshot and goals/streak take the incoming values.
+     */
+    void insertBackfill(UserProgressCounters counters);
+}
@@ -0,0 +1,28 @@
+package com.careermappro.repositories;
+
+import com.careermappro.entities.UserProgressCounters;
+
+import java.sql.Timestamp;
+
+public class UserProgressCountersRepositoryCustomImpl implements UserProgressCountersRepositoryCustom {
+
+    private static final Upsert BACKFILL = Upsert.into("user_progress_counters")
+        .columns("user_id", "quizzes_completed", "skills_tracked", "goals_set", "streak", "updated_at")
+        .key("user_id")
+        .set("quizzes_completed", "GREATEST({quizzes_completed}, {new.quizzes_completed})")
+        .set("skills_tracked", "GREATEST({skills_tracked}, {new.skills_tracked})")
+        .setIncoming("goals_set", "streak", "updated_at")
+        .build();
+
+    private final NativeSqlTemplate nativeSql;
+
+    public UserProgressCountersRepositoryCustomImpl(NativeSqlTemplate nativeSql) {
+        this.nativeSql = nativeSql;
+    }
+
+    @Override
+    public void insertBackfill(UserProgressCounters counters) {
+        nativeSql.upsert(BACKFILL, counters.getUserId(), counters.getQuizzesCompleted(), counters.getSkillsTracked(),
+            counters.getGoalsSet(), counters.getStreak(), Timestamp.valueOf(counters.getUpdatedAt()));
+    }
+}
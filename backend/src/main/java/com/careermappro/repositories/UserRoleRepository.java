@@ -2,6 +2,8 @@ package com.careermappro.repositories;
 
 import com.careermappro.entities.UserRole;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,5 +12,7 @@ import java.util.Optional;
 @Repository
 public interface UserRoleRepository extends JpaRepository<UserRole, Integer> {
     List<UserRole> findByUserId(Integer userId);
-    Optional<UserRole> findByUserIdAndIsPrimary(Integer userId, Boolean isPrimary);
+
+    @Query("SELECT ur FROM UserRole ur JOIN FETCH ur.user JOIN FETCH ur.role WHERE ur.user.id = :userId AND ur.isPrimary = :isPrimary")
+    Optional<UserRole> findByUserIdAndIsPrimary(@Param("userId") Integer userId, @Param("isPrimary") Boolean isPrimary);
 }
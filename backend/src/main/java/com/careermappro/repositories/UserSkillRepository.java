@@ -10,7 +10,10 @@ import java.util.Optional;
 
 public interface UserSkillRepository extends JpaRepository<UserSkill, Integer> {
 
-    List<UserSkill> findByUserId(Integer userId);
+    @Query("SELECT us FROM UserSkill us JOIN FETCH us.skill WHERE us.userId = :userId")
+    List<UserSkill> findByUserId(@Param("userId") Integer userId);
+
+    long countByUserId(Integer userId);
 
     @Query("SELECT us FROM UserSkill us WHERE us.userId = :userId AND us.skill.skillId = :skillId")
     Optional<UserSkill> findByUserIdAndSkillId(@Param("userId") Integer userId, @Param("skillId") Integer skillId);
@@ -11,7 +11,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserSkillStateRepository extends JpaRepository<UserSkillState, Integer> {
+public interface UserSkillStateRepository extends JpaRepository<UserSkillState, Integer>, UserSkillStateRepositoryCustom {
 
     Optional<UserSkillState> findByUserIdAndSkillId(Integer userId, Integer skillId);
 
@@ -27,4 +27,18 @@ public interface UserSkillStateRepository extends JpaRepository<UserSkillState,
 
     @Query("SELECT u FROM UserSkillState u WHERE u.userId = :userId AND u.skillId IN :skillIds")
     List<UserSkillState> findByUserIdAndSkillIdIn(Integer userId, List<Integer> skillIds);
+
+    /**
+     * Lightweight (skillId, status) rows for overlaying a user's progress on a path
+     */
+    @Query("SELECT u.skillId AS skillId, u.status AS status FROM UserSkillState u WHERE u.userId = :userId AND u.skillId IN :skillIds")
+    List<SkillStatusView> findStatusesByUserIdAndSkillIdIn(Integer userId, List<Integer> skillIds);
+
+    @Query("SELECT u.skillId FROM UserSkillState u WHERE u.userId = :userId AND u.status = :status")
+    List<Integer> findSkillIdsByUserIdAndStatus(Integer userId, SkillStatus status);
+
+    interface SkillStatusView {
+        Integer getSkillId();
+        SkillStatus getStatus();
+    }
 }
@@ -0,0 +1,45 @@
+package com.careermappro.repositories;
+
+import com.careermappro.entities.UserSkillState.SkillStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Single-statement writes to user_skill_states, keyed on (user_id, skill_id).
+ * Each one inserts the state if the user has none yet and otherwise updates it in
+ * place, so concurrent first writes can't collide on the unique key.
+ */
+public interface UserSkillStateRepositoryCustom {
+
+    /**
+     * High-trust evidence: UNSEEN -> INFERRED, INFERRED/ACTIVE -> PROVED. Confidence is
+     * raised to at least the given value, the score added and the decay clock restarted.
+     */
+    void applyStrongEvidence(Integer userId, Integer skillId, double confidence, double evidenceScore,
+                             LocalDateTime at, LocalDateTime staleAt);
+
+    /**
+     * Medium evidence: UNSEEN -> INFERRED, confidence raised to at least the given value, score added
+     */
+    void applyMediumEvidence(Integer userId, Integer skillId, double confidence, double evidenceScore,
+                             LocalDateTime at);
+
+    /**
+     * Evidence too weak to count: the state is only created (UNSEEN) or touched
+     */
+    void touch(Integer userId, Integer skillId, LocalDateTime at);
+
+    /**
+     * Session result: a new state starts at insertStatus, an existing one moves to updateStatus;
+     * either way confidence becomes the given value
+     */
+    void upsertSessionResult(Integer userId, Integer skillId, double confidence,
+                             SkillStatus insertStatus, SkillStatus updateStatus, LocalDateTime at);
+
+    /**
+     * PROVED states for every skill the user has no state for yet, as one JDBC batch.
+     * Existing states are left as they are.
+     */
+    void insertProvedIfAbsent(Integer userId, Collection<Integer> skillIds, double confidence, LocalDateTime at);
+}
@@ -0,0 +1,156 @@
+package com.careermappro.repositories;
+
+import com.careermappro.entities.UserSkillState;
+import com.careermappro.entities.UserSkillState.SkillStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Native upserts behind UserSkillStateRepositoryCustom. The statements bypass the
+ * persistence context, so pending changes are flushed first and any managed copy of
+ * a written state is detached afterwards; the next read loads the new row.
+ * user_skill_states' unique (user_id, skill_id) key is what the conflict is detected on.
+ */
+public class UserSkillStateRepositoryCustomImpl implements UserSkillStateRepositoryCustom {
+
+    private static final String TABLE = "user_skill_states";
+
+    private static final String PROMOTE_STRONG =
+        "CASE WHEN {status} IN ('INFERRED', 'ACTIVE') THEN 'PROVED' " +
+        "WHEN {status} = 'UNSEEN' THEN 'INFERRED' ELSE {status} END";
+
+    private static final String PROMOTE_MEDIUM =
+        "CASE WHEN {status} = 'UNSEEN' THEN 'INFERRED' ELSE {status} END";
+
+    private static final Upsert STRONG_EVIDENCE = Upsert.into(TABLE)
+        .columns("user_id", "skill_id", "status", "confidence", "evidence_score", "last_evidence_at", "stale_at", "updated_at")
+        .key("user_id", "skill_id")
+        .set("status", PROMOTE_STRONG)
+        .set("confidence", "GREATEST({confidence}, {new.confidence})")
+        .set("evidence_score", "COALESCE({evidence_score}, 0) + {new.evidence_score}")
+        .setIncoming("last_evidence_at", "stale_at", "updated_at")
+        .build();
+
+    private static final Upsert MEDIUM_EVIDENCE = Upsert.into(TABLE)
+        .columns("user_id", "skill_id", "status", "confidence", "evidence_score", "last_evidence_at", "updated_at")
+        .key("user_id", "skill_id")
+        .set("status", PROMOTE_MEDIUM)
+        .set("confidence", "GREATEST({confidence}, {new.confidence})")
+        .set("evidence_score", "COALESCE({evidence_score}, 0) + {new.evidence_score}")
+        .setIncoming("last_evidence_at", "updated_at")
+        .build();
+
+    private static final Upsert TOUCH = Upsert.into(TABLE)
+        .columns("user_id", "skill_id", "status", "confidence", "evidence_score", "updated_at")
+        .key("user_id", "skill_id")
+        .setIncoming("updated_at")
+        .build();
+
+    private static final Upsert SESSION_RESULT = Upsert.into(TABLE)
+        .columns("user_id", "skill_id", "status", "confidence", "updated_at")
+        .key("user_id", "skill_id")
+        .set("status", "?")
+        .setIncoming("confidence", "updated_at")
+        .build();
+
+    private static final Upsert PROVED_IF_ABSENT = Upsert.into(TABLE)
+        .columns("user_id", "skill_id", "status", "confidence", "evidence_score", "last_evidence_at", "updated_at")
+        .key("user_id", "skill_id")
+        .build();
+
+    private final NativeSqlTemplate nativeSql;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public UserSkillStateRepositoryCustomImpl(NativeSqlTemplate nativeSql) {
+        this.nativeSql = nativeSql;
+    }
+
+    @Override
+    public void applyStrongEvidence(Integer userId, Integer skillId, double confidence, double evidenceScore,
+                                    LocalDateTime at, LocalDateTime staleAt) {
+        flushPending();
+        Timestamp now = Timestamp.valueOf(at);
+        nativeSql.upsert(STRONG_EVIDENCE, userId, skillId, SkillStatus.INFERRED.name(), confidence, evidenceScore,
+            now, Timestamp.valueOf(staleAt), now);
+        detachManaged(userId, List.of(skillId));
+    }
+
+    @Override
+    public void applyMediumEvidence(Integer userId, Integer skillId, double confidence, double evidenceScore,
+                                    LocalDateTime at) {
+        flushPending();
+        Timestamp now = Timestamp.valueOf(at);
+        nativeSql.upsert(MEDIUM_EVIDENCE, userId, skillId, SkillStatus.INFERRED.name(), confidence, evidenceScore,
+            now, now);
+        detachManaged(userId, List.of(skillId));
+    }
+
+    @Override
+    public void touch(Integer userId, Integer skillId, LocalDateTime at) {
+        flushPending();
+        nativeSql.upsert(TOUCH, userId, skillId, SkillStatus.UNSEEN.name(), 0.0, 0.0, Timestamp.valueOf(at));
+        detachManaged(userId, List.of(skillId));
+    }
+
+    @Override
+    public void upsertSessionResult(Integer userId, Integer skillId, double confidence,
+                                    SkillStatus insertStatus, SkillStatus updateStatus, LocalDateTime at) {
+        flushPending();
+        nativeSql.upsert(SESSION_RESULT, userId, skillId, insertStatus.name(), confidence, Timestamp.valueOf(at),
+            updateStatus.name());
+        detachManaged(userId, List.of(skillId));
+    }
+
+    @Override
+    public void insertProvedIfAbsent(Integer userId, Collection<Integer> skillIds, double confidence, LocalDateTime at) {
+        if (skillIds.isEmpty()) {
+            return;
+        }
+        flushPending();
+        Timestamp now = Timestamp.valueOf(at);
+        List<Object[]> rows = new ArrayList<>(skillIds.size());
+        for (Integer skillId : skillIds) {
+            rows.add(new Object[] { userId, skillId, SkillStatus.PROVED.name(), confidence, confidence, now, now });
+        }
+        nativeSql.batchUpsert(PROVED_IF_ABSENT, rows);
+        detachManaged(userId, skillIds);
+    }
+
+    private void flushPending() {
+        if (entityManager.isJoinedToTransaction()) {
+            entityManager.flush();
+        }
+    }
+
+    /**
+     * Detach the managed states for these skills, found through the persistence context's
+     * natural-id resolutions so neither the other managed entities nor the database are touched
+     */
+    private void detachManaged(Integer userId, Collection<Integer> skillIds) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        PersistenceContext context = session.getPersistenceContextInternal();
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(UserSkillState.class);
+        for (Integer skillId : skillIds) {
+            Object naturalId = persister.getNaturalIdMapping().normalizeInput(Map.of("userId", userId, "skillId", skillId));
+            Object stateId = context.getNaturalIdResolutions().findCachedIdByNaturalId(naturalId, persister);
+            if (stateId != null) {
+                Object managed = context.getEntity(session.generateEntityKey(stateId, persister));
+                if (managed != null) {
+                    entityManager.detach(managed);
+                }
+            }
+        }
+    }
+}
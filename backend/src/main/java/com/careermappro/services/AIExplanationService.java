@@ -1,19 +1,13 @@
 package com.careermappro.services;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.beans.factory.annotation.Value;
+import com.careermappro.util.SingleFlight;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
-import java.io.OutputStream;
-import java.net.HttpURLConnection;
-import java.net.URL;
-import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.Scanner;
 
 /**
  * AIExplanationService
@@ -28,13 +22,15 @@ import java.util.Scanner;
 @Service
 public class AIExplanationService {
 
-    @Value("${openai.api.key:#{null}}")
-    private String openaiApiKey;
+    private static final Duration HEDGE_AFTER = Duration.ofSeconds(8);
 
-    private final ObjectMapper objectMapper;
+    private final OpenAiClient openAiClient;
 
-    public AIExplanationService() {
-        this.objectMapper = new ObjectMapper();
+    // A cohort opening the same node at once shares one completion
+    private final SingleFlight<String, Map<String, Object>> inFlight = new SingleFlight<>();
+
+    public AIExplanationService(OpenAiClient openAiClient) {
+        this.openAiClient = openAiClient;
     }
 
     /**
@@ -43,7 +39,7 @@ public class AIExplanationService {
     @SuppressWarnings("unchecked")
     public Map<String, Object> generateExplanation(Map<String, Object> skillData) {
         // Validate API key
-        if (openaiApiKey == null || openaiApiKey.isEmpty() || openaiApiKey.equals("your-api-key-here")) {
+        if (!openAiClient.isConfigured()) {
             throw new IllegalStateException("OpenAI API key not configured. Set OPENAI_API_KEY environment variable.");
         }
 
@@ -53,20 +49,56 @@ public class AIExplanationService {
         String proofRequirement = (String) skillData.get("proofRequirement");
         List<Map<String, Object>> learnResources = (List<Map<String, Object>>) skillData.get("learnResources");
 
+        String key = coalescingKey(skillName, whyItMatters, proofRequirement, learnResources);
+        // Callers get their own copy of the shared result
+        return new HashMap<>(inFlight.execute(key, () ->
+            explain(skillName, whyItMatters, proofRequirement, learnResources)));
+    }
+
+    private Map<String, Object> explain(String skillName, String whyItMatters, String proofRequirement,
+                                        List<Map<String, Object>> learnResources) {
         // Build comprehensive prompt
         String prompt = buildExplanationPrompt(skillName, whyItMatters, proofRequirement, learnResources);
 
         // Call OpenAI API
-        String explanation = callOpenAI(prompt);
+        Map<String, Object> response = new HashMap<>();
+        try {
+            response.put("explanation", callOpenAI(prompt));
+            response.put("fallback", false);
+        } catch (OpenAiClient.UnavailableException e) {
+            System.err.println("[AI-EXPLAIN] " + e.getMessage() + ", serving template explanation");
+            response.put("explanation", fallbackExplanation(skillName, whyItMatters, proofRequirement, learnResources));
+            response.put("fallback", true);
+        }
 
         // Return structured response
-        Map<String, Object> response = new HashMap<>();
         response.put("success", true);
         response.put("skillName", skillName);
-        response.put("explanation", explanation);
         return response;
     }
 
+    /**
+     * Everything the prompt is built from, case- and whitespace-normalized
+     */
+    private static String coalescingKey(String skillName, String whyItMatters, String proofRequirement,
+                                        List<Map<String, Object>> learnResources) {
+        StringBuilder key = new StringBuilder()
+            .append(normalize(skillName)).append('\u0001')
+            .append(normalize(whyItMatters)).append('\u0001')
+            .append(normalize(proofRequirement));
+        if (learnResources != null) {
+            for (Map<String, Object> resource : learnResources) {
+                key.append('\u0001').append(normalize(String.valueOf(resource.get("title"))))
+                   .append('|').append(normalize(String.valueOf(resource.get("type"))));
+            }
+        }
+        return key.toString();
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
     /**
      * Build a comprehensive prompt for maximum retention and practical understanding
      */
@@ -134,64 +166,47 @@ public class AIExplanationService {
     }
 
     /**
-     * Call OpenAI API using standard Java HttpURLConnection
+     * Call OpenAI, hedging a slow first attempt since the user is waiting on the explanation
      */
     private String callOpenAI(String prompt) {
-        try {
-            // Build request body
-            Map<String, Object> requestBody = new HashMap<>();
-            requestBody.put("model", "gpt-4o-mini");
-            requestBody.put("messages", new Object[]{
-                Map.of(
-                    "role", "system",
-                    "content", "You are an expert technical educator who makes complex concepts stick. You use memorable analogies, real-world examples, and focus on what engineers actually need to know. Your explanations are concise, practical, and designed for 100% retention."
-                ),
-                Map.of(
-                    "role", "user",
-                    "content", prompt
-                )
-            });
-            requestBody.put("max_tokens", 2500);
-            requestBody.put("temperature", 0.7);
-
-            String jsonBody = objectMapper.writeValueAsString(requestBody);
-
-            // Create HTTP connection
-            URL url = new URL("https://api.openai.com/v1/chat/completions");
-            HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-            conn.setRequestMethod("POST");
-            conn.setRequestProperty("Content-Type", "application/json");
-            conn.setRequestProperty("Authorization", "Bearer " + openaiApiKey);
-            conn.setDoOutput(true);
-            conn.setConnectTimeout(30000);
-            conn.setReadTimeout(30000);
-
-            // Send request
-            try (OutputStream os = conn.getOutputStream()) {
-                byte[] input = jsonBody.getBytes(StandardCharsets.UTF_8);
-                os.write(input, 0, input.length);
-            }
-
-            // Read response
-            int responseCode = conn.getResponseCode();
-            if (responseCode != 200) {
-                try (Scanner scanner = new Scanner(conn.getErrorStream(), StandardCharsets.UTF_8)) {
-                    String errorBody = scanner.useDelimiter("\\A").hasNext() ? scanner.next() : "";
-                    throw new IOException("OpenAI API call failed: " + responseCode + " - " + errorBody);
-                }
-            }
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("model", "gpt-4o-mini");
+        requestBody.put("messages", List.of(
+            Map.of(
+                "role", "system",
+                "content", "You are an expert technical educator who makes complex concepts stick. You use memorable analogies, real-world examples, and focus on what engineers actually need to know. Your explanations are concise, practical, and designed for 100% retention."
+            ),
+            Map.of(
+                "role", "user",
+                "content", prompt
+            )
+        ));
+        requestBody.put("max_tokens", 2500);
+        requestBody.put("temperature", 0.7);
+
+        return openAiClient.completeHedged("skill_explanation", requestBody, HEDGE_AFTER);
+    }
 
-            String responseBody;
-            try (Scanner scanner = new Scanner(conn.getInputStream(), StandardCharsets.UTF_8)) {
-                responseBody = scanner.useDelimiter("\\A").hasNext() ? scanner.next() : "";
+    /**
+     * Served while OpenAI is unavailable: the node's own context and resources, no model output
+     */
+    private String fallbackExplanation(String skillName, String whyItMatters, String proofRequirement,
+                                       List<Map<String, Object>> learnResources) {
+        StringBuilder explanation = new StringBuilder();
+        explanation.append("## ").append(skillName).append("\n\n");
+        if (whyItMatters != null && !whyItMatters.isEmpty()) {
+            explanation.append("## Why it matters\n").append(whyItMatters).append("\n\n");
+        }
+        if (proofRequirement != null && !proofRequirement.isEmpty()) {
+            explanation.append("## How to prove it\n").append(proofRequirement).append("\n\n");
+        }
+        if (learnResources != null && !learnResources.isEmpty()) {
+            explanation.append("## Start with\n");
+            for (Map<String, Object> resource : learnResources) {
+                explanation.append("- ").append(resource.get("title"))
+                           .append(" (").append(resource.get("type")).append(")\n");
             }
-
-            // Parse response
-            JsonNode jsonResponse = objectMapper.readTree(responseBody);
-            return jsonResponse.get("choices").get(0).get("message").get("content").asText();
-
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to call OpenAI API: " + e.getMessage(), e);
         }
+        return explanation.toString();
     }
 }
@@ -0,0 +1,194 @@
+package com.careermappro.services;
+
+import com.careermappro.entities.Achievement;
+import com.careermappro.entities.Quiz;
+import com.careermappro.entities.User;
+import com.careermappro.entities.UserAchievement;
+import com.careermappro.entities.UserProgressCounters;
+import com.careermappro.events.CareerGoalChangedEvent;
+import com.careermappro.events.QuizCompletedEvent;
+import com.careermappro.events.SkillTrackedEvent;
+import com.careermappro.events.StreakUpdatedEvent;
+import com.careermappro.repositories.*;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * AchievementService
+ * Maintains per-user progress counters from domain events and unlocks
+ * achievements push-style as soon as a counter reaches its target.
+ * Listeners run after the publisher commits, in their own transaction, so a
+ * failure here can never roll back the quiz submit or goal change that fired it.
+ */
+@Service
+public class AchievementService {
+
+    private final UserProgressCountersRepository countersRepository;
+    private final AchievementRepository achievementRepository;
+    private final UserAchievementRepository userAchievementRepository;
+    private final UserRepository userRepository;
+    private final QuizRepository quizRepository;
+    private final UserSkillRepository userSkillRepository;
+    private final CareerGoalRepository careerGoalRepository;
+    private final XpWriteBehindService xpWriteBehindService;
+
+    // Achievement catalog only changes on deploy (seeded by DataInitializationService)
+    private volatile List<Achievement> catalog = List.of();
+
+    public AchievementService(
+        UserProgressCountersRepository countersRepository,
+        AchievementRepository achievementRepository,
+        UserAchievementRepository userAchievementRepository,
+        UserRepository userRepository,
+        QuizRepository quizRepository,
+        UserSkillRepository userSkillRepository,
+        CareerGoalRepository careerGoalRepository,
+        XpWriteBehindService xpWriteBehindService
+    ) {
+        this.countersRepository = countersRepository;
+        this.achievementRepository = achievementRepository;
+        this.userAchievementRepository = userAchievementRepository;
+        this.userRepository = userRepository;
+        this.quizRepository = quizRepository;
+        this.userSkillRepository = userSkillRepository;
+        this.careerGoalRepository = careerGoalRepository;
+        this.xpWriteBehindService = xpWriteBehindService;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onQuizCompleted(QuizCompletedEvent event) {
+        apply(event.userId(), "quiz", c -> c.setQuizzesCompleted(c.getQuizzesCompleted() + 1));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onSkillTracked(SkillTrackedEvent event) {
+        apply(event.userId(), "skill", c -> c.setSkillsTracked(c.getSkillsTracked() + 1));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onCareerGoalChanged(CareerGoalChangedEvent event) {
+        apply(event.userId(), "goal", c -> c.setGoalsSet(Math.max(0, c.getGoalsSet() + event.delta())));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void onStreakUpdated(StreakUpdatedEvent event) {
+        apply(event.userId(), "streak", c -> c.setStreak(event.streak()));
+    }
+
+    /**
+     * Counters for a user, backfilled from the source tables on first access
+     */
+    @Transactional
+    public UserProgressCounters getCounters(Integer userId) {
+        return countersRepository.findById(userId).orElseGet(() -> {
+            UserProgressCounters counters = backfill(userId);
+            for (String category : List.of("quiz", "skill", "goal", "streak")) {
+                unlockReached(userId, category, counters);
+            }
+            return counters;
+        });
+    }
+
+    public List<Achievement> getCatalog() {
+        List<Achievement> current = catalog;
+        if (current.isEmpty()) {
+            current = List.copyOf(achievementRepository.findAll());
+            catalog = current;
+        }
+        return current;
+    }
+
+    /**
+     * Progress (0-100) toward an achievement given the user's counters
+     */
+    public int progressFor(Achievement achievement, UserProgressCounters counters) {
+        int target = targetOf(achievement);
+        if (target <= 0) {
+            return 0;
+        }
+        return Math.min(100, (int) ((counters.valueFor(achievement.getCategory()) / (double) target) * 100));
+    }
+
+    private void apply(Integer userId, String category, Consumer<UserProgressCounters> change) {
+        UserProgressCounters counters = countersRepository.findForUpdate(userId).orElse(null);
+        if (counters == null) {
+            // Backfill counts from the source tables, which already include this change
+            counters = backfill(userId);
+        } else {
+            change.accept(counters);
+            counters.setUpdatedAt(LocalDateTime.now());
+            countersRepository.save(counters);
+        }
+        unlockReached(userId, category, counters);
+    }
+
+    /**
+     * Create the counters row from the source tables. Insert-if-absent, so a concurrent
+     * first event for the same user merges into the same row instead of failing.
+     */
+    private UserProgressCounters backfill(Integer userId) {
+        UserProgressCounters counters = new UserProgressCounters(userId);
+        counters.setQuizzesCompleted((int) quizRepository.countByUserIdAndStatus(userId, Quiz.QuizStatus.COMPLETED));
+        counters.setSkillsTracked((int) userSkillRepository.countByUserId(userId));
+        counters.setGoalsSet((int) careerGoalRepository.countByUserId(userId));
+        // users.streak lags behind the write-behind buffer; read the live value
+        XpWriteBehindService.Totals totals = xpWriteBehindService.current(userId);
+        counters.setStreak(totals != null ? totals.streak() : 0);
+        countersRepository.insertBackfill(counters);
+        return countersRepository.findForUpdate(userId).orElse(counters);
+    }
+
+    private void unlockReached(Integer userId, String category, UserProgressCounters counters) {
+        int value = counters.valueFor(category);
+        List<Achievement> reached = getCatalog().stream()
+            .filter(a -> category.equals(a.getCategory()))
+            .filter(a -> {
+                int target = targetOf(a);
+                return target > 0 && value >= target;
+            })
+            .toList();
+        if (reached.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, UserAchievement> existing = new HashMap<>();
+        for (UserAchievement ua : userAchievementRepository.findByUserId(userId)) {
+            existing.put(ua.getAchievement().getId(), ua);
+        }
+
+        User userRef = userRepository.getReferenceById(userId);
+        for (Achievement achievement : reached) {
+            UserAchievement userAch = existing.get(achievement.getId());
+            if (userAch != null && userAch.isUnlocked()) {
+                continue;
+            }
+            if (userAch == null) {
+                userAch = new UserAchievement(userRef, achievement, 100);
+            }
+            userAch.setProgress(100);
+            userAch.setUnlockedAt(LocalDateTime.now());
+            userAchievementRepository.save(userAch);
+
+            System.out.println(String.format("[ACHIEVEMENT] User %d unlocked '%s'", userId, achievement.getName()));
+        }
+    }
+
+    private int targetOf(Achievement achievement) {
+        try {
+            return Integer.parseInt(achievement.getUnlockCriteria());
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+}
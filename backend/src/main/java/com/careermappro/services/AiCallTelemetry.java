@@ -0,0 +1,198 @@
+package com.careermappro.services;
+
+import com.careermappro.util.MpscRingBuffer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * AiCallTelemetry
+ * Times every LLM call and records it in ai_calls without putting a database
+ * write on the request path: callers publish into a lock-free ring buffer and
+ * a scheduled writer drains it with JDBC batch inserts.
+ *
+ * If the buffer fills up (database down, extreme burst) records are dropped
+ * and counted rather than blocking the caller.
+ */
+@Service
+public class AiCallTelemetry {
+
+    public static final String STATUS_SUCCESS = "SUCCESS";
+    public static final String STATUS_ERROR = "ERROR";
+
+    public record CallRecord(String feature, String model, String prompt,
+                             long latencyMs, String status, String errorCode, Instant at) {}
+
+    public record FeatureStats(String feature, int calls, int errors, long p50, long p95, long p99) {}
+
+    private static final int BUFFER_CAPACITY = 8192;
+    private static final int DRAIN_BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL =
+        "INSERT INTO ai_calls (feature, model, prompt_hash, latency_ms, status, error_code, created_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String FEATURE_COUNTS_SQL =
+        "SELECT feature, COUNT(*), SUM(CASE WHEN status = '" + STATUS_ERROR + "' THEN 1 ELSE 0 END) " +
+        "FROM ai_calls WHERE created_at >= ? GROUP BY feature ORDER BY feature";
+
+    // The latency at a given rank, sorted by the database rather than in memory
+    private static final String LATENCY_AT_RANK_SQL =
+        "SELECT latency_ms FROM ai_calls WHERE feature = ? AND created_at >= ? " +
+        "ORDER BY latency_ms LIMIT 1 OFFSET ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final MpscRingBuffer<CallRecord> buffer = new MpscRingBuffer<>(BUFFER_CAPACITY);
+
+    public AiCallTelemetry(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * An in-flight call. Finish it exactly once with success() or failure().
+     */
+    public final class Call {
+        private final String feature;
+        private final String model;
+        private final String prompt;
+        private final long startNanos = System.nanoTime();
+        private boolean finished;
+
+        private Call(String feature, String model, String prompt) {
+            this.feature = feature;
+            this.model = model;
+            this.prompt = prompt;
+        }
+
+        public void success() {
+            finish(STATUS_SUCCESS, null);
+        }
+
+        public void failure(String errorCode) {
+            finish(STATUS_ERROR, errorCode);
+        }
+
+        public void failure(Throwable error) {
+            finish(STATUS_ERROR, error.getClass().getSimpleName());
+        }
+
+        private void finish(String status, String errorCode) {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            long latencyMs = (System.nanoTime() - startNanos) / 1_000_000;
+            buffer.offer(new CallRecord(feature, model, prompt, latencyMs, status, errorCode, Instant.now()));
+        }
+    }
+
+    public Call start(String feature, String model, String prompt) {
+        return new Call(feature, model, prompt);
+    }
+
+    @Scheduled(fixedDelayString = "${telemetry.ai.flush-interval-ms:2000}")
+    public void drain() {
+        List<CallRecord> records = new ArrayList<>(DRAIN_BATCH_SIZE);
+        while (buffer.drainTo(records, DRAIN_BATCH_SIZE) > 0) {
+            write(records);
+            records.clear();
+        }
+    }
+
+    @PreDestroy
+    public void drainOnShutdown() {
+        drain();
+    }
+
+    private void write(List<CallRecord> records) {
+        List<Object[]> batch = new ArrayList<>(records.size());
+        for (CallRecord record : records) {
+            batch.add(new Object[] {
+                truncate(record.feature(), 50),
+                truncate(record.model(), 50),
+                // Hashing happens here on the writer thread, not on the caller's
+                sha256(record.prompt()),
+                (int) Math.min(Integer.MAX_VALUE, record.latencyMs()),
+                record.status(),
+                truncate(record.errorCode(), 50),
+                Timestamp.from(record.at())
+            });
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        } catch (Exception e) {
+            // Telemetry is best effort; never retry into a failing database
+            System.err.println("[AI-TELEMETRY] Failed to write " + batch.size() + " records: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Latency percentiles and error counts per feature for calls since the given time.
+     * One grouped count, then one indexed lookup per feature and percentile; rows are never loaded.
+     */
+    public List<FeatureStats> statsSince(Instant since) {
+        Timestamp from = Timestamp.from(since);
+        List<Object[]> counts = jdbcTemplate.query(FEATURE_COUNTS_SQL,
+            (rs, rowNum) -> new Object[] { rs.getString(1), rs.getInt(2), rs.getInt(3) }, from);
+
+        List<FeatureStats> stats = new ArrayList<>(counts.size());
+        for (Object[] row : counts) {
+            String feature = (String) row[0];
+            int calls = (Integer) row[1];
+            stats.add(new FeatureStats(
+                feature,
+                calls,
+                (Integer) row[2],
+                percentile(feature, from, calls, 50),
+                percentile(feature, from, calls, 95),
+                percentile(feature, from, calls, 99)
+            ));
+        }
+        return stats;
+    }
+
+    public int getPending() {
+        return buffer.size();
+    }
+
+    public long getDropped() {
+        return buffer.getDropped();
+    }
+
+    /**
+     * Nearest-rank percentile of a feature's latencies in the window
+     */
+    private long percentile(String feature, Timestamp from, int calls, int p) {
+        if (calls == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p / 100.0 * calls);
+        List<Long> latency = jdbcTemplate.query(LATENCY_AT_RANK_SQL, (rs, rowNum) -> rs.getLong(1),
+            feature, from, Math.max(0, rank - 1));
+        return latency.isEmpty() ? 0 : latency.get(0);
+    }
+
+    private static String truncate(String value, int max) {
+        return value == null || value.length() <= max ? value : value.substring(0, max);
+    }
+
+    private static String sha256(String text) {
+        if (text == null) {
+            return null;
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+}
@@ -16,10 +16,15 @@ public class AuthService {
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
     private final BCryptPasswordEncoder passwordEncoder;
+    private final LeaderboardService leaderboardService;
+    private final XpWriteBehindService xpWriteBehindService;
 
-    public AuthService(UserRepository userRepository, JwtUtil jwtUtil) {
+    public AuthService(UserRepository userRepository, JwtUtil jwtUtil, LeaderboardService leaderboardService,
+                       XpWriteBehindService xpWriteBehindService) {
         this.userRepository = userRepository;
         this.jwtUtil = jwtUtil;
+        this.leaderboardService = leaderboardService;
+        this.xpWriteBehindService = xpWriteBehindService;
         this.passwordEncoder = new BCryptPasswordEncoder();
     }
 
@@ -50,6 +55,7 @@ public class AuthService {
         user.setPassword(hashedPassword);
 
         user = userRepository.save(user);
+        leaderboardService.updateProfile(user);
 
         // Generate JWT token
         String token = jwtUtil.generateToken(user.getId(), user.getEmail(), user.getName());
@@ -120,9 +126,11 @@ public class AuthService {
         response.put("userId", user.getId());
         response.put("name", user.getName());
         response.put("email", user.getEmail());
-        response.put("xp", user.getXp());
-        response.put("level", user.getLevel());
-        response.put("streak", user.getStreak());
+        // Include XP/streak changes still waiting in the write-behind buffer
+        XpWriteBehindService.Totals totals = xpWriteBehindService.current(userId);
+        response.put("xp", totals != null ? totals.xp() : user.getXp());
+        response.put("level", totals != null ? totals.level() : user.getLevel());
+        response.put("streak", totals != null ? totals.streak() : user.getStreak());
 
         return response;
     }
@@ -1,8 +1,11 @@
 package com.careermappro.services;
 
 import com.careermappro.entities.CareerGoal;
+import com.careermappro.events.CareerGoalChangedEvent;
 import com.careermappro.repositories.CareerGoalRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -11,17 +14,23 @@ public class CareerGoalService {
 
     private final CareerGoalRepository repo;
     private final AnalyticsService analyticsService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public CareerGoalService(CareerGoalRepository repo, AnalyticsService analyticsService) {
+    public CareerGoalService(CareerGoalRepository repo, AnalyticsService analyticsService,
+                             ApplicationEventPublisher eventPublisher) {
         this.repo = repo;
         this.analyticsService = analyticsService;
+        this.eventPublisher = eventPublisher;
     }
 
     public List<CareerGoal> getUserGoals(Integer userId) {
         return repo.findByUserId(userId);
     }
 
+    @Transactional
     public CareerGoal save(CareerGoal goal) {
+        boolean isNew = goal.getId() == null;
+
         // Auto-calculate readiness based on user's skills and goal description
         if (goal.getUserId() != null && goal.getGoal() != null) {
             double calculatedReadiness = analyticsService.calculateGoalReadiness(
@@ -31,11 +40,21 @@ public class CareerGoalService {
             goal.setReadiness(calculatedReadiness);
         }
 
-        return repo.save(goal);
+        CareerGoal saved = repo.save(goal);
+        if (isNew && saved.getUserId() != null) {
+            eventPublisher.publishEvent(new CareerGoalChangedEvent(saved.getUserId(), 1));
+        }
+        return saved;
     }
 
+    @Transactional
     public void delete(Integer id) {
-        repo.deleteById(id);
+        repo.findById(id).ifPresent(goal -> {
+            repo.delete(goal);
+            if (goal.getUserId() != null) {
+                eventPublisher.publishEvent(new CareerGoalChangedEvent(goal.getUserId(), -1));
+            }
+        });
     }
 
     public CareerGoal setPrimaryGoal(Integer goalId, Integer userId) {
@@ -11,6 +11,7 @@ import com.careermappro.repositories.CareerRoleRepository;
 import com.careermappro.repositories.DomainRepository;
 import com.careermappro.repositories.RoleRepository;
 import com.careermappro.repositories.RoleSkillRepository;
+import com.careermappro.repositories.SkillNodeRepository;
 import com.careermappro.repositories.SkillRepository;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Service;
@@ -27,6 +28,7 @@ public class DataInitializationService implements CommandLineRunner {
     private final RoleSkillRepository roleSkillRepository;
     private final DomainRepository domainRepository;
     private final CareerRoleRepository careerRoleRepository;
+    private final SkillNodeRepository skillNodeRepository;
 
     public DataInitializationService(
         AchievementRepository achievementRepository,
@@ -34,7 +36,8 @@ public class DataInitializationService implements CommandLineRunner {
         SkillRepository skillRepository,
         RoleSkillRepository roleSkillRepository,
         DomainRepository domainRepository,
-        CareerRoleRepository careerRoleRepository
+        CareerRoleRepository careerRoleRepository,
+        SkillNodeRepository skillNodeRepository
     ) {
         this.achievementRepository = achievementRepository;
         this.roleRepository = roleRepository;
@@ -42,6 +45,7 @@ public class DataInitializationService implements CommandLineRunner {
         this.roleSkillRepository = roleSkillRepository;
         this.domainRepository = domainRepository;
         this.careerRoleRepository = careerRoleRepository;
+        this.skillNodeRepository = skillNodeRepository;
     }
 
     @Override
@@ -132,6 +136,12 @@ public class DataInitializationService implements CommandLineRunner {
         if (domainRepository.count() == 0) {
             initializeDomainsAndCareerRoles();
         }
+
+        // Skill nodes seeded by SQL migrations have no skill_aliases rows yet
+        int aliased = skillNodeRepository.syncMissingAliases();
+        if (aliased > 0) {
+            System.out.println("✅ Indexed aliases for " + aliased + " skill nodes");
+        }
     }
 
     private void initializeDomainsAndCareerRoles() {
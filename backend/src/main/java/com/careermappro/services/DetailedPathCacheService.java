@@ -0,0 +1,162 @@
+package com.careermappro.services;
+
+import com.careermappro.entities.CareerRole;
+import com.careermappro.entities.SkillAlias;
+import com.careermappro.entities.UserSkillState.SkillStatus;
+import com.careermappro.events.SkillNodesChangedEvent;
+import com.careermappro.models.DetailedPathNode;
+import com.careermappro.repositories.CareerRoleRepository;
+import com.careermappro.repositories.SkillNodeRepository;
+import com.careermappro.repositories.UserSkillStateRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DetailedPathCacheService
+ * Caches the generated detailed path per (role, template version) - the graph is
+ * identical for every user - and applies each user's progress as a thin overlay
+ * computed from one bulk UserSkillState query.
+ *
+ * Template node ids are local to their template, so a node is linked to a skill only
+ * when its name equals that skill's canonical name (case-insensitive) and no other
+ * node in the path links to the same skill. Unlinked nodes carry no user state and
+ * get no probe session; partial-name matches are deliberately not linked, since one
+ * skill would then mark several different nodes completed.
+ */
+@Service
+public class DetailedPathCacheService {
+
+    private record CacheKey(Integer roleId, int templateVersion) {}
+
+    /**
+     * skillIdByNodeId maps template node ids to skill_nodes ids, for the nodes that resolve to one
+     */
+    public record CachedPath(Integer roleId, String roleName, List<DetailedPathNode> nodes,
+                             Map<Integer, Integer> skillIdByNodeId) {
+
+        public Integer skillIdFor(DetailedPathNode node) {
+            return skillIdByNodeId.get(node.getSkillNodeId());
+        }
+    }
+
+    /**
+     * Per-user status for a cached path, by template node id. focusNode is the first node the user has not completed.
+     */
+    public record PathOverlay(Set<Integer> completedNodeIds, Set<Integer> activeNodeIds, DetailedPathNode focusNode) {}
+
+    private final OpenAIService openAIService;
+    private final PathTemplateCatalog pathTemplateCatalog;
+    private final CareerRoleRepository careerRoleRepository;
+    private final SkillNodeRepository skillNodeRepository;
+    private final UserSkillStateRepository userSkillStateRepository;
+
+    private final Map<CacheKey, CachedPath> cache = new ConcurrentHashMap<>();
+
+    public DetailedPathCacheService(OpenAIService openAIService,
+                                    PathTemplateCatalog pathTemplateCatalog,
+                                    CareerRoleRepository careerRoleRepository,
+                                    SkillNodeRepository skillNodeRepository,
+                                    UserSkillStateRepository userSkillStateRepository) {
+        this.openAIService = openAIService;
+        this.pathTemplateCatalog = pathTemplateCatalog;
+        this.careerRoleRepository = careerRoleRepository;
+        this.skillNodeRepository = skillNodeRepository;
+        this.userSkillStateRepository = userSkillStateRepository;
+    }
+
+    /**
+     * Shared path graph for a role, generated on first request
+     */
+    public CachedPath getPath(Integer roleId) {
+        CacheKey key = new CacheKey(roleId, pathTemplateCatalog.getVersion());
+        CachedPath cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CareerRole role = careerRoleRepository.findById(roleId)
+            .orElseThrow(() -> new IllegalArgumentException("Role not found"));
+
+        List<DetailedPathNode> nodes = List.copyOf(
+            openAIService.generateDetailedLearningPath(roleId, role.getName(), null, List.of()));
+
+        CachedPath generated = new CachedPath(roleId, role.getName(), nodes, resolveSkillIds(nodes));
+        CachedPath existing = cache.putIfAbsent(key, generated);
+        System.out.println(String.format("[PATH-CACHE] Cached path for role %d (%s) with %d nodes, %d linked to skills",
+            roleId, role.getName(), nodes.size(), generated.skillIdByNodeId().size()));
+        return existing != null ? existing : generated;
+    }
+
+    /**
+     * Overlay a user's progress on a cached path: one bulk query plus an O(n) merge
+     */
+    public PathOverlay overlayFor(Integer userId, CachedPath path) {
+        Map<Integer, SkillStatus> statusBySkillId = new HashMap<>();
+        if (userId != null && !path.skillIdByNodeId().isEmpty()) {
+            List<Integer> skillIds = new ArrayList<>(new LinkedHashSet<>(path.skillIdByNodeId().values()));
+            for (UserSkillStateRepository.SkillStatusView row :
+                    userSkillStateRepository.findStatusesByUserIdAndSkillIdIn(userId, skillIds)) {
+                statusBySkillId.put(row.getSkillId(), row.getStatus());
+            }
+        }
+
+        Set<Integer> completed = new LinkedHashSet<>();
+        Set<Integer> active = new LinkedHashSet<>();
+        DetailedPathNode focus = null;
+        for (DetailedPathNode node : path.nodes()) {
+            Integer skillId = path.skillIdFor(node);
+            SkillStatus status = skillId != null ? statusBySkillId.get(skillId) : null;
+            if (status == SkillStatus.PROVED) {
+                completed.add(node.getSkillNodeId());
+                continue;
+            }
+            if (status == SkillStatus.ACTIVE || status == SkillStatus.INFERRED) {
+                active.add(node.getSkillNodeId());
+            }
+            if (focus == null) {
+                focus = node;
+            }
+        }
+        return new PathOverlay(completed, active, focus);
+    }
+
+    /**
+     * Skill edits change which skill a template node links to, so cached paths are dropped
+     */
+    @EventListener
+    public void onSkillNodesChanged(SkillNodesChangedEvent event) {
+        if (!cache.isEmpty()) {
+            cache.clear();
+            System.out.println("[PATH-CACHE] Evicted cached paths after " + event.skillNodeIds().size() + " skill node changes");
+        }
+    }
+
+    private Map<Integer, Integer> resolveSkillIds(List<DetailedPathNode> nodes) {
+        // Canonical names shared by several skills are ambiguous and link to none of them
+        Map<String, Integer> skillIdByName = new HashMap<>();
+        Set<String> ambiguousNames = new HashSet<>();
+        for (Object[] row : skillNodeRepository.findAllCanonicalNames()) {
+            String name = SkillAlias.normalize((String) row[1]);
+            if (skillIdByName.putIfAbsent(name, (Integer) row[0]) != null) {
+                ambiguousNames.add(name);
+            }
+        }
+        ambiguousNames.forEach(skillIdByName::remove);
+
+        // One-to-one: a skill matched by several nodes links to none of them
+        Map<Integer, Integer> skillIdByNodeId = new HashMap<>();
+        Map<Integer, Integer> nodeCountBySkillId = new HashMap<>();
+        for (DetailedPathNode node : nodes) {
+            Integer skillId = skillIdByName.get(SkillAlias.normalize(node.getName()));
+            if (skillId != null) {
+                skillIdByNodeId.put(node.getSkillNodeId(), skillId);
+                nodeCountBySkillId.merge(skillId, 1, Integer::sum);
+            }
+        }
+        skillIdByNodeId.values().removeIf(skillId -> nodeCountBySkillId.get(skillId) > 1);
+        return Map.copyOf(skillIdByNodeId);
+    }
+}
@@ -4,11 +4,8 @@ import com.careermappro.entities.*;
 import com.careermappro.repositories.*;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.http.*;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -17,27 +14,25 @@ import java.util.stream.Collectors;
 @Service
 public class EvidenceExtractionService {
 
-    @Value("${openai.api.key:}")
-    private String openaiApiKey;
-
     private final EvidenceRepository evidenceRepo;
     private final EvidenceSkillLinkRepository linkRepo;
     private final SkillNodeRepository skillNodeRepo;
     private final StateTransitionService stateTransition;
     private final ObjectMapper objectMapper;
-    private final RestTemplate restTemplate;
+    private final OpenAiClient openAiClient;
 
     public EvidenceExtractionService(
             EvidenceRepository evidenceRepo,
             EvidenceSkillLinkRepository linkRepo,
             SkillNodeRepository skillNodeRepo,
-            StateTransitionService stateTransition) {
+            StateTransitionService stateTransition,
+            OpenAiClient openAiClient) {
         this.evidenceRepo = evidenceRepo;
         this.linkRepo = linkRepo;
         this.skillNodeRepo = skillNodeRepo;
         this.stateTransition = stateTransition;
+        this.openAiClient = openAiClient;
         this.objectMapper = new ObjectMapper();
-        this.restTemplate = new RestTemplate();
     }
 
     /**
@@ -58,8 +53,7 @@ public class EvidenceExtractionService {
         result.put("extractedSkills", extractedSkills.size());
 
         // 3. Normalize to canonical skill IDs
-        List<SkillNode> allSkills = skillNodeRepo.findAll();
-        Map<String, SkillNode> skillMap = buildSkillMap(allSkills);
+        Map<String, SkillNode> skillMap = lookupSkills(extractedSkills);
 
         List<EvidenceSkillLink> links = new ArrayList<>();
         Set<Integer> updatedSkillIds = new HashSet<>();
@@ -105,14 +99,13 @@ public class EvidenceExtractionService {
      * Extract skills from raw text using OpenAI with strict JSON schema
      */
     private List<ExtractedSkill> extractSkillsWithOpenAI(String rawText, Evidence.EvidenceType type) {
-        if (openaiApiKey == null || openaiApiKey.isEmpty()) {
+        if (!openAiClient.isConfigured()) {
             // Fallback: Return empty list if no API key
             return new ArrayList<>();
         }
 
+        String prompt = buildExtractionPrompt(rawText, type);
         try {
-            String prompt = buildExtractionPrompt(rawText, type);
-
             Map<String, Object> requestBody = new HashMap<>();
             requestBody.put("model", "gpt-4o-mini");
             requestBody.put("messages", List.of(
@@ -122,40 +115,19 @@ public class EvidenceExtractionService {
             requestBody.put("temperature", 0.2);
             requestBody.put("response_format", Map.of("type", "json_object"));
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(openaiApiKey);
-
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-
-            ResponseEntity<Map> response = restTemplate.exchange(
-                "https://api.openai.com/v1/chat/completions",
-                HttpMethod.POST,
-                entity,
-                Map.class
-            );
-
-            // Parse response
-            Map<String, Object> responseBody = response.getBody();
-            if (responseBody != null && responseBody.containsKey("choices")) {
-                List<Map<String, Object>> choices = (List<Map<String, Object>>) responseBody.get("choices");
-                if (!choices.isEmpty()) {
-                    Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
-                    String content = (String) message.get("content");
-
-                    // Parse JSON response
-                    Map<String, Object> parsed = objectMapper.readValue(content, Map.class);
-                    List<Map<String, Object>> skills = (List<Map<String, Object>>) parsed.get("skills");
-
-                    return skills.stream()
-                        .map(s -> new ExtractedSkill(
-                            (String) s.get("name"),
-                            ((Number) s.get("support")).doubleValue(),
-                            ((Number) s.get("confidence")).doubleValue()
-                        ))
-                        .collect(Collectors.toList());
-                }
-            }
+            String content = openAiClient.complete("evidence_extraction", requestBody);
+
+            // Parse JSON response
+            Map<String, Object> parsed = objectMapper.readValue(content, Map.class);
+            List<Map<String, Object>> skills = (List<Map<String, Object>>) parsed.get("skills");
+
+            return skills.stream()
+                .map(s -> new ExtractedSkill(
+                    (String) s.get("name"),
+                    ((Number) s.get("support")).doubleValue(),
+                    ((Number) s.get("confidence")).doubleValue()
+                ))
+                .collect(Collectors.toList());
         } catch (Exception e) {
             System.err.println("OpenAI extraction failed: " + e.getMessage());
         }
@@ -201,57 +173,53 @@ public class EvidenceExtractionService {
     }
 
     /**
-     * Build skill map with canonical names + aliases
+     * Indexed skill_aliases lookup of every name form the extracted skills could match,
+     * keyed by normalized name
      */
-    private Map<String, SkillNode> buildSkillMap(List<SkillNode> skills) {
-        Map<String, SkillNode> map = new HashMap<>();
-
-        for (SkillNode skill : skills) {
-            // Add canonical name
-            map.put(skill.getCanonicalName().toLowerCase(), skill);
-
-            // Add aliases
-            if (skill.getAliases() != null && !skill.getAliases().isEmpty()) {
-                try {
-                    List<String> aliases = objectMapper.readValue(skill.getAliases(), List.class);
-                    for (String alias : aliases) {
-                        map.put(alias.toLowerCase(), skill);
-                    }
-                } catch (Exception e) {
-                    // Skip malformed aliases
-                }
+    Map<String, SkillNode> lookupSkills(List<ExtractedSkill> extractedSkills) {
+        Set<String> candidates = new LinkedHashSet<>();
+        for (ExtractedSkill extracted : extractedSkills) {
+            if (extracted.getSkillName() != null) {
+                candidates.addAll(candidatesFor(extracted.getSkillName()));
             }
         }
+        if (candidates.isEmpty()) {
+            return Map.of();
+        }
 
+        Map<String, SkillNode> map = new HashMap<>();
+        for (SkillNodeRepository.AliasMatch match : skillNodeRepo.findByAliasIn(candidates)) {
+            map.putIfAbsent(match.getAlias(), match.getSkillNode());
+        }
         return map;
     }
 
     /**
      * Find canonical skill from extracted name (fuzzy matching via aliases)
      */
-    private SkillNode findCanonicalSkill(String extractedName, Map<String, SkillNode> skillMap) {
-        String normalized = extractedName.toLowerCase().trim();
-
-        // Direct match
-        if (skillMap.containsKey(normalized)) {
-            return skillMap.get(normalized);
+    SkillNode findCanonicalSkill(String extractedName, Map<String, SkillNode> skillMap) {
+        if (extractedName == null) {
+            return null;
+        }
+        // Direct match first, then common variations
+        for (String candidate : candidatesFor(extractedName)) {
+            SkillNode skill = skillMap.get(candidate);
+            if (skill != null) {
+                return skill;
+            }
         }
+        return null; // Not found - could log for future ontology expansion
+    }
 
-        // Try common variations
-        String[] variations = {
+    private static List<String> candidatesFor(String extractedName) {
+        String normalized = SkillAlias.normalize(extractedName);
+        return List.of(
+            normalized,
             normalized.replace(".", ""),
             normalized.replace("-", ""),
             normalized.replace(" ", ""),
             normalized + ".js"
-        };
-
-        for (String variant : variations) {
-            if (skillMap.containsKey(variant)) {
-                return skillMap.get(variant);
-            }
-        }
-
-        return null; // Not found - could log for future ontology expansion
+        );
     }
 
     /**
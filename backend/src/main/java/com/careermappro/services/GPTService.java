@@ -1,9 +1,6 @@
 package com.careermappro.services;
 
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.http.*;
 
 import java.util.HashMap;
 import java.util.List;
@@ -12,23 +9,18 @@ import java.util.Map;
 @Service
 public class GPTService {
 
-    @Value("${openai.api.key:}")
-    private String apiKey;
+    private final OpenAiClient openAiClient;
 
-    private static final String OPENAI_API_URL = "https://api.openai.com/v1/chat/completions";
+    public GPTService(OpenAiClient openAiClient) {
+        this.openAiClient = openAiClient;
+    }
 
     public String generateText(String prompt) {
-        if (apiKey == null || apiKey.isEmpty()) {
+        if (!openAiClient.isConfigured()) {
             return "OpenAI API key not configured. Please set openai.api.key in application.properties";
         }
 
         try {
-            RestTemplate restTemplate = new RestTemplate();
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(apiKey);
-
             Map<String, Object> message = new HashMap<>();
             message.put("role", "user");
             message.put("content", prompt);
@@ -39,26 +31,7 @@ public class GPTService {
             requestBody.put("max_tokens", 2000);
             requestBody.put("temperature", 0.7);
 
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-
-            ResponseEntity<Map> response = restTemplate.postForEntity(
-                OPENAI_API_URL,
-                request,
-                Map.class
-            );
-
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                Map<String, Object> responseBody = response.getBody();
-                List<Map<String, Object>> choices = (List<Map<String, Object>>) responseBody.get("choices");
-
-                if (choices != null && !choices.isEmpty()) {
-                    Map<String, Object> firstChoice = choices.get(0);
-                    Map<String, Object> messageObj = (Map<String, Object>) firstChoice.get("message");
-                    return (String) messageObj.get("content");
-                }
-            }
-
-            return "No response from GPT";
+            return openAiClient.complete("gpt_text", requestBody);
 
         } catch (Exception e) {
             System.err.println("GPT API Error: " + e.getMessage());
@@ -71,17 +44,11 @@ public class GPTService {
      * Used for structured curriculum generation.
      */
     public String generateCompletion(String systemPrompt, String userPrompt, int maxTokens) {
-        if (apiKey == null || apiKey.isEmpty()) {
+        if (!openAiClient.isConfigured()) {
             return "OpenAI API key not configured. Please set openai.api.key in application.properties";
         }
 
         try {
-            RestTemplate restTemplate = new RestTemplate();
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(apiKey);
-
             Map<String, Object> systemMessage = new HashMap<>();
             systemMessage.put("role", "system");
             systemMessage.put("content", systemPrompt);
@@ -97,26 +64,7 @@ public class GPTService {
             requestBody.put("temperature", 0.3); // Lower temp for more consistent structure
             requestBody.put("response_format", Map.of("type", "json_object")); // Force JSON
 
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
-
-            ResponseEntity<Map> response = restTemplate.postForEntity(
-                OPENAI_API_URL,
-                request,
-                Map.class
-            );
-
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                Map<String, Object> responseBody = response.getBody();
-                List<Map<String, Object>> choices = (List<Map<String, Object>>) responseBody.get("choices");
-
-                if (choices != null && !choices.isEmpty()) {
-                    Map<String, Object> firstChoice = choices.get(0);
-                    Map<String, Object> messageObj = (Map<String, Object>) firstChoice.get("message");
-                    return (String) messageObj.get("content");
-                }
-            }
-
-            return "{}"; // Return empty JSON on failure
+            return openAiClient.complete("gpt_completion", requestBody);
 
         } catch (Exception e) {
             System.err.println("GPT API Error: " + e.getMessage());
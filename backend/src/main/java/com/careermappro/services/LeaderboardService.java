@@ -0,0 +1,350 @@
+package com.careermappro.services;
+
+import com.careermappro.entities.User;
+import com.careermappro.repositories.UserRepository;
+import com.careermappro.util.OrderStatisticTree;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * LeaderboardService
+ * Keeps an in-memory ranked index of users keyed by (xp desc, userId asc)
+ * so top-N, rank and neighbour queries never scan the users table.
+ *
+ * ALL_TIME is rebuilt from a paged scan at startup. WEEKLY and MONTHLY
+ * accumulate XP gained since the start of the current window and reset
+ * when the window rolls over (they start empty after a restart).
+ *
+ * Reads share the read lock; windows are rolled by a midnight tick, and a
+ * read that still finds a stale window rolls it under the write lock first.
+ */
+@Service
+public class LeaderboardService implements CommandLineRunner {
+
+    public enum Window { ALL_TIME, WEEKLY, MONTHLY }
+
+    public record Entry(Integer userId, String name, int xp, int level, int streak) {}
+
+    private record Key(int score, int userId) {}
+
+    private static final Comparator<Key> KEY_ORDER = Comparator
+            .comparingInt(Key::score).reversed()
+            .thenComparingInt(Key::userId);
+
+    private static final int REBUILD_PAGE_SIZE = 500;
+
+    private static final class Board {
+        final OrderStatisticTree<Key> tree = new OrderStatisticTree<>(KEY_ORDER);
+        final Map<Integer, Integer> scoreByUser = new HashMap<>();
+        LocalDate windowStart;
+
+        void put(Integer userId, int score) {
+            Integer previous = scoreByUser.put(userId, score);
+            if (previous != null) {
+                tree.remove(new Key(previous, userId));
+            }
+            tree.insert(new Key(score, userId));
+        }
+
+        void clear() {
+            tree.clear();
+            scoreByUser.clear();
+        }
+    }
+
+    private final UserRepository userRepository;
+    private final Map<Window, Board> boards = new EnumMap<>(Window.class);
+    private final Map<Integer, Entry> profiles = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Profiles changed while a rebuild scans users, replayed over the rebuilt index (guarded by lock)
+    private Map<Integer, Entry> changedDuringRebuild;
+
+    public LeaderboardService(UserRepository userRepository) {
+        this.userRepository = userRepository;
+        for (Window window : Window.values()) {
+            boards.put(window, new Board());
+        }
+    }
+
+    @Override
+    public void run(String... args) {
+        rebuild();
+    }
+
+    /**
+     * Rebuild the all-time board from a paged scan of the users table
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Board fresh = new Board();
+        Map<Integer, Entry> freshProfiles = new HashMap<>();
+
+        try {
+            int page = 0;
+            Page<User> batch;
+            do {
+                batch = userRepository.findAll(PageRequest.of(page++, REBUILD_PAGE_SIZE, Sort.by("id")));
+                for (User user : batch.getContent()) {
+                    Entry entry = toEntry(user);
+                    freshProfiles.put(entry.userId(), entry);
+                    fresh.put(entry.userId(), entry.xp());
+                }
+            } while (batch.hasNext());
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Board allTime = boards.get(Window.ALL_TIME);
+            allTime.clear();
+            fresh.scoreByUser.forEach(allTime::put);
+            profiles.clear();
+            profiles.putAll(freshProfiles);
+            // The scan may have read these users before their latest update
+            Map<Integer, Entry> changed = changedDuringRebuild;
+            changedDuringRebuild = null;
+            changed.values().forEach(this::applyProfile);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        System.out.println(String.format("[LEADERBOARD] Indexed %d users", freshProfiles.size()));
+    }
+
+    /**
+     * Record XP just gained. The new total is the indexed total plus xpDelta, applied under
+     * the write lock, so concurrent gains for the same user add up instead of overwriting.
+     */
+    public void recordXp(Integer userId, int xpDelta) {
+        boolean indexed;
+        lock.readLock().lock();
+        try {
+            indexed = profiles.containsKey(userId);
+        } finally {
+            lock.readLock().unlock();
+        }
+        // Users missing from the index (e.g. created outside registration) are loaded once
+        User unindexed = indexed ? null : userRepository.findById(userId).orElse(null);
+
+        lock.writeLock().lock();
+        try {
+            Entry known = profiles.get(userId);
+            if (known == null && unindexed != null) {
+                known = toEntry(unindexed);
+            }
+            int totalXp = (known != null ? known.xp() : 0) + xpDelta;
+            String name = known != null ? known.name() : null;
+            int streak = known != null ? known.streak() : 0;
+            applyProfile(new Entry(userId, name, totalXp, XpWriteBehindService.levelFor(totalXp), streak));
+
+            rollWindows(LocalDate.now());
+            for (Window window : List.of(Window.WEEKLY, Window.MONTHLY)) {
+                Board board = boards.get(window);
+                int previous = board.scoreByUser.getOrDefault(userId, 0);
+                board.put(userId, previous + xpDelta);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Update the displayed streak without changing scores
+     */
+    public void updateStreak(Integer userId, int streak) {
+        lock.writeLock().lock();
+        try {
+            Entry known = profiles.get(userId);
+            if (known != null) {
+                applyProfile(new Entry(userId, known.name(), known.xp(), known.level(), streak));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Refresh the displayed profile (name, level, streak) from the user entity
+     */
+    public void updateProfile(User user) {
+        lock.writeLock().lock();
+        try {
+            applyProfile(toEntry(user));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Entry> top(Window window, int limit) {
+        rollWindowsIfDue();
+        lock.readLock().lock();
+        try {
+            return toEntries(window, boards.get(window).tree.range(0, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * One-based rank of the user, or empty if the user is not on this board
+     */
+    public OptionalInt rankOf(Window window, Integer userId) {
+        rollWindowsIfDue();
+        lock.readLock().lock();
+        try {
+            Board board = boards.get(window);
+            Integer score = board.scoreByUser.get(userId);
+            if (score == null) {
+                return OptionalInt.empty();
+            }
+            return OptionalInt.of(board.tree.rank(new Key(score, userId)) + 1);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Users ranked within radius positions above and below the given user
+     */
+    public List<Entry> around(Window window, Integer userId, int radius) {
+        rollWindowsIfDue();
+        lock.readLock().lock();
+        try {
+            Board board = boards.get(window);
+            Integer score = board.scoreByUser.get(userId);
+            if (score == null) {
+                return List.of();
+            }
+            int rank = board.tree.rank(new Key(score, userId));
+            return toEntries(window, board.tree.range(rank - radius, rank + radius + 1));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Clear the weekly and monthly boards at the start of a new window
+     */
+    @Scheduled(cron = "${leaderboard.window-roll-cron:0 0 0 * * *}")
+    public void rollWindows() {
+        lock.writeLock().lock();
+        try {
+            rollWindows(LocalDate.now());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Roll under the write lock only when a window is actually stale, so reads
+     * between ticks never contend for it
+     */
+    private void rollWindowsIfDue() {
+        LocalDate today = LocalDate.now();
+        boolean due;
+        lock.readLock().lock();
+        try {
+            due = windowsDue(today);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (due) {
+            lock.writeLock().lock();
+            try {
+                rollWindows(today);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private boolean windowsDue(LocalDate today) {
+        for (Window window : List.of(Window.WEEKLY, Window.MONTHLY)) {
+            if (!windowStart(window, today).equals(boards.get(window).windowStart)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Callers must hold the write lock
+     */
+    private void rollWindows(LocalDate today) {
+        for (Window window : List.of(Window.WEEKLY, Window.MONTHLY)) {
+            Board board = boards.get(window);
+            LocalDate start = windowStart(window, today);
+            if (!start.equals(board.windowStart)) {
+                board.clear();
+                board.windowStart = start;
+            }
+        }
+    }
+
+    /**
+     * Callers must hold the write lock
+     */
+    private void applyProfile(Entry entry) {
+        profiles.put(entry.userId(), entry);
+        boards.get(Window.ALL_TIME).put(entry.userId(), entry.xp());
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.put(entry.userId(), entry);
+        }
+    }
+
+    private LocalDate windowStart(Window window, LocalDate today) {
+        return switch (window) {
+            case WEEKLY -> today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTHLY -> today.withDayOfMonth(1);
+            case ALL_TIME -> LocalDate.MIN;
+        };
+    }
+
+    private List<Entry> toEntries(Window window, List<Key> keys) {
+        List<Entry> entries = new ArrayList<>(keys.size());
+        for (Key key : keys) {
+            Entry profile = profiles.get(key.userId());
+            if (profile == null) {
+                continue;
+            }
+            // Periodic boards rank by XP gained in the window
+            entries.add(window == Window.ALL_TIME ? profile
+                    : new Entry(profile.userId(), profile.name(), key.score(), profile.level(), profile.streak()));
+        }
+        return entries;
+    }
+
+    private Entry toEntry(User user) {
+        return new Entry(
+                user.getId(),
+                user.getName(),
+                user.getXp() != null ? user.getXp() : 0,
+                user.getLevel() != null ? user.getLevel() : 1,
+                user.getStreak() != null ? user.getStreak() : 0
+        );
+    }
+}
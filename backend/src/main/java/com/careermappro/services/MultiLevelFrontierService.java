@@ -2,12 +2,19 @@ package com.careermappro.services;
 
 import com.careermappro.entities.*;
 import com.careermappro.repositories.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Optional;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 @Service
 @Transactional(readOnly = true)
@@ -25,11 +32,28 @@ public class MultiLevelFrontierService {
     @Autowired
     private DeepPathStepRepository deepPathStepRepository;
 
+    @Autowired
+    private UserSkillStateRepository userSkillStateRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public static final int MAX_STEP_PAGE_SIZE = 200;
+
+    // Nominal study time used to turn a path's duration into hours per skill
+    private static final int STUDY_HOURS_PER_WEEK = 10;
+
+    // Hierarchies per career role. Nothing edits domains, roles or deep paths at runtime
+    // (DataInitializationService only seeds them at startup), so entries live until redeploy.
+    private final Map<Integer, RoleHierarchy> hierarchyCache = new ConcurrentHashMap<>();
+
     /**
      * Level 1: Get all domains
      */
     public List<Domain> getAllDomains() {
-        return domainRepository.findAll();
+        return domainRepository.findAllWithRoles();
     }
 
     /**
@@ -55,12 +79,15 @@ public class MultiLevelFrontierService {
 
     /**
      * Level 3: Get deep path for a career role
-     * For now returns the first deep path, can be enhanced to consider user's current progress
+     * Without a user this is the role's first path; with one, the path that best fits
+     * the skills the user has already proved (see selectPath)
      */
     public Optional<DeepPath> getDeepPathForRole(Integer careerRoleId, Integer userId) {
-        // TODO: Future enhancement - select path based on user's skill level
-        // For now, return the first available path
-        return deepPathRepository.findFirstByCareerRole_CareerRoleId(careerRoleId);
+        RoleHierarchy hierarchy = getRoleHierarchy(careerRoleId);
+        if (hierarchy == null) {
+            return Optional.empty();
+        }
+        return deepPathRepository.findById(selectPath(hierarchy, userId).deepPath().deepPathId());
     }
 
     /**
@@ -84,6 +111,81 @@ public class MultiLevelFrontierService {
         return deepPathStepRepository.findByDeepPath_DeepPathIdOrderByWeekNumberAscOrderInWeekAsc(deepPathId);
     }
 
+    /**
+     * Level 4: One page of a deep path's steps in path order, starting after the cursor
+     * (null for the first page). nextCursor is null on the last page.
+     */
+    public StepPage getStepPage(Integer deepPathId, String cursor, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_STEP_PAGE_SIZE));
+        int[] after = parseStepCursor(cursor);
+
+        // One extra row tells us whether another page exists without a COUNT
+        List<DeepPathStep> rows = deepPathStepRepository.findPageAfter(
+            deepPathId, after[0], after[1], after[2], PageRequest.of(0, size + 1));
+
+        boolean hasMore = rows.size() > size;
+        List<StepView> steps = new ArrayList<>(Math.min(rows.size(), size));
+        for (DeepPathStep step : rows.subList(0, Math.min(rows.size(), size))) {
+            steps.add(toStepView(step));
+        }
+        String nextCursor = hasMore ? stepCursor(steps.get(steps.size() - 1)) : null;
+        return new StepPage(steps, nextCursor);
+    }
+
+    /**
+     * Level 4: Write a deep path's steps as NDJSON, one StepView per line, reading them
+     * through a forward-only cursor. Each step is detached once written and the output
+     * is flushed at every week boundary, so the first week reaches the client before
+     * later weeks are read and heap use doesn't grow with path length.
+     */
+    public void streamSteps(Integer deepPathId, OutputStream out) throws IOException {
+        try (Stream<DeepPathStep> rows = deepPathStepRepository.streamByDeepPathId(deepPathId)) {
+            Integer currentWeek = null;
+            Iterator<DeepPathStep> it = rows.iterator();
+            while (it.hasNext()) {
+                DeepPathStep step = it.next();
+                if (currentWeek != null && !currentWeek.equals(step.getWeekNumber())) {
+                    out.flush();
+                }
+                currentWeek = step.getWeekNumber();
+
+                out.write(objectMapper.writeValueAsBytes(toStepView(step)));
+                out.write('\n');
+                entityManager.detach(step);
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Cursor format is weekNumber:orderInWeek:stepId of the last step returned;
+     * clients should treat it as opaque
+     */
+    private static String stepCursor(StepView step) {
+        return step.weekNumber() + ":" + step.orderInWeek() + ":" + step.stepId();
+    }
+
+    private static int[] parseStepCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new int[] {Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE};
+        }
+        String[] parts = cursor.split(":");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        try {
+            return new int[] {Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2])};
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private static StepView toStepView(DeepPathStep step) {
+        SkillNode skill = step.getSkill();
+        return new StepView(step.getStepId(), step.getWeekNumber(), step.getOrderInWeek(), step.getDescription(),
+            new SkillSummary(skill.getSkillNodeId(), skill.getCanonicalName(), skill.getDomain(), skill.getDifficulty()));
+    }
+
     /**
      * Level 4: Get steps for a specific week in a deep path
      */
@@ -94,53 +196,203 @@ public class MultiLevelFrontierService {
     /**
      * Helper: Get full hierarchy path from domain to skills
      * Returns data structure showing: Domain -> CareerRole -> DeepPath -> Skills
+     *
+     * The role's hierarchy comes from one flat query and is cached until redeploy;
+     * only the path selection runs per request.
      */
     public Optional<HierarchyView> getFullHierarchy(Integer domainId, Integer careerRoleId, Integer userId) {
-        Optional<Domain> domain = domainRepository.findById(domainId);
-        if (domain.isEmpty()) {
+        RoleHierarchy hierarchy = getRoleHierarchy(careerRoleId);
+        if (hierarchy == null || !hierarchy.domain().domainId().equals(domainId)) {
             return Optional.empty();
         }
 
-        Optional<CareerRole> role = careerRoleRepository.findById(careerRoleId);
-        if (role.isEmpty() || !role.get().getDomain().getDomainId().equals(domainId)) {
-            return Optional.empty();
+        PathHierarchy path = selectPath(hierarchy, userId);
+
+        HierarchyView view = new HierarchyView();
+        view.setDomain(hierarchy.domain());
+        view.setCareerRole(hierarchy.careerRole());
+        view.setDeepPath(path.deepPath());
+        view.setSteps(path.steps());
+
+        return Optional.of(view);
+    }
+
+    /**
+     * Cached hierarchy for a role, or null if the role does not exist or has no deep path
+     */
+    RoleHierarchy getRoleHierarchy(Integer careerRoleId) {
+        RoleHierarchy cached = hierarchyCache.get(careerRoleId);
+        if (cached != null) {
+            return cached;
         }
 
-        Optional<DeepPath> path = getDeepPathForRole(careerRoleId, userId);
-        if (path.isEmpty()) {
-            return Optional.empty();
+        RoleHierarchy loaded = buildHierarchy(deepPathRepository.findHierarchyRows(careerRoleId));
+        if (loaded == null) {
+            // Not cached: ids come straight from the query string
+            return null;
         }
+        RoleHierarchy existing = hierarchyCache.putIfAbsent(careerRoleId, loaded);
+        return existing != null ? existing : loaded;
+    }
 
-        List<DeepPathStep> steps = getStepsForDeepPath(path.get().getDeepPathId());
+    /**
+     * Path that best fits the user's proved skills: the highest share of its skills
+     * already covered, then the fewest remaining hours, then the lowest path id.
+     * Paths the user has fully covered only win when every path is covered.
+     *
+     * Each path carries its skill ids as a bitset, so scoring a candidate is one
+     * AND + popcount per 64 skill ids; the only query is the user's proved skill ids.
+     */
+    private PathHierarchy selectPath(RoleHierarchy hierarchy, Integer userId) {
+        List<PathHierarchy> paths = hierarchy.paths();
+        if (userId == null || paths.size() == 1) {
+            return paths.get(0);
+        }
 
-        HierarchyView view = new HierarchyView();
-        view.setDomain(domain.get());
-        view.setCareerRole(role.get());
-        view.setDeepPath(path.get());
-        view.setSteps(steps);
+        List<Integer> provedSkillIds = userSkillStateRepository.findSkillIdsByUserIdAndStatus(
+            userId, UserSkillState.SkillStatus.PROVED);
+        if (provedSkillIds.isEmpty()) {
+            return paths.get(0);
+        }
+        long[] proved = toBits(provedSkillIds, hierarchy.bitsetWords());
 
-        return Optional.of(view);
+        PathHierarchy best = null;
+        boolean bestComplete = true;
+        double bestCoverage = -1;
+        double bestRemainingHours = 0;
+        for (PathHierarchy path : paths) {
+            int covered = countCommon(path.skillBits(), proved);
+            int skillCount = path.skillCount();
+            boolean complete = covered == skillCount;
+            double coverage = skillCount == 0 ? 0 : (double) covered / skillCount;
+            double remainingHours = (skillCount - covered) * path.hoursPerSkill();
+
+            boolean better;
+            if (best == null || complete != bestComplete) {
+                better = best == null || !complete;
+            } else if (coverage != bestCoverage) {
+                better = coverage > bestCoverage;
+            } else {
+                better = remainingHours < bestRemainingHours;
+            }
+            if (better) {
+                best = path;
+                bestComplete = complete;
+                bestCoverage = coverage;
+                bestRemainingHours = remainingHours;
+            }
+        }
+        return best;
+    }
+
+    private static long[] toBits(Collection<Integer> ids, int words) {
+        long[] bits = new long[words];
+        for (Integer id : ids) {
+            if (id != null && id >= 0 && id < words * 64) {
+                bits[id >>> 6] |= 1L << id;
+            }
+        }
+        return bits;
     }
 
+    private static int countCommon(long[] a, long[] b) {
+        int count = 0;
+        for (int i = 0, n = Math.min(a.length, b.length); i < n; i++) {
+            count += Long.bitCount(a[i] & b[i]);
+        }
+        return count;
+    }
+
+    private static RoleHierarchy buildHierarchy(List<DeepPathRepository.HierarchyRow> rows) {
+        if (rows.isEmpty()) {
+            return null;
+        }
+
+        DeepPathRepository.HierarchyRow first = rows.get(0);
+        DomainSummary domain = new DomainSummary(first.getDomainId(), first.getDomainName(),
+            first.getDomainDescription(), first.getDomainIcon(), first.getDomainColor());
+        RoleSummary role = new RoleSummary(first.getCareerRoleId(), first.getRoleName(),
+            first.getRoleDescription(), first.getRoleIcon());
+
+        // Rows arrive ordered by path, then week and order, so each path's steps are contiguous
+        Map<Integer, PathSummary> pathsById = new LinkedHashMap<>();
+        Map<Integer, List<StepView>> stepsByPath = new HashMap<>();
+        for (DeepPathRepository.HierarchyRow row : rows) {
+            pathsById.computeIfAbsent(row.getDeepPathId(), id -> new PathSummary(id, row.getPathName(),
+                row.getPathDescription(), row.getDurationWeeks()));
+            List<StepView> steps = stepsByPath.computeIfAbsent(row.getDeepPathId(), id -> new ArrayList<>());
+            if (row.getStepId() != null) {
+                SkillSummary skill = new SkillSummary(row.getSkillNodeId(), row.getCanonicalName(),
+                    row.getSkillDomain(), row.getDifficulty());
+                steps.add(new StepView(row.getStepId(), row.getWeekNumber(), row.getOrderInWeek(),
+                    row.getStepDescription(), skill));
+            }
+        }
+
+        List<PathHierarchy> paths = new ArrayList<>(pathsById.size());
+        int words = 0;
+        for (PathSummary path : pathsById.values()) {
+            List<StepView> steps = List.copyOf(stepsByPath.get(path.deepPathId()));
+            Set<Integer> skillIds = new HashSet<>();
+            for (StepView step : steps) {
+                skillIds.add(step.skill().skillNodeId());
+            }
+            int maxId = skillIds.stream().mapToInt(Integer::intValue).max().orElse(-1);
+            long[] skillBits = toBits(skillIds, maxId / 64 + 1);
+            int weeks = path.durationWeeks() != null ? path.durationWeeks() : 12;
+            double hoursPerSkill = skillIds.isEmpty() ? 0 : (double) weeks * STUDY_HOURS_PER_WEEK / skillIds.size();
+
+            paths.add(new PathHierarchy(path, steps, skillBits, skillIds.size(), hoursPerSkill));
+            words = Math.max(words, skillBits.length);
+        }
+        return new RoleHierarchy(domain, role, List.copyOf(paths), words);
+    }
+
+    /**
+     * @param bitsetWords longest skill bitset among the paths; user bits past it can't match
+     */
+    record RoleHierarchy(DomainSummary domain, RoleSummary careerRole, List<PathHierarchy> paths,
+                         int bitsetWords) {}
+
+    /**
+     * @param skillBits distinct skill ids of the steps, bit i set for skill id i
+     */
+    record PathHierarchy(PathSummary deepPath, List<StepView> steps, long[] skillBits, int skillCount,
+                         double hoursPerSkill) {}
+
+    public record DomainSummary(Integer domainId, String name, String description, String icon, String color) {}
+
+    public record RoleSummary(Integer careerRoleId, String name, String description, String icon) {}
+
+    public record PathSummary(Integer deepPathId, String name, String description, Integer durationWeeks) {}
+
+    public record SkillSummary(Integer skillNodeId, String canonicalName, String domain, Integer difficulty) {}
+
+    public record StepView(Integer stepId, Integer weekNumber, Integer orderInWeek, String description,
+                           SkillSummary skill) {}
+
+    public record StepPage(List<StepView> steps, String nextCursor) {}
+
     /**
-     * DTO for full hierarchy view
+     * DTO for full hierarchy view. Holds immutable summaries rather than entities so
+     * cached views can be shared across requests and serialized outside a session.
      */
     public static class HierarchyView {
-        private Domain domain;
-        private CareerRole careerRole;
-        private DeepPath deepPath;
-        private List<DeepPathStep> steps;
+        private DomainSummary domain;
+        private RoleSummary careerRole;
+        private PathSummary deepPath;
+        private List<StepView> steps;
 
-        public Domain getDomain() { return domain; }
-        public void setDomain(Domain domain) { this.domain = domain; }
+        public DomainSummary getDomain() { return domain; }
+        public void setDomain(DomainSummary domain) { this.domain = domain; }
 
-        public CareerRole getCareerRole() { return careerRole; }
-        public void setCareerRole(CareerRole careerRole) { this.careerRole = careerRole; }
+        public RoleSummary getCareerRole() { return careerRole; }
+        public void setCareerRole(RoleSummary careerRole) { this.careerRole = careerRole; }
 
-        public DeepPath getDeepPath() { return deepPath; }
-        public void setDeepPath(DeepPath deepPath) { this.deepPath = deepPath; }
+        public PathSummary getDeepPath() { return deepPath; }
+        public void setDeepPath(PathSummary deepPath) { this.deepPath = deepPath; }
 
-        public List<DeepPathStep> getSteps() { return steps; }
-        public void setSteps(List<DeepPathStep> steps) { this.steps = steps; }
+        public List<StepView> getSteps() { return steps; }
+        public void setSteps(List<StepView> steps) { this.steps = steps; }
     }
 }
@@ -0,0 +1,382 @@
+package com.careermappro.services;
+
+import com.careermappro.util.CircuitBreaker;
+import com.careermappro.util.TokenBucket;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * OpenAiClient
+ * The one way the app calls chat completions. Every call goes through:
+ *
+ * 1. A per-feature circuit breaker. While a feature's breaker is open, calls fail
+ *    immediately with UnavailableException so callers serve their fallback
+ *    (template quiz, canned explanation, empty extraction) instead of waiting.
+ * 2. A shared token bucket for requests/min and one for tokens/min (prompt chars / 4
+ *    plus max_tokens, settled against the reported usage). A 429's Retry-After
+ *    pauses every caller, not just the one that saw it.
+ * 3. Up to MAX_ATTEMPTS tries for 429, 5xx and I/O errors, waiting Retry-After
+ *    when given and exponential backoff with full jitter otherwise.
+ * 4. Optionally, a hedge: if the first attempt hasn't answered after hedgeAfter,
+ *    a duplicate is sent (only if the limiter has room right now) and the first
+ *    successful answer wins.
+ *
+ * No call blocks longer than MAX_WAIT for the limiter or a retry, so a throttled
+ * upstream can't pin request threads for the full read timeout.
+ */
+@Service
+public class OpenAiClient {
+
+    /**
+     * The call was not made or gave up. reason is a short code: NOT_CONFIGURED,
+     * CIRCUIT_OPEN, RATE_LIMITED, INTERRUPTED, HTTP_<status> or an exception name.
+     */
+    public static class UnavailableException extends RuntimeException {
+        private final String feature;
+        private final String reason;
+
+        public UnavailableException(String feature, String reason) {
+            super("OpenAI unavailable for " + feature + ": " + reason);
+            this.feature = feature;
+            this.reason = reason;
+        }
+
+        public String getFeature() {
+            return feature;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+    }
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long BASE_BACKOFF_MS = 500;
+    private static final long MAX_BACKOFF_MS = 8_000;
+    private static final long MAX_WAIT_MS = 10_000;
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(25);
+
+    // Open after half of the last 20 calls (at least 5) failed; probe again after 30 s
+    private static final int BREAKER_WINDOW = 20;
+    private static final int BREAKER_MINIMUM_CALLS = 5;
+    private static final double BREAKER_FAILURE_RATE = 0.5;
+    private static final Duration BREAKER_OPEN_FOR = Duration.ofSeconds(30);
+
+    private final AiCallTelemetry telemetry;
+    private final String apiKey;
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Object limiterLock = new Object();
+    private final TokenBucket requestBucket;
+    private final TokenBucket tokenBucket;
+    private long pausedUntilNanos;
+
+    private final ConcurrentHashMap<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    public OpenAiClient(AiCallTelemetry telemetry,
+                        @Value("${openai.api.key:}") String apiKey,
+                        @Value("${openai.api.base-url:https://api.openai.com/v1}") String baseUrl,
+                        @Value("${openai.limits.requests-per-minute:500}") long requestsPerMinute,
+                        @Value("${openai.limits.tokens-per-minute:200000}") long tokensPerMinute) {
+        this.telemetry = telemetry;
+        this.apiKey = apiKey;
+        this.baseUrl = baseUrl;
+        this.requestBucket = new TokenBucket(requestsPerMinute);
+        this.tokenBucket = new TokenBucket(tokensPerMinute);
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    }
+
+    public boolean isConfigured() {
+        return apiKey != null && !apiKey.isEmpty() && !apiKey.equals("your-api-key-here");
+    }
+
+    /**
+     * Send a chat completion request body and return choices[0].message.content.
+     * feature labels the call in ai_calls telemetry and selects its circuit breaker.
+     */
+    public String complete(String feature, Map<String, Object> requestBody) {
+        return execute(feature, requestBody, null);
+    }
+
+    /**
+     * Like complete(), but sends a duplicate request if the first hasn't answered after hedgeAfter
+     */
+    public String completeHedged(String feature, Map<String, Object> requestBody, Duration hedgeAfter) {
+        return execute(feature, requestBody, hedgeAfter);
+    }
+
+    /**
+     * Breaker state per feature that has been called since startup
+     */
+    public Map<String, String> breakerStates() {
+        Map<String, String> states = new TreeMap<>();
+        breakers.forEach((feature, breaker) -> states.put(feature, breaker.getState().name()));
+        return states;
+    }
+
+    private String execute(String feature, Map<String, Object> requestBody, Duration hedgeAfter) {
+        if (!isConfigured()) {
+            throw new UnavailableException(feature, "NOT_CONFIGURED");
+        }
+        CircuitBreaker breaker = breakers.computeIfAbsent(feature, f ->
+            new CircuitBreaker(BREAKER_WINDOW, BREAKER_MINIMUM_CALLS, BREAKER_FAILURE_RATE, BREAKER_OPEN_FOR));
+        if (!breaker.tryAcquire()) {
+            throw new UnavailableException(feature, "CIRCUIT_OPEN");
+        }
+
+        String model = String.valueOf(requestBody.getOrDefault("model", "unknown"));
+        String prompt = promptOf(requestBody);
+        long estimatedTokens = prompt.length() / 4 + ((Number) requestBody.getOrDefault("max_tokens", 1000)).longValue();
+
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder()
+                .uri(URI.create(baseUrl + "/chat/completions"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Authorization", "Bearer " + apiKey)
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(requestBody)))
+                .build();
+        } catch (IOException e) {
+            breaker.release();
+            throw new IllegalArgumentException("Unserializable OpenAI request for " + feature, e);
+        }
+
+        String reason = "UNKNOWN";
+        try {
+            for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+                if (!acquire(estimatedTokens)) {
+                    // Local throttling says nothing about upstream health
+                    breaker.release();
+                    throw new UnavailableException(feature, "RATE_LIMITED");
+                }
+
+                AiCallTelemetry.Call call = telemetry.start(feature, model, prompt);
+                HttpResponse<String> response;
+                try {
+                    response = hedgeAfter != null && attempt == 1
+                        ? sendHedged(request, hedgeAfter, estimatedTokens)
+                        : httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+                } catch (IOException e) {
+                    call.failure(e);
+                    reason = e.getClass().getSimpleName();
+                    System.err.println("[OPENAI] " + feature + " attempt " + attempt + " failed: " + reason);
+                    pause(backoffMillis(attempt), attempt);
+                    continue;
+                }
+
+                int status = response.statusCode();
+                if (status == 200) {
+                    call.success();
+                    breaker.onSuccess();
+                    return contentOf(feature, response.body(), estimatedTokens);
+                }
+
+                call.failure("HTTP_" + status);
+                reason = "HTTP_" + status;
+                System.err.println("[OPENAI] " + feature + " attempt " + attempt + " got " + status);
+
+                if (status != 429 && status != 408 && status < 500) {
+                    // Our request is wrong, not the upstream; 401/403 still count, every call would fail
+                    if (status == 401 || status == 403) {
+                        breaker.onFailure();
+                    } else {
+                        breaker.onSuccess();
+                    }
+                    throw new UnavailableException(feature, reason);
+                }
+
+                long retryAfterMs = retryAfterMillis(response);
+                if (status == 429 && retryAfterMs > 0) {
+                    pauseEveryone(retryAfterMs);
+                }
+                if (attempt < MAX_ATTEMPTS && retryAfterMs > MAX_WAIT_MS) {
+                    break;
+                }
+                pause(retryAfterMs > 0 ? retryAfterMs : backoffMillis(attempt), attempt);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            breaker.release();
+            throw new UnavailableException(feature, "INTERRUPTED");
+        }
+
+        breaker.onFailure();
+        throw new UnavailableException(feature, reason);
+    }
+
+    /**
+     * Reserve one request and the estimated tokens, sleeping for the reservation if needed.
+     * Returns false without reserving when the wait would exceed MAX_WAIT_MS.
+     */
+    private boolean acquire(long tokens) throws InterruptedException {
+        long waitNanos;
+        synchronized (limiterLock) {
+            long paused = pausedUntilNanos - System.nanoTime();
+            waitNanos = Math.max(paused, Math.max(requestBucket.nanosUntilAvailable(1), tokenBucket.nanosUntilAvailable(tokens)));
+            if (waitNanos > TimeUnit.MILLISECONDS.toNanos(MAX_WAIT_MS)) {
+                return false;
+            }
+            requestBucket.reserve(1);
+            tokenBucket.reserve(tokens);
+        }
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+        return true;
+    }
+
+    /**
+     * Reserve only if both buckets have room right now; hedges never queue
+     */
+    private boolean tryAcquireNow(long tokens) {
+        synchronized (limiterLock) {
+            if (pausedUntilNanos > System.nanoTime()
+                    || requestBucket.nanosUntilAvailable(1) > 0
+                    || tokenBucket.nanosUntilAvailable(tokens) > 0) {
+                return false;
+            }
+            requestBucket.reserve(1);
+            tokenBucket.reserve(tokens);
+            return true;
+        }
+    }
+
+    private void pauseEveryone(long millis) {
+        synchronized (limiterLock) {
+            pausedUntilNanos = Math.max(pausedUntilNanos, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+    }
+
+    private static void pause(long millis, int attempt) throws InterruptedException {
+        if (attempt < MAX_ATTEMPTS) {
+            Thread.sleep(millis);
+        }
+    }
+
+    private HttpResponse<String> sendHedged(HttpRequest request, Duration hedgeAfter, long tokens)
+            throws IOException, InterruptedException {
+        CompletableFuture<HttpResponse<String>> primary = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        try {
+            return primary.get(hedgeAfter.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            if (!tryAcquireNow(tokens)) {
+                return await(primary);
+            }
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+
+        CompletableFuture<HttpResponse<String>> hedge = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString());
+        CompletableFuture<HttpResponse<String>> winner = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(2);
+        for (CompletableFuture<HttpResponse<String>> attempt : List.of(primary, hedge)) {
+            attempt.whenComplete((response, error) -> {
+                if (error == null && response.statusCode() == 200) {
+                    winner.complete(response);
+                } else if (pending.decrementAndGet() == 0) {
+                    // Both failed: report the later one, the retry loop decides what next
+                    if (error != null) {
+                        winner.completeExceptionally(error);
+                    } else {
+                        winner.complete(response);
+                    }
+                }
+            });
+        }
+        try {
+            return await(winner);
+        } finally {
+            primary.cancel(true);
+            hedge.cancel(true);
+        }
+    }
+
+    private static HttpResponse<String> await(CompletableFuture<HttpResponse<String>> future)
+            throws IOException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static IOException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause() instanceof CompletionException ? e.getCause().getCause() : e.getCause();
+        return cause instanceof IOException io ? io : new IOException(cause);
+    }
+
+    private String contentOf(String feature, String body, long estimatedTokens) {
+        JsonNode root;
+        try {
+            root = objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new UnavailableException(feature, "BAD_RESPONSE");
+        }
+        JsonNode usage = root.path("usage").path("total_tokens");
+        if (usage.isNumber()) {
+            synchronized (limiterLock) {
+                long actual = usage.asLong();
+                if (actual < estimatedTokens) {
+                    tokenBucket.release(estimatedTokens - actual);
+                } else {
+                    tokenBucket.reserve(actual - estimatedTokens);
+                }
+            }
+        }
+        return root.at("/choices/0/message/content").asText();
+    }
+
+    private static String promptOf(Map<String, Object> requestBody) {
+        Object messages = requestBody.get("messages");
+        StringBuilder prompt = new StringBuilder();
+        if (messages instanceof Collection<?> list) {
+            for (Object message : list) {
+                if (message instanceof Map<?, ?> m && m.get("content") != null) {
+                    prompt.append(prompt.length() == 0 ? "" : "\n").append(m.get("content"));
+                }
+            }
+        }
+        return prompt.toString();
+    }
+
+    /**
+     * Retry-After as sent by OpenAI: retry-after-ms, or retry-after in (possibly fractional) seconds
+     */
+    private static long retryAfterMillis(HttpResponse<?> response) {
+        try {
+            Optional<String> millis = response.headers().firstValue("retry-after-ms");
+            if (millis.isPresent()) {
+                return (long) Double.parseDouble(millis.get());
+            }
+            Optional<String> seconds = response.headers().firstValue("retry-after");
+            if (seconds.isPresent()) {
+                return (long) (Double.parseDouble(seconds.get()) * 1000);
+            }
+        } catch (NumberFormatException e) {
+            // HTTP-date form; fall back to our own backoff
+        }
+        return 0;
+    }
+
+    private static long backoffMillis(int attempt) {
+        long ceiling = Math.min(MAX_BACKOFF_MS, BASE_BACKOFF_MS << (attempt - 1));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+}
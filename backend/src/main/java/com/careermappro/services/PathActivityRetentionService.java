@@ -0,0 +1,177 @@
+package com.careermappro.services;
+
+import com.careermappro.repositories.NativeSqlTemplate;
+import com.careermappro.repositories.SqlDialect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * PathActivityRetentionService
+ * Keeps path_activities bounded. Raw activities older than the retention window
+ * are compacted, one calendar month at a time, into per-user daily rows in
+ * path_activity_daily and then removed.
+ *
+ * With paths.activities.partitioned=true (after running the matching script in
+ * db/partitioning) the table is range-partitioned by month: the job also creates
+ * partitions for the coming months, and an expired month goes by dropping its
+ * partition instead of deleting its rows.
+ */
+@Service
+public class PathActivityRetentionService {
+
+    private static final DateTimeFormatter MONTH_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    // Partitions created ahead of the current month
+    private static final int MONTHS_AHEAD = 2;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NativeSqlTemplate nativeSql;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionMonths;
+    private final boolean partitioned;
+
+    public PathActivityRetentionService(
+            JdbcTemplate jdbcTemplate,
+            NativeSqlTemplate nativeSql,
+            TransactionTemplate transactionTemplate,
+            @Value("${paths.activities.retention-months:12}") int retentionMonths,
+            @Value("${paths.activities.partitioned:false}") boolean partitioned) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.nativeSql = nativeSql;
+        this.transactionTemplate = transactionTemplate;
+        this.retentionMonths = retentionMonths;
+        this.partitioned = partitioned;
+    }
+
+    @Scheduled(cron = "${paths.activities.retention-cron:0 15 4 * * *}")
+    public void run() {
+        YearMonth current = YearMonth.now();
+        try {
+            if (partitioned) {
+                ensurePartitions(current);
+            }
+            int compacted = compactBefore(current.minusMonths(retentionMonths));
+            if (compacted > 0) {
+                System.out.println(String.format("[ACTIVITY-RETENTION] Compacted %d month(s) of path activities", compacted));
+            }
+        } catch (Exception e) {
+            System.err.println("[ACTIVITY-RETENTION] Run failed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Roll up and remove every month older than cutoff that still has raw activities
+     */
+    int compactBefore(YearMonth cutoff) {
+        Timestamp oldest = jdbcTemplate.queryForObject("SELECT MIN(created_at) FROM path_activities", Timestamp.class);
+        if (oldest == null) {
+            return 0;
+        }
+
+        int compacted = 0;
+        Set<String> partitions = partitioned ? existingPartitions() : Set.of();
+        for (YearMonth month = YearMonth.from(oldest.toLocalDateTime()); month.isBefore(cutoff); month = month.plusMonths(1)) {
+            String partition = partitionName(month);
+            boolean dropPartition = partitions.contains(partition);
+            compactMonth(month, !dropPartition);
+            if (dropPartition) {
+                // DDL commits on its own on MySQL, so it runs after the rollup is committed.
+                // If it fails, the next run finds the rows again and redoes the month.
+                jdbcTemplate.execute(nativeSql.dialect() == SqlDialect.MYSQL
+                    ? "ALTER TABLE path_activities DROP PARTITION " + partition
+                    : "DROP TABLE " + partition);
+            }
+            compacted++;
+        }
+        return compacted;
+    }
+
+    /**
+     * Replace the month's daily rollup with one computed from its raw rows and, unless
+     * a partition drop will remove them, delete those rows in the same transaction
+     */
+    private void compactMonth(YearMonth month, boolean deleteRows) {
+        Timestamp from = Timestamp.valueOf(month.atDay(1).atStartOfDay());
+        Timestamp to = Timestamp.valueOf(month.plusMonths(1).atDay(1).atStartOfDay());
+        LocalDate fromDate = month.atDay(1);
+        LocalDate toDate = month.plusMonths(1).atDay(1);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM path_activity_daily WHERE activity_date >= ? AND activity_date < ?",
+                fromDate, toDate);
+            int rows = jdbcTemplate.update(
+                "INSERT INTO path_activity_daily " +
+                "(user_id, path_id, activity_date, activity_type, activity_count, total_minutes) " +
+                "SELECT user_id, path_id, CAST(created_at AS DATE), activity_type, COUNT(*), " + minutesSum() + " " +
+                "FROM path_activities WHERE created_at >= ? AND created_at < ? " +
+                "GROUP BY user_id, path_id, CAST(created_at AS DATE), activity_type",
+                from, to);
+            if (deleteRows) {
+                jdbcTemplate.update("DELETE FROM path_activities WHERE created_at >= ? AND created_at < ?", from, to);
+            }
+            System.out.println(String.format("[ACTIVITY-RETENTION] %s rolled up into %d daily rows", month, rows));
+        });
+    }
+
+    /**
+     * Make sure the current and next MONTHS_AHEAD months have their own partition
+     */
+    private void ensurePartitions(YearMonth current) {
+        Set<String> existing = existingPartitions();
+        for (int i = 0; i <= MONTHS_AHEAD; i++) {
+            YearMonth month = current.plusMonths(i);
+            String name = partitionName(month);
+            if (existing.contains(name)) {
+                continue;
+            }
+            String end = month.plusMonths(1).atDay(1).toString();
+            if (nativeSql.dialect() == SqlDialect.MYSQL) {
+                // Split the catch-all partition; months are added in order so bounds stay increasing
+                jdbcTemplate.execute("ALTER TABLE path_activities REORGANIZE PARTITION p_future INTO (" +
+                    "PARTITION " + name + " VALUES LESS THAN ('" + end + " 00:00:00'), " +
+                    "PARTITION p_future VALUES LESS THAN MAXVALUE)");
+            } else if (nativeSql.dialect() == SqlDialect.POSTGRESQL) {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + name + " PARTITION OF path_activities " +
+                    "FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + end + "')");
+            }
+            System.out.println("[ACTIVITY-RETENTION] Created partition " + name);
+        }
+    }
+
+    private Set<String> existingPartitions() {
+        String sql = switch (nativeSql.dialect()) {
+            case MYSQL -> "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'path_activities' AND PARTITION_NAME IS NOT NULL";
+            case POSTGRESQL -> "SELECT c.relname FROM pg_inherits i " +
+                "JOIN pg_class c ON c.oid = i.inhrelid JOIN pg_class p ON p.oid = i.inhparent " +
+                "WHERE p.relname = 'path_activities'";
+            case H2 -> null;
+        };
+        return sql == null ? Set.of() : new HashSet<>(jdbcTemplate.queryForList(sql, String.class));
+    }
+
+    /**
+     * MySQL partitions are pYYYYMM inside the table; PostgreSQL partitions are tables
+     */
+    private String partitionName(YearMonth month) {
+        String suffix = "p" + month.format(MONTH_SUFFIX);
+        return nativeSql.dialect() == SqlDialect.POSTGRESQL ? "path_activities_" + suffix : suffix;
+    }
+
+    /**
+     * Total of metadata.minutes (written by PathActivityService.record) per group
+     */
+    private String minutesSum() {
+        return "COALESCE(SUM(" + nativeSql.dialect().jsonIntField("metadata", "minutes") + "), 0)";
+    }
+}
@@ -0,0 +1,210 @@
+package com.careermappro.services;
+
+import com.careermappro.entities.PathActivity;
+import com.careermappro.entities.PathActivity.ActivityType;
+import com.careermappro.entities.PathProgress;
+import com.careermappro.repositories.PathActivityDailyRepository;
+import com.careermappro.repositories.PathActivityRepository;
+import com.careermappro.repositories.PathProgressRepository;
+import com.careermappro.repositories.PathStepRepository;
+import com.careermappro.repositories.PathUnitRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PathActivityService
+ * Appends learning-path activities to path_activities and keeps the matching
+ * path_progress row current in the same transaction, so dashboards read one
+ * row instead of counting the log. The log stays the source of truth:
+ * rebuild() recomputes a progress row from it for repair, including the daily
+ * rollups that PathActivityRetentionService leaves behind for expired activities.
+ */
+@Service
+public class PathActivityService {
+
+    /**
+     * Counter changes produced by one activity
+     */
+    record Delta(int units, int steps, int minutes, int evidence, int quizzes) {}
+
+    private final PathActivityRepository activityRepository;
+    private final PathActivityDailyRepository dailyRepository;
+    private final PathProgressRepository progressRepository;
+    private final PathUnitRepository unitRepository;
+    private final PathStepRepository stepRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public PathActivityService(PathActivityRepository activityRepository,
+                               PathActivityDailyRepository dailyRepository,
+                               PathProgressRepository progressRepository,
+                               PathUnitRepository unitRepository,
+                               PathStepRepository stepRepository,
+                               TransactionTemplate transactionTemplate) {
+        this.activityRepository = activityRepository;
+        this.dailyRepository = dailyRepository;
+        this.progressRepository = progressRepository;
+        this.unitRepository = unitRepository;
+        this.stepRepository = stepRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Append an activity and apply its delta to the user's progress on the path.
+     * minutes (optional) is time spent and is kept in the activity metadata so a
+     * rebuild can sum it again.
+     */
+    @Transactional
+    public PathActivity record(Integer userId, Integer pathId, Integer stepId, ActivityType type,
+                               Integer minutes, String description) {
+        PathActivity activity = new PathActivity(userId, pathId, stepId, type);
+        activity.setDescription(description);
+        int spent = minutes != null ? Math.max(0, minutes) : 0;
+        if (spent > 0) {
+            activity.setMetadata(objectMapper.createObjectNode().put("minutes", spent).toString());
+        }
+        activityRepository.save(activity);
+
+        Delta delta = deltaFor(type, spent);
+        Integer currentStepId = type == ActivityType.STEP_STARTED ? stepId : null;
+        LocalDateTime at = activity.getCreatedAt();
+
+        int updated = applyDelta(userId, pathId, delta, currentStepId, at);
+        if (updated == 0) {
+            // First activity on this path: create the row with the path's totals unless a
+            // concurrent first activity just did, then increment it like any other
+            progressRepository.insertIfAbsent(newProgress(userId, pathId));
+            applyDelta(userId, pathId, delta, currentStepId, at);
+        }
+        return activity;
+    }
+
+    /**
+     * Current progress row for a user on a path, if any activity has been recorded
+     */
+    @Transactional(readOnly = true)
+    public PathProgress getProgress(Integer userId, Integer pathId) {
+        return progressRepository.findByPathIdAndUserId(pathId, userId).orElse(null);
+    }
+
+    /**
+     * Recompute a progress row from the activity log and the path's current totals.
+     * The row is locked before the log is read: an activity committed earlier is counted,
+     * and one still in flight waits on the lock and applies its delta to the rebuilt row.
+     */
+    @Transactional
+    public PathProgress rebuild(Integer userId, Integer pathId) {
+        PathProgress progress = lockProgress(userId, pathId);
+
+        Map<ActivityType, Long> counts = new EnumMap<>(ActivityType.class);
+        for (Object[] row : activityRepository.countByTypeForUserAndPath(userId, pathId)) {
+            counts.put((ActivityType) row[0], (Long) row[1]);
+        }
+        int minutes = 0;
+        for (String metadata : activityRepository.findMetadataForUserAndPath(userId, pathId)) {
+            minutes += minutesIn(metadata);
+        }
+        for (Object[] row : dailyRepository.sumByTypeForUserAndPath(userId, pathId)) {
+            counts.merge(ActivityType.valueOf((String) row[0]), ((Number) row[1]).longValue(), Long::sum);
+            minutes += ((Number) row[2]).intValue();
+        }
+
+        progress.setTotalUnits((int) unitRepository.countByPathId(pathId));
+        progress.setTotalSteps((int) stepRepository.countStepsInPath(pathId));
+        progress.setCompletedUnits(counts.getOrDefault(ActivityType.UNIT_COMPLETED, 0L).intValue());
+        progress.setCompletedSteps(counts.getOrDefault(ActivityType.STEP_COMPLETED, 0L).intValue());
+        progress.setEvidenceSubmitted(counts.getOrDefault(ActivityType.EVIDENCE_SUBMITTED, 0L).intValue());
+        progress.setQuizzesCompleted(counts.getOrDefault(ActivityType.QUIZ_TAKEN, 0L).intValue());
+        progress.setTotalTimeMinutes(minutes);
+        progress.setOverallProgress(overallProgress(progress.getCompletedSteps(), progress.getTotalSteps(),
+            progress.getOverallProgress()));
+        activityRepository.findMostRecentPathActivity(userId, pathId)
+            .ifPresent(latest -> progress.setLastActivityAt(latest.getCreatedAt()));
+        progress.setUpdatedAt(LocalDateTime.now());
+        return progressRepository.save(progress);
+    }
+
+    /**
+     * Nightly repair pass: rebuild every (user, path) pair with activity, each in its
+     * own transaction so one bad row doesn't roll back the rest
+     */
+    @Scheduled(cron = "${paths.progress.rebuild-cron:0 30 3 * * *}")
+    public void rebuildAll() {
+        List<Object[]> pairs = activityRepository.findUserPathPairs();
+        int failed = 0;
+        for (Object[] pair : pairs) {
+            Integer userId = (Integer) pair[0];
+            Integer pathId = (Integer) pair[1];
+            try {
+                transactionTemplate.executeWithoutResult(status -> rebuild(userId, pathId));
+            } catch (Exception e) {
+                failed++;
+                System.err.println(String.format("[PATH-PROGRESS] Rebuild failed for user %d path %d: %s",
+                    userId, pathId, e.getMessage()));
+            }
+        }
+        System.out.println(String.format("[PATH-PROGRESS] Rebuilt %d progress rows (%d failed)",
+            pairs.size() - failed, failed));
+    }
+
+    static Delta deltaFor(ActivityType type, int minutes) {
+        return switch (type) {
+            case UNIT_COMPLETED -> new Delta(1, 0, minutes, 0, 0);
+            case STEP_COMPLETED -> new Delta(0, 1, minutes, 0, 0);
+            case EVIDENCE_SUBMITTED -> new Delta(0, 0, minutes, 1, 0);
+            case QUIZ_TAKEN -> new Delta(0, 0, minutes, 0, 1);
+            default -> new Delta(0, 0, minutes, 0, 0);
+        };
+    }
+
+    private int applyDelta(Integer userId, Integer pathId, Delta delta, Integer currentStepId, LocalDateTime at) {
+        return progressRepository.applyActivityDelta(userId, pathId, delta.units(), delta.steps(), delta.minutes(),
+            delta.evidence(), delta.quizzes(), currentStepId, at);
+    }
+
+    private PathProgress lockProgress(Integer userId, Integer pathId) {
+        return progressRepository.findForUpdate(userId, pathId).orElseGet(() -> {
+            progressRepository.insertIfAbsent(newProgress(userId, pathId));
+            return progressRepository.findForUpdate(userId, pathId).orElseThrow();
+        });
+    }
+
+    private PathProgress newProgress(Integer userId, Integer pathId) {
+        PathProgress progress = new PathProgress(pathId, userId);
+        progress.setTotalUnits((int) unitRepository.countByPathId(pathId));
+        progress.setTotalSteps((int) stepRepository.countStepsInPath(pathId));
+        return progress;
+    }
+
+    /**
+     * Same formula as the increment in PathProgressRepository.applyActivityDelta
+     */
+    private static BigDecimal overallProgress(int completedSteps, int totalSteps, BigDecimal current) {
+        if (totalSteps <= 0) {
+            return current;
+        }
+        BigDecimal percent = BigDecimal.valueOf(completedSteps * 100L)
+            .divide(BigDecimal.valueOf(totalSteps), 2, RoundingMode.HALF_UP);
+        return percent.min(new BigDecimal("100.00"));
+    }
+
+    private int minutesIn(String metadata) {
+        try {
+            JsonNode node = objectMapper.readTree(metadata);
+            return Math.max(0, node.path("minutes").asInt(0));
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+}
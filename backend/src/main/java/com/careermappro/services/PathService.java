@@ -4,6 +4,7 @@ import com.careermappro.entities.*;
 import com.careermappro.repositories.*;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -15,19 +16,22 @@ public class PathService {
     private final UserSkillStateRepository userSkillStateRepository;
     private final RoleRepository roleRepository;
     private final UserRepository userRepository;
+    private final PathSnapshotService pathSnapshotService;
 
     public PathService(
         UserRoleRepository userRoleRepository,
         RoleSkillRepository roleSkillRepository,
         UserSkillStateRepository userSkillStateRepository,
         RoleRepository roleRepository,
-        UserRepository userRepository
+        UserRepository userRepository,
+        PathSnapshotService pathSnapshotService
     ) {
         this.userRoleRepository = userRoleRepository;
         this.roleSkillRepository = roleSkillRepository;
         this.userSkillStateRepository = userSkillStateRepository;
         this.roleRepository = roleRepository;
         this.userRepository = userRepository;
+        this.pathSnapshotService = pathSnapshotService;
     }
 
     /**
@@ -56,6 +60,16 @@ public class PathService {
         response.put("roleName", role.getName());
         response.put("roleCategory", role.getCategory());
 
+        // Serve the latest snapshot if nothing readiness depends on has changed since
+        String stateVersion = pathSnapshotService.stateVersion(userId, role.getId());
+        Optional<PathSnapshotService.Snapshot> snapshot = pathSnapshotService.findCurrent(userId, role.getId(), stateVersion);
+        if (snapshot.isPresent()) {
+            response.put("readiness", snapshot.get().readiness());
+            response.put("skillBreakdown", snapshot.get().skillBreakdown());
+            response.put("nextActions", snapshot.get().nextActions());
+            return response;
+        }
+
         // Get required skills for this role
         List<RoleSkill> requiredSkills = roleSkillRepository.findByRoleId(role.getId());
 
@@ -68,8 +82,8 @@ public class PathService {
             ));
 
         // Calculate readiness (0-10 scale)
-        double readiness = calculateReadiness(requiredSkills, userSkillLevels);
-        response.put("readiness", Math.round(readiness * 10.0) / 10.0);
+        double readiness = Math.round(calculateReadiness(requiredSkills, userSkillLevels) * 10.0) / 10.0;
+        response.put("readiness", readiness);
 
         // Breakdown by skill
         List<Map<String, Object>> skillBreakdown = requiredSkills.stream()
@@ -93,6 +107,38 @@ public class PathService {
         List<Map<String, Object>> nextActions = determineNextActions(skillBreakdown);
         response.put("nextActions", nextActions);
 
+        pathSnapshotService.save(userId, role.getId(), stateVersion, readiness, skillBreakdown, nextActions);
+
+        return response;
+    }
+
+    /**
+     * GET /api/v1/path/history
+     * Keyset page of the user's path snapshots, newest first
+     */
+    public Map<String, Object> getPathHistory(Integer userId, LocalDateTime beforeCreatedAt, Integer beforeId, int limit) {
+        List<PathSnapshotService.Snapshot> snapshots = pathSnapshotService.history(userId, beforeCreatedAt, beforeId, limit);
+
+        List<Map<String, Object>> items = snapshots.stream()
+            .map(snapshot -> {
+                Map<String, Object> item = new HashMap<>();
+                item.put("snapshotId", snapshot.snapshotId());
+                item.put("roleId", snapshot.roleId());
+                item.put("readiness", snapshot.readiness());
+                item.put("nextActions", snapshot.nextActions());
+                item.put("createdAt", snapshot.createdAt() != null ? snapshot.createdAt().toString() : null);
+                return item;
+            })
+            .collect(Collectors.toList());
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("userId", userId);
+        response.put("snapshots", items);
+        if (snapshots.size() == limit) {
+            PathSnapshotService.Snapshot last = snapshots.get(snapshots.size() - 1);
+            response.put("nextBeforeCreatedAt", last.createdAt().toString());
+            response.put("nextBeforeId", last.snapshotId());
+        }
         return response;
     }
 
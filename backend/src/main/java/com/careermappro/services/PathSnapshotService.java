@@ -0,0 +1,141 @@
+package com.careermappro.services;
+
+import com.careermappro.entities.PathSnapshot;
+import com.careermappro.repositories.PathSnapshotRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * PathSnapshotService
+ * Persists getPathState results to path_snapshots and decides whether the
+ * latest snapshot is still valid.
+ *
+ * Validity is a fingerprint of everything readiness depends on (role id,
+ * the role's required skills, the user's skill states), computed by a single
+ * aggregate query over indexed columns instead of loading the entities.
+ */
+@Service
+public class PathSnapshotService {
+
+    public record Snapshot(Integer snapshotId, Integer roleId, double readiness,
+                           List<Map<String, Object>> skillBreakdown,
+                           List<Map<String, Object>> nextActions,
+                           LocalDateTime createdAt) {}
+
+    private static final String VERSION_SQL =
+        "SELECT rs.cnt, rs.total, us.cnt, us.score, us.mixed, us.latest, rs.skills, rs.skill_weights, rs.skill_levels FROM " +
+        "(SELECT COUNT(*) AS cnt, COALESCE(SUM(weight * required_level), 0) AS total, " +
+        // skill_id terms, so swapping one skill for another at the same weight and level changes the version
+        "        COALESCE(SUM(skill_id), 0) AS skills, COALESCE(SUM(skill_id * weight), 0) AS skill_weights, " +
+        "        COALESCE(SUM(skill_id * required_level), 0) AS skill_levels " +
+        "   FROM role_skill WHERE role_id = ?) rs CROSS JOIN " +
+        "(SELECT COUNT(*) AS cnt, COALESCE(SUM(evidence_score), 0) AS score, " +
+        "        COALESCE(SUM(skill_id * evidence_score), 0) AS mixed, MAX(updated_at) AS latest " +
+        "   FROM user_skill_states WHERE user_id = ?) us";
+
+    private static final TypeReference<List<Map<String, Object>>> ROWS = new TypeReference<>() {};
+
+    private final PathSnapshotRepository snapshotRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public PathSnapshotService(PathSnapshotRepository snapshotRepository, JdbcTemplate jdbcTemplate) {
+        this.snapshotRepository = snapshotRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Fingerprint of the inputs to getPathState for this user and role
+     */
+    public String stateVersion(Integer userId, Integer roleId) {
+        String raw = jdbcTemplate.queryForObject(VERSION_SQL, (rs, rowNum) ->
+            roleId + "|" + rs.getLong(1) + "|" + rs.getBigDecimal(2) + "|" +
+            rs.getLong(3) + "|" + rs.getBigDecimal(4) + "|" + rs.getBigDecimal(5) + "|" + rs.getTimestamp(6) + "|" +
+            rs.getBigDecimal(7) + "|" + rs.getBigDecimal(8) + "|" + rs.getBigDecimal(9),
+            roleId, userId);
+        return sha256(raw);
+    }
+
+    /**
+     * Latest snapshot if it was taken for this role at this state version
+     */
+    public Optional<Snapshot> findCurrent(Integer userId, Integer roleId, String stateVersion) {
+        return snapshotRepository.findFirstByUserIdOrderByCreatedAtDescSnapshotIdDesc(userId)
+            .filter(s -> roleId.equals(s.getRoleId()) && stateVersion.equals(s.getStateVersion()))
+            .map(this::toSnapshot);
+    }
+
+    public void save(Integer userId, Integer roleId, String stateVersion, double readiness,
+                     List<Map<String, Object>> skillBreakdown, List<Map<String, Object>> nextActions) {
+        try {
+            snapshotRepository.save(new PathSnapshot(
+                userId,
+                roleId,
+                readiness,
+                objectMapper.writeValueAsString(skillBreakdown),
+                objectMapper.writeValueAsString(nextActions),
+                stateVersion
+            ));
+        } catch (Exception e) {
+            // A missing snapshot only costs a recompute on the next request
+            System.err.println("[PATH-SNAPSHOT] Failed to store snapshot for user " + userId + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * One page of a user's snapshots, newest first. Pass the last row's
+     * (createdAt, snapshotId) to get the next page; null for the first page.
+     */
+    public List<Snapshot> history(Integer userId, LocalDateTime beforeCreatedAt, Integer beforeId, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        List<PathSnapshot> rows = beforeCreatedAt == null || beforeId == null
+            ? snapshotRepository.findByUserIdOrderByCreatedAtDescSnapshotIdDesc(userId, page)
+            : snapshotRepository.findPageBefore(userId, beforeCreatedAt, beforeId, page);
+        List<Snapshot> snapshots = new ArrayList<>(rows.size());
+        for (PathSnapshot row : rows) {
+            snapshots.add(toSnapshot(row));
+        }
+        return snapshots;
+    }
+
+    private Snapshot toSnapshot(PathSnapshot row) {
+        return new Snapshot(
+            row.getSnapshotId(),
+            row.getRoleId(),
+            row.getReadinessScore() != null ? row.getReadinessScore() : 0.0,
+            readRows(row.getBreakdownJson()),
+            readRows(row.getNextActionJson()),
+            row.getCreatedAt()
+        );
+    }
+
+    private List<Map<String, Object>> readRows(String json) {
+        if (json == null || json.isEmpty()) {
+            return new ArrayList<>();
+        }
+        try {
+            return objectMapper.readValue(json, ROWS);
+        } catch (Exception e) {
+            System.err.println("[PATH-SNAPSHOT] Unreadable snapshot JSON: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    private static String sha256(String text) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
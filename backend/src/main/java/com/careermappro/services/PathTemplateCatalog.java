@@ -0,0 +1,132 @@
+package com.careermappro.services;
+
+import com.careermappro.models.DetailedPathNode;
+import com.careermappro.models.PathView;
+import com.careermappro.util.KeywordMatcher;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * PathTemplateCatalog
+ * Role path templates loaded from classpath:path-templates/.
+ * index.json (version, role keyword rules) is parsed at startup; each template
+ * file is parsed on first use into an immutable node list shared by all callers.
+ *
+ * Template nodes are compact arrays in the field order declared by index.json:
+ * [id, name, whyItMatters, assessmentType, proofRequirement, difficulty,
+ *  estimatedHours, category, unlocks[], competencies[]]
+ */
+@Service
+public class PathTemplateCatalog {
+
+    private static final String BASE_PATH = "path-templates/";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final int version;
+    private final String fallbackTemplate;
+    private final KeywordMatcher<String> roleMatcher;
+
+    private final Map<String, List<DetailedPathNode>> templates = new ConcurrentHashMap<>();
+    private final Map<String, String> templateByRoleName = new ConcurrentHashMap<>();
+
+    public PathTemplateCatalog() {
+        JsonNode index = readResource("index.json");
+        this.version = index.get("version").asInt();
+        this.fallbackTemplate = index.get("fallback").asText();
+
+        // Rules are ordered: earlier rules win when several keywords occur in a role name
+        KeywordMatcher.Builder<String> builder = KeywordMatcher.builder();
+        int priority = 0;
+        for (JsonNode rule : index.get("rules")) {
+            String template = rule.get("template").asText();
+            for (JsonNode keyword : rule.get("keywords")) {
+                builder.add(keyword.asText(), template, priority);
+            }
+            priority++;
+        }
+        this.roleMatcher = builder.build();
+    }
+
+    /**
+     * Version of the template set, bumped whenever a template file changes
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Template key for a role name (e.g. "Senior Backend Engineer" -> "backend-engineer")
+     */
+    public String resolveTemplateKey(String roleName) {
+        String normalized = roleName == null ? "" : roleName.toLowerCase();
+        return templateByRoleName.computeIfAbsent(normalized, name -> roleMatcher.firstMatch(name).orElseGet(() -> {
+            System.out.println("[TEMPLATE] Unknown role '" + roleName + "', using " + fallbackTemplate + " template as fallback");
+            return fallbackTemplate;
+        }));
+    }
+
+    /**
+     * Shared, frozen nodes of a template
+     */
+    public List<DetailedPathNode> getTemplate(String templateKey) {
+        return templates.computeIfAbsent(templateKey, this::loadTemplate);
+    }
+
+    /**
+     * Copy-on-write view of the template for a role
+     */
+    public PathView viewForRole(String roleName) {
+        return new PathView(getTemplate(resolveTemplateKey(roleName)));
+    }
+
+    private List<DetailedPathNode> loadTemplate(String templateKey) {
+        JsonNode rows = readResource(templateKey + ".json");
+        List<DetailedPathNode> nodes = new ArrayList<>(rows.size());
+        for (JsonNode row : rows) {
+            DetailedPathNode node = new DetailedPathNode();
+            node.setSkillNodeId(row.get(0).asInt());
+            node.setName(row.get(1).asText());
+            node.setWhyItMatters(row.get(2).asText());
+            node.setAssessmentType(row.get(3).asText());
+            node.setProofRequirement(row.get(4).asText());
+            node.setDifficulty(row.get(5).asInt());
+            node.setEstimatedHours(row.get(6).asInt());
+            node.setCategory(row.get(7).asText());
+            node.setDependencies(List.of());
+            node.setUnlocks(toIntList(row.get(8)));
+            node.setCompetencies(toIntList(row.get(9)));
+            node.setLearnResources(List.of());
+            nodes.add(node.freeze());
+        }
+        System.out.println("[TEMPLATE] Loaded template '" + templateKey + "' with " + nodes.size() + " nodes");
+        return List.copyOf(nodes);
+    }
+
+    private List<Integer> toIntList(JsonNode array) {
+        List<Integer> values = new ArrayList<>(array.size());
+        for (JsonNode value : array) {
+            values.add(value.asInt());
+        }
+        return values;
+    }
+
+    private JsonNode readResource(String name) {
+        try (InputStream in = getClass().getClassLoader().getResourceAsStream(BASE_PATH + name)) {
+            if (in == null) {
+                throw new IllegalStateException("Path template resource not found: " + BASE_PATH + name);
+            }
+            return objectMapper.readTree(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read path template " + name, e);
+        }
+    }
+}
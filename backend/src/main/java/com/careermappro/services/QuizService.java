@@ -1,10 +1,12 @@
 package com.careermappro.services;
 
 import com.careermappro.entities.*;
+import com.careermappro.events.QuizCompletedEvent;
 import com.careermappro.repositories.QuizRepository;
 import com.careermappro.repositories.QuizQuestionRepository;
 import com.careermappro.repositories.ProficiencyRepository;
 import com.careermappro.repositories.SkillNodeRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,19 +23,22 @@ public class QuizService {
     private final SkillNodeRepository skillNodeRepository;
     private final AssessmentResultService assessmentResultService;
     private final GPTService gptService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public QuizService(QuizRepository quizRepository,
                       QuizQuestionRepository questionRepository,
                       ProficiencyRepository proficiencyRepository,
                       SkillNodeRepository skillNodeRepository,
                       AssessmentResultService assessmentResultService,
-                      GPTService gptService) {
+                      GPTService gptService,
+                      ApplicationEventPublisher eventPublisher) {
         this.quizRepository = quizRepository;
         this.questionRepository = questionRepository;
         this.proficiencyRepository = proficiencyRepository;
         this.skillNodeRepository = skillNodeRepository;
         this.assessmentResultService = assessmentResultService;
         this.gptService = gptService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -155,6 +160,7 @@ public class QuizService {
         quiz.setCompletedAt(LocalDateTime.now());
         quiz.setTimeTakenSeconds(timeTaken);
         quizRepository.save(quiz);
+        eventPublisher.publishEvent(new QuizCompletedEvent(quiz.getUserId(), quizId, score));
 
         // NEW: Update EDLSG state machine via AssessmentResultService
         // This replaces the old updateUserProficiency call that only updated the legacy proficiencies table
@@ -496,10 +502,10 @@ public class QuizService {
     }
 
     /**
-     * Parse JSON response into question data
+     * Parse JSON response into question data (package-private for the JMH benchmarks)
      */
     @SuppressWarnings("unchecked")
-    private List<Map<String, String>> parseQuestionJson(String jsonContent) {
+    List<Map<String, String>> parseQuestionJson(String jsonContent) {
         // Simple JSON parsing (in production, use Jackson or Gson)
         List<Map<String, String>> questions = new ArrayList<>();
 
@@ -3,9 +3,12 @@ package com.careermappro.services;
 import com.careermappro.models.*;
 import com.careermappro.repositories.*;
 import com.careermappro.entities.SkillNode;
+import com.careermappro.util.SingleFlight;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.net.HttpURLConnection;
 import java.net.URI;
@@ -44,6 +47,9 @@ public class ResourceSelectionService {
     private static final float POPULARITY_BOOST = 0.3f;
     private static final float TYPE_PREFERENCE_BOOST = 0.4f;
 
+    // One OpenAI call and one set of inserts per node, however many users hit it at once
+    private final SingleFlight<Integer, List<CuratedResource>> discoveries = new SingleFlight<>();
+
     /**
      * Get personalized resources for a node
      * Returns 2-3 resources tailored to user preferences
@@ -67,8 +73,10 @@ public class ResourceSelectionService {
         // 3. If not enough resources, fetch new ones via OpenAI
         if (candidateResources.size() < DEFAULT_RESOURCE_COUNT) {
             System.out.println("[RESOURCE-SELECT] Not enough resources, fetching new ones via OpenAI");
-            List<CuratedResource> newResources = discoverNewResources(nodeId);
-            candidateResources.addAll(newResources);
+            // Discovered resources are shared with concurrent callers; score private copies
+            for (CuratedResource discovered : discoverNewResources(nodeId)) {
+                candidateResources.add(copyOf(discovered));
+            }
         }
 
         // 4. Calculate personalized scores for each resource
@@ -175,10 +183,16 @@ public class ResourceSelectionService {
     }
 
     /**
-     * Discover new resources via OpenAI and add them to the catalog
+     * Discover new resources via OpenAI and add them to the catalog.
+     * Concurrent calls for the same node share one discovery; the node stays claimed
+     * until the discovering transaction completes so late arrivals don't insert again.
      */
     @Transactional
     public List<CuratedResource> discoverNewResources(Integer nodeId) {
+        return discoveries.execute(nodeId, () -> discover(nodeId), ResourceSelectionService::afterTransaction);
+    }
+
+    private List<CuratedResource> discover(Integer nodeId) {
         System.out.println("[RESOURCE-DISCOVER] Discovering new resources for node=" + nodeId);
 
         // Get node details
@@ -216,7 +230,33 @@ public class ResourceSelectionService {
         }
 
         System.out.println("[RESOURCE-DISCOVER] Added " + validResources.size() + " new resources");
-        return validResources;
+        return List.copyOf(validResources);
+    }
+
+    private static void afterTransaction(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+
+    private static CuratedResource copyOf(CuratedResource resource) {
+        CuratedResource copy = new CuratedResource(resource.getTitle(), resource.getUrl(), resource.getType(),
+            resource.getSource(), resource.getDescription(), resource.getEstimatedMinutes());
+        copy.setResourceId(resource.getResourceId());
+        copy.setTags(resource.getTags());
+        copy.setAvgQualityScore(resource.getAvgQualityScore());
+        copy.setTotalRatings(resource.getTotalRatings());
+        copy.setLastVerified(resource.getLastVerified());
+        copy.setCreatedAt(resource.getCreatedAt());
+        copy.setUpdatedAt(resource.getUpdatedAt());
+        return copy;
     }
 
     /**
@@ -1,62 +1,92 @@
 package com.careermappro.services;
 
-import com.careermappro.entities.UserSkillState;
+import com.careermappro.repositories.SkillNodeRepository;
 import com.careermappro.repositories.UserSkillStateRepository;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.careermappro.util.ResumeSectionSplitter;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 @Service
 public class ResumeAnalysisService {
 
-    @Value("${openai.api.key}")
-    private String openAIKey;
-
     private final UserSkillStateRepository userSkillStateRepository;
     private final OpenAIService openAIService;
+    private final OpenAiClient openAiClient;
+    private final ResumeTextExtractor textExtractor;
+    private final ResumeKeywordIndex keywordIndex;
+    private final SkillNodeRepository skillNodeRepository;
+    private final StateTransitionService stateTransitionService;
+    private final TransactionTemplate transactionTemplate;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    public ResumeAnalysisService(UserSkillStateRepository userSkillStateRepository, OpenAIService openAIService) {
+    // Per-section chunks sent as separate completions; text past the last chunk is skipped
+    private static final int MAX_CHUNK_CHARS = 6_000;
+    private static final int MAX_CHUNKS = 8;
+
+    private static final List<String> PROFICIENCY_ORDER = List.of("beginner", "intermediate", "advanced");
+
+    public ResumeAnalysisService(UserSkillStateRepository userSkillStateRepository, OpenAIService openAIService,
+                                 OpenAiClient openAiClient, ResumeTextExtractor textExtractor,
+                                 ResumeKeywordIndex keywordIndex, SkillNodeRepository skillNodeRepository,
+                                 StateTransitionService stateTransitionService, TransactionTemplate transactionTemplate) {
         this.userSkillStateRepository = userSkillStateRepository;
         this.openAIService = openAIService;
+        this.openAiClient = openAiClient;
+        this.textExtractor = textExtractor;
+        this.keywordIndex = keywordIndex;
+        this.skillNodeRepository = skillNodeRepository;
+        this.stateTransitionService = stateTransitionService;
+        this.transactionTemplate = transactionTemplate;
     }
 
     /**
-     * Analyze resume from uploaded file
+     * Analyze resume from uploaded file (PDF, DOCX or plain text).
+     * Lines go straight from the extractor into the section splitter, so only the
+     * bounded set of chunks is ever held in memory.
      */
     public Map<String, Object> analyzeResumeFile(Integer userId, MultipartFile file) {
-        try {
-            // Extract text from file
-            String resumeText = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))
-                    .lines()
-                    .collect(Collectors.joining("\n"));
-
-            return analyzeResumeText(userId, resumeText);
+        ResumeSectionSplitter splitter = new ResumeSectionSplitter(MAX_CHUNK_CHARS, MAX_CHUNKS);
+        try (InputStream in = file.getInputStream()) {
+            ResumeTextExtractor.Format format = textExtractor.extract(in, splitter::accept);
+            System.out.println(String.format("[RESUME] Extracted %s resume for user %d", format, userId));
         } catch (Exception e) {
             return Map.of("error", "Failed to parse resume file: " + e.getMessage());
         }
+        return analyzeSections(userId, splitter);
     }
 
     /**
      * Analyze resume from text input
      */
     public Map<String, Object> analyzeResumeText(Integer userId, String resumeText) {
+        ResumeSectionSplitter splitter = new ResumeSectionSplitter(MAX_CHUNK_CHARS, MAX_CHUNKS);
+        resumeText.lines().forEach(splitter::accept);
+        return analyzeSections(userId, splitter);
+    }
+
+    private Map<String, Object> analyzeSections(Integer userId, ResumeSectionSplitter splitter) {
         try {
-            // Call OpenAI to extract skills
-            Map<String, Object> analysis = callOpenAIForResumeAnalysis(resumeText);
+            List<ResumeSectionSplitter.Chunk> chunks = splitter.finish();
+            if (chunks.isEmpty()) {
+                return Map.of("error", "No text found in resume");
+            }
+            if (splitter.getDroppedChars() > 0) {
+                System.out.println(String.format("[RESUME] Skipped %d characters past the first %d chunks",
+                    splitter.getDroppedChars(), MAX_CHUNKS));
+            }
+
+            // One completion per section chunk, merged into a single analysis
+            Map<String, Object> analysis = analyzeChunksInParallel(chunks);
 
             // Map extracted skills to node IDs across all paths
             Map<String, Object> matchedNodes = mapSkillsToNodes(analysis);
@@ -74,11 +104,85 @@ public class ResumeAnalysisService {
     }
 
     /**
-     * Call OpenAI to analyze resume and extract skills
+     * Run the chunk analyses concurrently on virtual threads, so latency is that of the
+     * slowest section. Chunks that fail are left out; if all fail the first error is thrown.
+     */
+    private Map<String, Object> analyzeChunksInParallel(List<ResumeSectionSplitter.Chunk> chunks) throws Exception {
+        List<Future<Map<String, Object>>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (ResumeSectionSplitter.Chunk chunk : chunks) {
+                futures.add(executor.submit(() -> callOpenAIForResumeAnalysis(chunk)));
+            }
+        }
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        Exception firstFailure = null;
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                results.add(futures.get(i).get());
+            } catch (ExecutionException e) {
+                Exception cause = e.getCause() instanceof Exception ex ? ex : e;
+                System.err.println(String.format("[RESUME] %s section analysis failed: %s",
+                    chunks.get(i).section(), cause.getMessage()));
+                if (firstFailure == null) {
+                    firstFailure = cause;
+                }
+            }
+        }
+        if (results.isEmpty()) {
+            throw firstFailure;
+        }
+        return mergeAnalyses(results);
+    }
+
+    /**
+     * Skills are deduplicated by name keeping the highest proficiency; experience keeps
+     * the highest years per area, since sections describe the same career
+     */
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> mergeAnalyses(List<Map<String, Object>> analyses) {
+        Map<String, Map<String, String>> skillsByName = new LinkedHashMap<>();
+        Map<String, Object> experience = new LinkedHashMap<>();
+
+        for (Map<String, Object> analysis : analyses) {
+            Object skills = analysis.get("skills");
+            if (skills instanceof List<?> list) {
+                for (Object item : list) {
+                    if (!(item instanceof Map<?, ?> skill) || !(skill.get("name") instanceof String name)) {
+                        continue;
+                    }
+                    skillsByName.merge(name.toLowerCase().trim(), (Map<String, String>) skill,
+                        (a, b) -> proficiencyRank(b) > proficiencyRank(a) ? b : a);
+                }
+            }
+            Object areas = analysis.get("experience");
+            if (areas instanceof Map<?, ?> map) {
+                map.forEach((area, years) -> {
+                    if (years instanceof Number n) {
+                        experience.merge(String.valueOf(area), n, (a, b) ->
+                            ((Number) b).doubleValue() > ((Number) a).doubleValue() ? b : a);
+                    }
+                });
+            }
+        }
+
+        Map<String, Object> merged = new HashMap<>();
+        merged.put("skills", new ArrayList<>(skillsByName.values()));
+        merged.put("experience", experience);
+        return merged;
+    }
+
+    private static int proficiencyRank(Map<String, String> skill) {
+        Object proficiency = skill.get("proficiency");
+        return proficiency instanceof String p ? PROFICIENCY_ORDER.indexOf(p.toLowerCase()) : -1;
+    }
+
+    /**
+     * Call OpenAI to analyze one section of a resume and extract skills
      */
-    private Map<String, Object> callOpenAIForResumeAnalysis(String resumeText) throws Exception {
+    private Map<String, Object> callOpenAIForResumeAnalysis(ResumeSectionSplitter.Chunk chunk) throws Exception {
         String prompt = """
-                Analyze this resume and extract:
+                Analyze this part of a resume and extract:
                 1. Technical skills (programming languages, frameworks, tools, databases, cloud platforms, etc.)
                 2. Years of experience in each major area
                 3. Proficiency level (beginner/intermediate/advanced) for each skill
@@ -98,11 +202,10 @@ public class ResumeAnalysisService {
                   }
                 }
 
-                Resume:
-                """ + resumeText;
+                Resume section (%s):
+                """.formatted(chunk.section().name().toLowerCase()) + chunk.text();
 
-        HttpClient client = HttpClient.newHttpClient();
-        String requestBody = objectMapper.writeValueAsString(Map.of(
+        Map<String, Object> requestBody = Map.of(
                 "model", "gpt-4o-mini",
                 "messages", List.of(
                         Map.of("role", "system", "content", "You are a technical resume analyzer. You must return ONLY valid JSON, no other text."),
@@ -110,230 +213,74 @@ public class ResumeAnalysisService {
                 ),
                 "temperature", 0.3,
                 "response_format", Map.of("type", "json_object")
-        ));
-
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create("https://api.openai.com/v1/chat/completions"))
-                .header("Content-Type", "application/json")
-                .header("Authorization", "Bearer " + openAIKey)
-                .POST(HttpRequest.BodyPublishers.ofString(requestBody))
-                .build();
-
-        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-
-        if (response.statusCode() != 200) {
-            throw new RuntimeException("OpenAI API error: " + response.body());
-        }
+        );
 
-        JsonNode root = objectMapper.readTree(response.body());
-        String content = root.path("choices").get(0).path("message").path("content").asText();
+        String content = openAiClient.complete("resume_analysis", requestBody);
 
         // Parse JSON response
         return objectMapper.readValue(content, Map.class);
     }
 
     /**
-     * Map extracted skills to node IDs across all role paths
+     * Map extracted skills to node IDs across all career roles. Only intermediate and
+     * advanced skills count; each name is matched against the keyword index in one pass.
      */
     private Map<String, Object> mapSkillsToNodes(Map<String, Object> analysis) {
         @SuppressWarnings("unchecked")
         List<Map<String, String>> skills = (List<Map<String, String>>) analysis.get("skills");
 
-        Map<Integer, List<Integer>> matchedNodes = new HashMap<>();
-
-        // Define skill-to-node mappings for each role
-        // Role 1: Backend Engineer (nodes 1-30, competencies 101-123)
-        Map<String, List<Integer>> backendSkillMap = Map.ofEntries(
-                Map.entry("html", List.of(1, 2)),
-                Map.entry("css", List.of(2, 3)),
-                Map.entry("javascript", List.of(4, 5)),
-                Map.entry("http", List.of(5, 101)),
-                Map.entry("sql", List.of(6, 7, 8)),
-                Map.entry("database", List.of(6, 7, 8, 9)),
-                Map.entry("postgres", List.of(9, 105)),
-                Map.entry("mysql", List.of(9, 105)),
-                Map.entry("mongodb", List.of(106)),
-                Map.entry("nosql", List.of(106)),
-                Map.entry("node", List.of(10, 11)),
-                Map.entry("express", List.of(11, 12)),
-                Map.entry("rest", List.of(12, 13)),
-                Map.entry("api", List.of(12, 13, 14)),
-                Map.entry("graphql", List.of(102)),
-                Map.entry("authentication", List.of(15, 16)),
-                Map.entry("jwt", List.of(16, 111)),
-                Map.entry("oauth", List.of(111)),
-                Map.entry("security", List.of(17, 18)),
-                Map.entry("testing", List.of(19, 20, 21)),
-                Map.entry("docker", List.of(107)),
-                Map.entry("kubernetes", List.of(108)),
-                Map.entry("deployment", List.of(22, 23))
-        );
-
-        // Role 9: Frontend Developer (nodes 1-30, competencies 201-220)
-        Map<String, List<Integer>> frontendSkillMap = Map.ofEntries(
-                Map.entry("html", List.of(1, 2, 3)),
-                Map.entry("css", List.of(4, 5, 6)),
-                Map.entry("flexbox", List.of(6, 204)),
-                Map.entry("grid", List.of(6, 204)),
-                Map.entry("javascript", List.of(7, 8, 9, 10, 11, 12)),
-                Map.entry("typescript", List.of(201)),
-                Map.entry("react", List.of(13, 14, 15, 16, 17)),
-                Map.entry("jsx", List.of(14)),
-                Map.entry("hooks", List.of(16, 17)),
-                Map.entry("state management", List.of(18, 19)),
-                Map.entry("redux", List.of(19, 213)),
-                Map.entry("context api", List.of(18)),
-                Map.entry("routing", List.of(20)),
-                Map.entry("api", List.of(21, 22)),
-                Map.entry("webpack", List.of(203)),
-                Map.entry("next", List.of(218)),
-                Map.entry("testing", List.of(23, 24)),
-                Map.entry("performance", List.of(25, 26))
-        );
-
-        // Role 10: ML Engineer
-        Map<String, List<Integer>> mlSkillMap = Map.ofEntries(
-                Map.entry("python", List.of(7)),
-                Map.entry("sql", List.of(30)),
-                Map.entry("database", List.of(30)),
-                Map.entry("aws", List.of(11)),
-                Map.entry("cloud", List.of(11)),
-                Map.entry("tensorflow", List.of(46)),
-                Map.entry("pytorch", List.of(47)),
-                Map.entry("machine learning", List.of(48)),
-                Map.entry("ml", List.of(48)),
-                Map.entry("ai", List.of(48)),
-                Map.entry("neural network", List.of(46, 47)),
-                Map.entry("deep learning", List.of(46, 47)),
-                Map.entry("statistics", List.of(49)),
-                Map.entry("data science", List.of(48, 49)),
-                Map.entry("numpy", List.of(7)),
-                Map.entry("pandas", List.of(7)),
-                Map.entry("scikit", List.of(48)),
-                Map.entry("jupyter", List.of(7))
-        );
-
-        // Role 6: Mobile Developer
-        Map<String, List<Integer>> mobileSkillMap = Map.ofEntries(
-                Map.entry("git", List.of(14)),
-                Map.entry("rest", List.of(32)),
-                Map.entry("api", List.of(32)),
-                Map.entry("react native", List.of(35)),
-                Map.entry("swift", List.of(36)),
-                Map.entry("ios", List.of(36)),
-                Map.entry("kotlin", List.of(37)),
-                Map.entry("android", List.of(37)),
-                Map.entry("mobile", List.of(38)),
-                Map.entry("ui", List.of(38)),
-                Map.entry("firebase", List.of(39)),
-                Map.entry("flutter", List.of(35))
-        );
-
-        // Role 2: DevOps Engineer
-        Map<String, List<Integer>> devopsSkillMap = Map.ofEntries(
-                Map.entry("python", List.of(7)),
-                Map.entry("docker", List.of(9)),
-                Map.entry("container", List.of(9)),
-                Map.entry("kubernetes", List.of(10)),
-                Map.entry("k8s", List.of(10)),
-                Map.entry("aws", List.of(11)),
-                Map.entry("cloud", List.of(11)),
-                Map.entry("linux", List.of(20)),
-                Map.entry("unix", List.of(20)),
-                Map.entry("bash", List.of(20)),
-                Map.entry("ci/cd", List.of(23)),
-                Map.entry("jenkins", List.of(23)),
-                Map.entry("github actions", List.of(23)),
-                Map.entry("terraform", List.of(24)),
-                Map.entry("infrastructure", List.of(24)),
-                Map.entry("iac", List.of(24)),
-                Map.entry("ansible", List.of(24)),
-                Map.entry("monitoring", List.of(11))
-        );
-
-        // Match skills across all roles
+        List<String> provedSkills = new ArrayList<>();
         for (Map<String, String> skill : skills) {
-            String skillName = skill.get("name").toLowerCase();
             String proficiency = skill.get("proficiency");
-
-            // Only match intermediate/advanced skills
-            if (proficiency.equals("intermediate") || proficiency.equals("advanced")) {
-                // Backend Engineer (roleId: 5)
-                for (Map.Entry<String, List<Integer>> entry : backendSkillMap.entrySet()) {
-                    if (skillName.contains(entry.getKey())) {
-                        matchedNodes.computeIfAbsent(5, k -> new ArrayList<>()).addAll(entry.getValue());
-                    }
-                }
-
-                // Frontend Developer (roleId: 9)
-                for (Map.Entry<String, List<Integer>> entry : frontendSkillMap.entrySet()) {
-                    if (skillName.contains(entry.getKey())) {
-                        matchedNodes.computeIfAbsent(9, k -> new ArrayList<>()).addAll(entry.getValue());
-                    }
-                }
-
-                // ML Engineer (roleId: 10)
-                for (Map.Entry<String, List<Integer>> entry : mlSkillMap.entrySet()) {
-                    if (skillName.contains(entry.getKey())) {
-                        matchedNodes.computeIfAbsent(10, k -> new ArrayList<>()).addAll(entry.getValue());
-                    }
-                }
-
-                // Mobile Developer (roleId: 6)
-                for (Map.Entry<String, List<Integer>> entry : mobileSkillMap.entrySet()) {
-                    if (skillName.contains(entry.getKey())) {
-                        matchedNodes.computeIfAbsent(6, k -> new ArrayList<>()).addAll(entry.getValue());
-                    }
-                }
-
-                // DevOps Engineer (roleId: 2)
-                for (Map.Entry<String, List<Integer>> entry : devopsSkillMap.entrySet()) {
-                    if (skillName.contains(entry.getKey())) {
-                        matchedNodes.computeIfAbsent(2, k -> new ArrayList<>()).addAll(entry.getValue());
-                    }
-                }
+            if ("intermediate".equals(proficiency) || "advanced".equals(proficiency)) {
+                provedSkills.add(skill.get("name"));
             }
         }
 
-        // Remove duplicates
-        for (Map.Entry<Integer, List<Integer>> entry : matchedNodes.entrySet()) {
-            matchedNodes.put(entry.getKey(), entry.getValue().stream().distinct().sorted().toList());
-        }
-
-        return Map.of("roles", matchedNodes);
+        return Map.of("roles", keywordIndex.match(provedSkills));
     }
 
     /**
-     * Mark skills as completed in database
+     * Mark skills as completed in database. Nodes from all roles are deduplicated and
+     * written as one JDBC-batched upsert on the (user_id, skill_id) key; states the user
+     * already has are left as they are. One incremental frontier recompute then covers
+     * the skills unlocked by the new PROVED states.
      */
     public Map<String, Object> markSkillsAsCompleted(Integer userId, Map<Integer, Object> matchedNodes) {
         try {
-            int totalMarked = 0;
-
-            for (Map.Entry<Integer, Object> entry : matchedNodes.entrySet()) {
-                Integer roleId = entry.getKey();
-                @SuppressWarnings("unchecked")
-                List<Integer> nodeIds = (List<Integer>) entry.getValue();
-
-                for (Integer nodeId : nodeIds) {
-                    // Check if already exists
-                    Optional<UserSkillState> existing = userSkillStateRepository.findByUserIdAndSkillId(userId, nodeId);
-
-                    if (existing.isEmpty()) {
-                        UserSkillState state = new UserSkillState();
-                        state.setUserId(userId);
-                        state.setSkillId(nodeId);
-                        state.setStatus(UserSkillState.SkillStatus.PROVED); // Resume proves competence
-                        state.setConfidence(0.8); // High confidence from resume
-                        state.setEvidenceScore(0.8);
-                        state.setLastEvidenceAt(LocalDateTime.now());
-                        state.setUpdatedAt(LocalDateTime.now());
-                        userSkillStateRepository.save(state);
-                        totalMarked++;
+            Set<Integer> requested = new TreeSet<>();
+            for (Object nodeIds : matchedNodes.values()) {
+                if (nodeIds instanceof Collection<?> ids) {
+                    for (Object id : ids) {
+                        if (id instanceof Number number) {
+                            requested.add(number.intValue());
+                        }
                     }
                 }
             }
+            if (requested.isEmpty()) {
+                return Map.of("success", true, "markedCount", 0, "message", "No skills to mark");
+            }
 
+            int[] result = transactionTemplate.execute(status -> {
+                // Unknown ids would fail the whole batch on the skill_nodes foreign key
+                List<Integer> known = skillNodeRepository.findExistingIds(new ArrayList<>(requested));
+                Set<Integer> newSkillIds = new TreeSet<>(known);
+                if (known.isEmpty()) {
+                    return new int[] { 0, 0 };
+                }
+                userSkillStateRepository.findStatusesByUserIdAndSkillIdIn(userId, known)
+                        .forEach(existing -> newSkillIds.remove(existing.getSkillId()));
+
+                // Resume proves competence: PROVED with high confidence
+                userSkillStateRepository.insertProvedIfAbsent(userId, newSkillIds, 0.8, LocalDateTime.now());
+                int activated = stateTransitionService.recomputeFrontierForDependents(userId, newSkillIds);
+                return new int[] { newSkillIds.size(), activated };
+            });
+            int totalMarked = result[0];
+
+            System.out.println(String.format("[RESUME] Marked %d skills for user %d (%d requested, %d unlocked)",
+                totalMarked, userId, requested.size(), result[1]));
             return Map.of(
                     "success", true,
                     "markedCount", totalMarked,
@@ -0,0 +1,260 @@
+package com.careermappro.services;
+
+import com.careermappro.entities.CareerRole;
+import com.careermappro.entities.SkillNode;
+import com.careermappro.models.DetailedPathNode;
+import com.careermappro.repositories.CareerRoleRepository;
+import com.careermappro.repositories.SkillNodeRepository;
+import com.careermappro.util.KeywordMatcher;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+/**
+ * ResumeKeywordIndex
+ * Inverted index from a skill keyword to the (career role, node) pairs it proves.
+ * Persisted in resume_keyword_index (entity ResumeKeyword) and held in memory as an
+ * immutable Aho-Corasick trie, so each resume skill is mapped onto every role in one
+ * pass over its name.
+ *
+ * Rows are generated for every career role from:
+ *  - the curated keywords of the role's path template (path-templates/resume-keywords.json)
+ *  - skill_nodes names and aliases occurring in the template's node names
+ *
+ * Node ids are template-local path node ids, as ResumeAnalysisService has always
+ * returned them; skill_nodes ids are never mixed in.
+ */
+@Service
+public class ResumeKeywordIndex {
+
+    public enum Source { CURATED, TEMPLATE }
+
+    /**
+     * One (role, node) pair a keyword maps to. Generated keywords only count as whole words,
+     * curated ones anywhere in the name ("postgres" in "postgresql").
+     */
+    record Posting(int careerRoleId, int nodeId, boolean wholeWord) {}
+
+    private record Row(String keyword, int careerRoleId, int nodeId, Source source) {}
+
+    private record RowKey(String keyword, int careerRoleId, int nodeId) {}
+
+    private static final String CURATED_RESOURCE = "path-templates/resume-keywords.json";
+
+    private static final int MIN_KEYWORD_LENGTH = 2;
+    private static final int MAX_KEYWORD_LENGTH = 100;
+
+    private static final String INSERT_SQL =
+        "INSERT INTO resume_keyword_index (keyword, career_role_id, node_id, source, template_version) " +
+        "VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CareerRoleRepository careerRoleRepository;
+    private final SkillNodeRepository skillNodeRepository;
+    private final PathTemplateCatalog templateCatalog;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private volatile KeywordMatcher<List<Posting>> matcher = KeywordMatcher.<List<Posting>>builder().build();
+
+    public ResumeKeywordIndex(JdbcTemplate jdbcTemplate,
+                              TransactionTemplate transactionTemplate,
+                              CareerRoleRepository careerRoleRepository,
+                              SkillNodeRepository skillNodeRepository,
+                              PathTemplateCatalog templateCatalog) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.careerRoleRepository = careerRoleRepository;
+        this.skillNodeRepository = skillNodeRepository;
+        this.templateCatalog = templateCatalog;
+    }
+
+    /**
+     * Load the persisted index once startup seeding is done, regenerating it first when
+     * it was built from another template version or misses a career role. When the
+     * table can't be read the index is regenerated, and kept in memory if it can't be stored.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            if (isStale()) {
+                rebuild();
+                return;
+            }
+            List<Row> rows = jdbcTemplate.query(
+                "SELECT keyword, career_role_id, node_id, source FROM resume_keyword_index",
+                (rs, i) -> new Row(rs.getString(1), rs.getInt(2), rs.getInt(3), Source.valueOf(rs.getString(4))));
+            matcher = buildMatcher(rows);
+            System.out.println("[RESUME-INDEX] Loaded " + rows.size() + " keyword postings");
+        } catch (Exception e) {
+            System.err.println("[RESUME-INDEX] Load failed, regenerating: " + e.getMessage());
+            try {
+                rebuild();
+            } catch (Exception rebuildError) {
+                System.err.println("[RESUME-INDEX] Rebuild failed: " + rebuildError.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Regenerate the index from its sources, swap the trie and replace the persisted rows.
+     * A failed write leaves the new trie in place; the next load regenerates the rows.
+     */
+    public int rebuild() {
+        List<Row> rows = generate();
+        matcher = buildMatcher(rows);
+        int version = templateCatalog.getVersion();
+        List<Object[]> batch = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            batch.add(new Object[] { row.keyword(), row.careerRoleId(), row.nodeId(), row.source().name(), version });
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update("DELETE FROM resume_keyword_index");
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+            });
+            System.out.println("[RESUME-INDEX] Rebuilt index with " + rows.size() + " keyword postings");
+        } catch (Exception e) {
+            System.err.println("[RESUME-INDEX] Keeping " + rows.size() + " keyword postings in memory, persist failed: "
+                + e.getMessage());
+        }
+        return rows.size();
+    }
+
+    /**
+     * Nodes proved by the given skill names, by career role id (node ids sorted, distinct)
+     */
+    public Map<Integer, List<Integer>> match(Collection<String> skillNames) {
+        KeywordMatcher<List<Posting>> current = matcher;
+        Map<Integer, SortedSet<Integer>> nodes = new HashMap<>();
+        for (String skillName : skillNames) {
+            String text = normalize(skillName);
+            for (KeywordMatcher.Hit<List<Posting>> hit : current.findAll(text)) {
+                boolean wholeWord = isWholeWord(text, hit.start(), hit.keyword().length());
+                for (Posting posting : hit.value()) {
+                    if (wholeWord || !posting.wholeWord()) {
+                        nodes.computeIfAbsent(posting.careerRoleId(), k -> new TreeSet<>()).add(posting.nodeId());
+                    }
+                }
+            }
+        }
+
+        Map<Integer, List<Integer>> result = new HashMap<>();
+        nodes.forEach((roleId, nodeIds) -> result.put(roleId, List.copyOf(nodeIds)));
+        return result;
+    }
+
+    private boolean isStale() {
+        int version = templateCatalog.getVersion();
+        Integer current = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM resume_keyword_index WHERE template_version = ?", Integer.class, version);
+        // Rows from another template version or from a source no longer generated
+        Integer outdated = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM resume_keyword_index WHERE template_version <> ? OR source NOT IN (?, ?)",
+            Integer.class, version, Source.CURATED.name(), Source.TEMPLATE.name());
+        Integer uncovered = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM career_roles cr WHERE NOT EXISTS " +
+            "(SELECT 1 FROM resume_keyword_index k WHERE k.career_role_id = cr.career_role_id)", Integer.class);
+        return current == null || current == 0 || (outdated != null && outdated > 0)
+            || (uncovered != null && uncovered > 0);
+    }
+
+    private List<Row> generate() {
+        List<CareerRole> roles = careerRoleRepository.findAll();
+        JsonNode curated = readCurated();
+
+        // Skill vocabulary: each node's canonical name and aliases
+        KeywordMatcher.Builder<String> vocabulary = KeywordMatcher.builder();
+        for (SkillNode node : skillNodeRepository.findAll()) {
+            keywordsOf(node).forEach(keyword -> vocabulary.add(keyword, keyword, 0));
+        }
+        KeywordMatcher<String> vocabularyMatcher = vocabulary.build();
+
+        // Earlier sources win when the same (keyword, role, node) comes up again
+        Map<RowKey, Row> rows = new LinkedHashMap<>();
+        for (CareerRole role : roles) {
+            int roleId = role.getCareerRoleId();
+            String templateKey = templateCatalog.resolveTemplateKey(role.getName());
+
+            Iterator<Map.Entry<String, JsonNode>> entries = curated.path(templateKey).fields();
+            while (entries.hasNext()) {
+                Map.Entry<String, JsonNode> entry = entries.next();
+                for (JsonNode nodeId : entry.getValue()) {
+                    addRow(rows, entry.getKey(), roleId, nodeId.asInt(), Source.CURATED);
+                }
+            }
+
+            for (DetailedPathNode node : templateCatalog.getTemplate(templateKey)) {
+                String name = normalize(node.getName());
+                for (KeywordMatcher.Hit<String> hit : vocabularyMatcher.findAll(name)) {
+                    if (isWholeWord(name, hit.start(), hit.keyword().length())) {
+                        addRow(rows, hit.value(), roleId, node.getSkillNodeId(), Source.TEMPLATE);
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(rows.values());
+    }
+
+    private static void addRow(Map<RowKey, Row> rows, String keyword, int roleId, int nodeId, Source source) {
+        String normalized = normalize(keyword);
+        if (normalized.length() < MIN_KEYWORD_LENGTH || normalized.length() > MAX_KEYWORD_LENGTH) {
+            return;
+        }
+        rows.putIfAbsent(new RowKey(normalized, roleId, nodeId), new Row(normalized, roleId, nodeId, source));
+    }
+
+    private static KeywordMatcher<List<Posting>> buildMatcher(List<Row> rows) {
+        Map<String, List<Posting>> postings = new HashMap<>();
+        for (Row row : rows) {
+            postings.computeIfAbsent(row.keyword(), k -> new ArrayList<>())
+                .add(new Posting(row.careerRoleId(), row.nodeId(), row.source() != Source.CURATED));
+        }
+        KeywordMatcher.Builder<List<Posting>> builder = KeywordMatcher.builder();
+        postings.forEach((keyword, list) -> builder.add(keyword, List.copyOf(list), 0));
+        return builder.build();
+    }
+
+    private List<String> keywordsOf(SkillNode node) {
+        List<String> keywords = new ArrayList<>();
+        keywords.add(normalize(node.getCanonicalName()));
+        if (node.getAliases() != null && !node.getAliases().isBlank()) {
+            try {
+                for (JsonNode alias : objectMapper.readTree(node.getAliases())) {
+                    keywords.add(normalize(alias.asText()));
+                }
+            } catch (IOException e) {
+                System.err.println("[RESUME-INDEX] Unreadable aliases on skill node " + node.getSkillNodeId());
+            }
+        }
+        return keywords;
+    }
+
+    private JsonNode readCurated() {
+        try (InputStream in = new ClassPathResource(CURATED_RESOURCE).getInputStream()) {
+            return objectMapper.readTree(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + CURATED_RESOURCE, e);
+        }
+    }
+
+    private static boolean isWholeWord(String text, int start, int length) {
+        int end = start + length;
+        return (start == 0 || !Character.isLetterOrDigit(text.charAt(start - 1)))
+            && (end == text.length() || !Character.isLetterOrDigit(text.charAt(end)));
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT).strip().replaceAll("\\s+", " ");
+    }
+}
@@ -0,0 +1,161 @@
+package com.careermappro.services;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.stereotype.Service;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.function.Consumer;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * ResumeTextExtractor
+ * Turns an uploaded resume (PDF, DOCX or plain text) into a stream of text lines.
+ * The format is detected from the leading bytes, not the file name. Nothing holds
+ * the whole document: PDFs are spooled to a temp file and read a page at a time
+ * with a file-backed cache, DOCX body XML is read with StAX straight out of the zip,
+ * and text is read line by line.
+ */
+@Service
+public class ResumeTextExtractor {
+
+    public enum Format { PDF, DOCX, TEXT }
+
+    // Resumes past this are almost always scanned appendices; later pages are skipped
+    private static final int MAX_PDF_PAGES = 30;
+
+    // Paragraphs longer than this are emitted in pieces
+    private static final int MAX_LINE_CHARS = 8_000;
+
+    private static final String DOCX_BODY = "word/document.xml";
+
+    public Format extract(InputStream input, Consumer<String> lines) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(input);
+        Format format = detect(in);
+        switch (format) {
+            case PDF -> extractPdf(in, lines);
+            case DOCX -> extractDocx(in, lines);
+            default -> extractText(in, lines);
+        }
+        return format;
+    }
+
+    static Format detect(BufferedInputStream in) throws IOException {
+        in.mark(4);
+        byte[] magic = in.readNBytes(4);
+        in.reset();
+        if (magic.length == 4 && magic[0] == '%' && magic[1] == 'P' && magic[2] == 'D' && magic[3] == 'F') {
+            return Format.PDF;
+        }
+        if (magic.length == 4 && magic[0] == 'P' && magic[1] == 'K' && magic[2] == 3 && magic[3] == 4) {
+            return Format.DOCX;
+        }
+        return Format.TEXT;
+    }
+
+    private void extractPdf(InputStream in, Consumer<String> lines) throws IOException {
+        // PDF needs random access (the cross-reference table is at the end), so spool to disk
+        Path spooled = Files.createTempFile("resume-", ".pdf");
+        try {
+            Files.copy(in, spooled, StandardCopyOption.REPLACE_EXISTING);
+            try (PDDocument document = Loader.loadPDF(spooled.toFile(), IOUtils.createTempFileOnlyStreamCache())) {
+                PDFTextStripper stripper = new PDFTextStripper();
+                stripper.setSortByPosition(true);
+                int pages = Math.min(document.getNumberOfPages(), MAX_PDF_PAGES);
+                for (int page = 1; page <= pages; page++) {
+                    stripper.setStartPage(page);
+                    stripper.setEndPage(page);
+                    stripper.getText(document).lines().forEach(lines);
+                }
+            }
+        } finally {
+            Files.deleteIfExists(spooled);
+        }
+    }
+
+    private void extractDocx(InputStream in, Consumer<String> lines) throws IOException {
+        ZipInputStream zip = new ZipInputStream(in);
+        ZipEntry entry;
+        while ((entry = zip.getNextEntry()) != null) {
+            if (DOCX_BODY.equals(entry.getName())) {
+                try {
+                    readDocumentXml(zip, lines);
+                } catch (XMLStreamException e) {
+                    throw new IOException("Unreadable DOCX body: " + e.getMessage(), e);
+                }
+                return;
+            }
+        }
+        throw new IOException("Not a DOCX file: " + DOCX_BODY + " is missing");
+    }
+
+    /**
+     * Text runs (w:t) in order; a paragraph end (w:p) or line break (w:br) ends a line
+     */
+    private void readDocumentXml(InputStream xml, Consumer<String> lines) throws XMLStreamException {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+
+        XMLStreamReader reader = factory.createXMLStreamReader(xml, StandardCharsets.UTF_8.name());
+        StringBuilder line = new StringBuilder();
+        boolean inText = false;
+        try {
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if ("t".equals(name)) {
+                        inText = true;
+                    } else if ("tab".equals(name)) {
+                        line.append('\t');
+                    } else if ("br".equals(name)) {
+                        emit(line, lines);
+                    }
+                } else if (event == XMLStreamConstants.CHARACTERS && inText) {
+                    line.append(reader.getText());
+                    if (line.length() > MAX_LINE_CHARS) {
+                        emit(line, lines);
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if ("t".equals(name)) {
+                        inText = false;
+                    } else if ("p".equals(name)) {
+                        emit(line, lines);
+                    }
+                }
+            }
+            emit(line, lines);
+        } finally {
+            // Closes the reader only; the zip stream belongs to the caller
+            reader.close();
+        }
+    }
+
+    private void extractText(InputStream in, Consumer<String> lines) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lines.accept(line);
+        }
+    }
+
+    private static void emit(StringBuilder line, Consumer<String> lines) {
+        if (line.length() > 0) {
+            lines.accept(line.toString());
+            line.setLength(0);
+        }
+    }
+}
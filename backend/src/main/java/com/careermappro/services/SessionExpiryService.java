@@ -0,0 +1,131 @@
+package com.careermappro.services;
+
+import com.careermappro.entities.Session;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SessionExpiryService
+ * Moves PROPOSED/ACTIVE sessions past their expires_at to EXPIRED off the request path.
+ *
+ * - Sessions proposed by this process sit in an in-memory delay queue and are
+ *   expired by id shortly after their deadline.
+ * - A periodic sweep catches everything else (sessions from before a restart,
+ *   other instances) with bounded set-based UPDATEs on (session_state, expires_at),
+ *   so its cost tracks the number of due sessions, not the size of the table.
+ *
+ * Every UPDATE re-checks state and expires_at, so a stale queue entry is harmless.
+ */
+@Service
+public class SessionExpiryService {
+
+    private static final int SWEEP_BATCH_SIZE = 500;
+
+    // The derived table lets MySQL accept LIMIT inside IN and update the table it selects from;
+    // PostgreSQL has no UPDATE ... LIMIT, so this form works on both
+    private static final String SWEEP_SQL =
+        "UPDATE sessions SET session_state = 'EXPIRED' WHERE session_id IN (" +
+        "SELECT session_id FROM (SELECT session_id FROM sessions " +
+        "WHERE session_state IN ('PROPOSED', 'ACTIVE') AND expires_at < ? " +
+        "ORDER BY expires_at LIMIT ?) due)";
+
+    private record PendingExpiry(Integer sessionId, long expiresAtMillis) implements Delayed {
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(expiresAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DelayQueue<PendingExpiry> upcoming = new DelayQueue<>();
+
+    public SessionExpiryService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Track a session's deadline so it is expired promptly without waiting for the sweep
+     */
+    public void schedule(Session session) {
+        if (session.getSessionId() == null || session.getExpiresAt() == null) {
+            return;
+        }
+        long expiresAtMillis = session.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        upcoming.offer(new PendingExpiry(session.getSessionId(), expiresAtMillis));
+    }
+
+    /**
+     * Expire queued sessions whose deadline has passed
+     */
+    @Scheduled(fixedDelayString = "${sessions.expiry.queue-interval-ms:5000}")
+    public int expireDue() {
+        List<PendingExpiry> due = new ArrayList<>();
+        upcoming.drainTo(due);
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        int expired = 0;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int from = 0; from < due.size(); from += SWEEP_BATCH_SIZE) {
+            List<PendingExpiry> chunk = due.subList(from, Math.min(due.size(), from + SWEEP_BATCH_SIZE));
+            String placeholders = String.join(", ", Collections.nCopies(chunk.size(), "?"));
+
+            List<Object> args = new ArrayList<>(chunk.size() + 1);
+            for (PendingExpiry pending : chunk) {
+                args.add(pending.sessionId());
+            }
+            args.add(now);
+
+            expired += jdbcTemplate.update(
+                "UPDATE sessions SET session_state = 'EXPIRED' WHERE session_id IN (" + placeholders + ") " +
+                "AND session_state IN ('PROPOSED', 'ACTIVE') AND expires_at < ?",
+                args.toArray()
+            );
+        }
+
+        if (expired > 0) {
+            System.out.println(String.format("[SESSION] Expired %d queued sessions", expired));
+        }
+        return expired;
+    }
+
+    /**
+     * Expire every overdue session in bounded batches. Returns the number expired.
+     */
+    @Scheduled(fixedDelayString = "${sessions.expiry.sweep-interval-ms:300000}", initialDelayString = "${sessions.expiry.sweep-initial-delay-ms:30000}")
+    public int sweep() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int total = 0;
+        int updated;
+        do {
+            updated = jdbcTemplate.update(SWEEP_SQL, now, SWEEP_BATCH_SIZE);
+            total += updated;
+        } while (updated == SWEEP_BATCH_SIZE);
+
+        if (total > 0) {
+            System.out.println(String.format("[SESSION] Expired %d old sessions", total));
+        }
+        return total;
+    }
+
+    public int getQueued() {
+        return upcoming.size();
+    }
+}
@@ -6,17 +6,20 @@ import com.careermappro.entities.Session.SessionType;
 import com.careermappro.entities.SkillNode;
 import com.careermappro.entities.UserSkillState;
 import com.careermappro.repositories.SessionRepository;
-import com.careermappro.repositories.SkillNodeRepository;
 import com.careermappro.repositories.UserSkillStateRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * SessionService
@@ -30,62 +33,64 @@ public class SessionService {
     private SessionRepository sessionRepository;
 
     @Autowired
-    private SkillNodeRepository skillNodeRepository;
+    private UserSkillStateRepository userSkillStateRepository;
 
     @Autowired
-    private UserSkillStateRepository userSkillStateRepository;
+    private SessionExpiryService sessionExpiryService;
+
+    private static final List<SessionState> OPEN_STATES = List.of(SessionState.PROPOSED, SessionState.ACTIVE);
+
+    // Snapshot of the latest open session per user as last returned by this service. Entries are
+    // replaced once a propose/start commits, dropped on completion and ignored once past expiresAt.
+    // Snapshots are private copies: callers get their own copy, and writes always reload the entity.
+    private final Map<Integer, Session> openSessions = new ConcurrentHashMap<>();
 
     /**
      * Propose a new PROBE session for a user on a specific skill
      * Only ONE session can be PROPOSED at a time (enforces focus)
+     *
+     * One query loads the skill node, current confidence and open sessions;
+     * a second either loads the existing session or inserts the new one.
      */
     @Transactional
     public Session proposeProbeSession(Integer userId, Integer skillNodeId) {
-        // Check if user already has a PROPOSED session for this skill - return it if not expired
-        Optional<Session> existingProposed = sessionRepository.findFirstByUserIdAndSessionStateOrderByCreatedAtDesc(
-            userId, SessionState.PROPOSED
-        );
-
-        if (existingProposed.isPresent()) {
-            Session proposed = existingProposed.get();
-            // If expired, expire it and continue to create new session
-            if (proposed.isExpired()) {
-                proposed.expireSession();
-                sessionRepository.save(proposed);
-            } else if (proposed.getSkillNode().getSkillNodeId().equals(skillNodeId)) {
-                return proposed; // Return existing valid session for same skill
-            } else {
+        // Repeat proposals for the same focus skill are answered from the per-user cache
+        Session cached = cachedOpenSession(userId);
+        if (cached != null) {
+            if (cached.getSkillNode().getSkillNodeId().equals(skillNodeId)) {
+                return cached.copy();
+            }
+            if (cached.getSessionState() == SessionState.PROPOSED) {
                 throw new IllegalStateException("User already has a PROPOSED session for a different skill. Complete or expire it first.");
             }
         }
 
-        // Check if user has an ACTIVE session for this skill - return it if not expired
-        Optional<Session> existingActive = sessionRepository.findFirstByUserIdAndSessionStateOrderByCreatedAtDesc(
-            userId, SessionState.ACTIVE
+        // Expired sessions are excluded by the query; SessionExpiryService flips their state in bulk
+        List<SessionRepository.ProposalContextRow> rows = sessionRepository.findProposalContext(
+            userId, skillNodeId, OPEN_STATES, LocalDateTime.now()
         );
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("Skill node not found: " + skillNodeId);
+        }
 
-        if (existingActive.isPresent()) {
-            Session active = existingActive.get();
-            // If expired, expire it and continue to create new session
-            if (active.isExpired()) {
-                active.expireSession();
-                sessionRepository.save(active);
-            } else if (active.getSkillNode().getSkillNodeId().equals(skillNodeId)) {
-                return active; // Return existing valid active session for same skill
+        // Rows are newest first, so the first row of each state is the current one
+        SessionRepository.ProposalContextRow proposed = firstInState(rows, SessionState.PROPOSED);
+        if (proposed != null) {
+            if (proposed.getSessionSkillNodeId().equals(skillNodeId)) {
+                return remember(loadSession(proposed.getSessionId())); // Return existing valid session for same skill
             }
+            throw new IllegalStateException("User already has a PROPOSED session for a different skill. Complete or expire it first.");
         }
 
-        // Get the skill node
-        SkillNode skillNode = skillNodeRepository.findById(skillNodeId)
-            .orElseThrow(() -> new IllegalArgumentException("Skill node not found: " + skillNodeId));
-
-        // Get current confidence (if exists)
-        BigDecimal currentConfidence = BigDecimal.ZERO;
-        Optional<UserSkillState> userSkillState = userSkillStateRepository.findByUserIdAndSkillId(userId, skillNodeId);
-        if (userSkillState.isPresent()) {
-            currentConfidence = BigDecimal.valueOf(userSkillState.get().getConfidence());
+        SessionRepository.ProposalContextRow active = firstInState(rows, SessionState.ACTIVE);
+        if (active != null && active.getSessionSkillNodeId().equals(skillNodeId)) {
+            return remember(loadSession(active.getSessionId())); // Return existing valid active session for same skill
         }
 
+        SkillNode skillNode = rows.get(0).getSkillNode();
+        Double confidence = rows.get(0).getConfidence();
+        BigDecimal currentConfidence = confidence != null ? BigDecimal.valueOf(confidence) : BigDecimal.ZERO;
+
         // Create session
         Session session = new Session();
         session.setUserId(userId);
@@ -96,6 +101,8 @@ public class SessionService {
         session.setExpiresAt(LocalDateTime.now().plusHours(24));
 
         Session saved = sessionRepository.save(session);
+        sessionExpiryService.schedule(saved);
+        remember(saved);
 
         System.out.println(String.format("[SESSION] PROPOSED PROBE session %d for user %d on skill '%s' (confidence: %.2f)",
             saved.getSessionId(), userId, skillNode.getCanonicalName(), currentConfidence));
@@ -108,12 +115,9 @@ public class SessionService {
      */
     @Transactional
     public Session startSession(Integer sessionId) {
-        Session session = sessionRepository.findById(sessionId)
-            .orElseThrow(() -> new IllegalArgumentException("Session not found: " + sessionId));
+        Session session = loadSession(sessionId);
 
         if (session.isExpired()) {
-            session.expireSession();
-            sessionRepository.save(session);
             throw new IllegalStateException("Session has expired");
         }
 
@@ -123,7 +127,7 @@ public class SessionService {
         }
 
         session.startSession();
-        return sessionRepository.save(session);
+        return remember(sessionRepository.save(session));
     }
 
     /**
@@ -132,8 +136,12 @@ public class SessionService {
      */
     @Transactional
     public Session completeSession(Integer sessionId, BigDecimal score, Integer quizId) {
-        Session session = sessionRepository.findById(sessionId)
-            .orElseThrow(() -> new IllegalArgumentException("Session not found: " + sessionId));
+        // Session, skill node and the user's skill state in one query
+        List<SessionRepository.SessionWithStateRow> rows = sessionRepository.findWithSkillState(sessionId);
+        if (rows.isEmpty()) {
+            throw new IllegalArgumentException("Session not found: " + sessionId);
+        }
+        Session session = rows.get(0).getSession();
 
         if (session.getSessionState() != SessionState.ACTIVE) {
             throw new IllegalStateException("Can only complete ACTIVE sessions");
@@ -150,53 +158,84 @@ public class SessionService {
         session.setQuizId(quizId);
         session.completeSession(score, newConfidence);
         Session saved = sessionRepository.save(session);
+        openSessions.computeIfPresent(session.getUserId(), (userId, cached) -> sessionId.equals(cached.getSessionId()) ? null : cached);
 
         // Update user skill state (THIS IS WHERE THE BUG WAS - UNSEEN → INFERRED)
-        updateUserSkillState(session.getUserId(), session.getSkillNode().getSkillNodeId(), newConfidence, score);
+        updateUserSkillState(session.getUserId(), session.getSkillNode().getSkillNodeId(),
+            Optional.ofNullable(rows.get(0).getSkillState()), newConfidence, score);
 
         return saved;
     }
 
+    private Session loadSession(Integer sessionId) {
+        // Session.skillNode is EAGER, so findById loads both with a single join
+        return sessionRepository.findById(sessionId)
+            .orElseThrow(() -> new IllegalArgumentException("Session not found: " + sessionId));
+    }
+
     /**
-     * Update user skill state after session completion
-     * CRITICAL: Fixes UNSEEN → INFERRED bug with proper state transitions
+     * The user's cached open session, or null if none is cached or it has expired
      */
-    private void updateUserSkillState(Integer userId, Integer skillNodeId, BigDecimal newConfidence, BigDecimal score) {
-        Optional<UserSkillState> existing = userSkillStateRepository.findByUserIdAndSkillId(userId, skillNodeId);
-
-        if (existing.isPresent()) {
-            UserSkillState state = existing.get();
-            UserSkillState.SkillStatus oldStatus = state.getStatus();
-            Double oldConfidence = state.getConfidence();
+    private Session cachedOpenSession(Integer userId) {
+        Session cached = openSessions.get(userId);
+        if (cached != null && cached.isExpired()) {
+            openSessions.remove(userId, cached);
+            return null;
+        }
+        return cached;
+    }
 
-            // Update confidence
-            state.setConfidence(newConfidence.doubleValue());
-            state.setUpdatedAt(LocalDateTime.now());
+    /**
+     * Cache a snapshot of the session once the surrounding transaction commits, so a
+     * rolled-back proposal or start never leaves an entry behind
+     */
+    private Session remember(Session session) {
+        Session snapshot = session.copy();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            openSessions.put(snapshot.getUserId(), snapshot);
+            return session;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                openSessions.put(snapshot.getUserId(), snapshot);
+            }
+        });
+        return session;
+    }
 
-            // State transition logic (FIXED)
-            UserSkillState.SkillStatus newStatus = determineNewStatus(state.getStatus(), newConfidence, score);
-            state.setStatus(newStatus);
+    private static SessionRepository.ProposalContextRow firstInState(List<SessionRepository.ProposalContextRow> rows, SessionState state) {
+        for (SessionRepository.ProposalContextRow row : rows) {
+            if (row.getSessionId() != null && row.getSessionState() == state) {
+                return row;
+            }
+        }
+        return null;
+    }
 
-            userSkillStateRepository.save(state);
+    /**
+     * Update user skill state after session completion
+     * CRITICAL: Fixes UNSEEN → INFERRED bug with proper state transitions
+     */
+    private void updateUserSkillState(Integer userId, Integer skillNodeId, Optional<UserSkillState> existing,
+                                      BigDecimal newConfidence, BigDecimal score) {
+
+        // A new state starts by performance; an existing one moves by score and confidence.
+        // One upsert writes either, so a concurrent first completion can't hit the unique key.
+        UserSkillState.SkillStatus initialStatus = newConfidence.compareTo(BigDecimal.valueOf(0.7)) >= 0
+            ? UserSkillState.SkillStatus.ACTIVE
+            : UserSkillState.SkillStatus.INFERRED;
+        UserSkillState.SkillStatus updatedStatus = existing.isPresent()
+            ? determineNewStatus(existing.get().getStatus(), newConfidence, score)
+            : initialStatus;
+        userSkillStateRepository.upsertSessionResult(userId, skillNodeId, newConfidence.doubleValue(),
+            initialStatus, updatedStatus, LocalDateTime.now());
 
+        if (existing.isPresent()) {
             System.out.println(String.format("[STATE TRANSITION] User %d, Skill %d: %s (%.2f) → %s (%.2f) | Score: %.2f",
-                userId, skillNodeId, oldStatus, oldConfidence, newStatus, newConfidence.doubleValue(), score.doubleValue()));
+                userId, skillNodeId, existing.get().getStatus(), existing.get().getConfidence(), updatedStatus,
+                newConfidence.doubleValue(), score.doubleValue()));
         } else {
-            // Create new state (UNSEEN → INFERRED/ACTIVE)
-            UserSkillState newState = new UserSkillState();
-            newState.setUserId(userId);
-            newState.setSkillId(skillNodeId);
-            newState.setConfidence(newConfidence.doubleValue());
-
-            // Determine initial state based on performance
-            UserSkillState.SkillStatus initialStatus = newConfidence.compareTo(BigDecimal.valueOf(0.7)) >= 0
-                ? UserSkillState.SkillStatus.ACTIVE
-                : UserSkillState.SkillStatus.INFERRED;
-            newState.setStatus(initialStatus);
-            newState.setUpdatedAt(LocalDateTime.now());
-
-            userSkillStateRepository.save(newState);
-
             System.out.println(String.format("[STATE TRANSITION] User %d, Skill %d: UNSEEN → %s (%.2f) | Score: %.2f",
                 userId, skillNodeId, initialStatus, newConfidence.doubleValue(), score.doubleValue()));
         }
@@ -262,21 +301,9 @@ public class SessionService {
 
     /**
      * Expire old sessions (cleanup job)
+     * Runs SessionExpiryService's set-based sweep on demand.
      */
-    @Transactional
     public void expireOldSessions() {
-        List<Session> expiredSessions = sessionRepository.findBySessionStateAndExpiresAtBefore(
-            SessionState.PROPOSED,
-            LocalDateTime.now()
-        );
-
-        for (Session session : expiredSessions) {
-            session.expireSession();
-            sessionRepository.save(session);
-        }
-
-        if (!expiredSessions.isEmpty()) {
-            System.out.println(String.format("[SESSION] Expired %d old sessions", expiredSessions.size()));
-        }
+        sessionExpiryService.sweep();
     }
 }
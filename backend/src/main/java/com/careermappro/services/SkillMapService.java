@@ -3,8 +3,12 @@ package com.careermappro.services;
 import com.careermappro.entities.Skill;
 import com.careermappro.entities.SkillDependency;
 import com.careermappro.entities.UserSkill;
+import com.careermappro.events.SkillTrackedEvent;
+import com.careermappro.repositories.SkillDependencyRepository;
+import com.careermappro.repositories.SkillDependencyRepository.DependencyEdge;
 import com.careermappro.repositories.SkillRepository;
 import com.careermappro.repositories.UserSkillRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,16 +22,24 @@ import java.util.stream.Collectors;
  * - Skills are nodes with categories and difficulty levels
  * - Dependencies are edges (Spring Boot requires Java, Next.js requires React)
  * - User skills track proficiency (0-100) with evidence
+ *
+ * Edges are read in one query as id pairs rather than through Skill.getDependencies(),
+ * which would issue a lazy select per skill.
  */
 @Service
 public class SkillMapService {
 
     private final SkillRepository skillRepo;
+    private final SkillDependencyRepository dependencyRepo;
     private final UserSkillRepository userSkillRepo;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public SkillMapService(SkillRepository skillRepo, UserSkillRepository userSkillRepo) {
+    public SkillMapService(SkillRepository skillRepo, SkillDependencyRepository dependencyRepo,
+                           UserSkillRepository userSkillRepo, ApplicationEventPublisher eventPublisher) {
         this.skillRepo = skillRepo;
+        this.dependencyRepo = dependencyRepo;
         this.userSkillRepo = userSkillRepo;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -42,21 +54,11 @@ public class SkillMapService {
                 "id", skill.getSkillId(),
                 "name", skill.getName(),
                 "category", skill.getCategory(),
-                "difficulty", skill.getDifficultyLevel().toString()
+                "difficulty", difficultyOf(skill)
             ))
             .collect(Collectors.toList()));
 
-        List<Map<String, Object>> edges = new ArrayList<>();
-        for (Skill skill : allSkills) {
-            for (SkillDependency dep : skill.getDependencies()) {
-                edges.add(Map.of(
-                    "from", dep.getPrerequisiteSkill().getSkillId(),
-                    "to", skill.getSkillId(),
-                    "type", dep.getDependencyType().toString()
-                ));
-            }
-        }
-        graph.put("edges", edges);
+        graph.put("edges", edgeList());
 
         return graph;
     }
@@ -82,24 +84,14 @@ public class SkillMapService {
                 node.put("id", skill.getSkillId());
                 node.put("name", skill.getName());
                 node.put("category", skill.getCategory());
-                node.put("difficulty", skill.getDifficultyLevel().toString());
+                node.put("difficulty", difficultyOf(skill));
                 node.put("proficiency", proficiencyMap.getOrDefault(skill.getSkillId(), 0));
                 node.put("acquired", proficiencyMap.containsKey(skill.getSkillId()));
                 return node;
             })
             .collect(Collectors.toList()));
 
-        List<Map<String, Object>> edges = new ArrayList<>();
-        for (Skill skill : allSkills) {
-            for (SkillDependency dep : skill.getDependencies()) {
-                edges.add(Map.of(
-                    "from", dep.getPrerequisiteSkill().getSkillId(),
-                    "to", skill.getSkillId(),
-                    "type", dep.getDependencyType().toString()
-                ));
-            }
-        }
-        graph.put("edges", edges);
+        graph.put("edges", edgeList());
 
         return graph;
     }
@@ -113,23 +105,65 @@ public class SkillMapService {
             return Collections.emptyList();
         }
 
+        return learningPath(target.get().getSkillId(), skillNames(skillRepo.findAll()), requiredPrerequisites());
+    }
+
+    private List<String> learningPath(Integer targetSkillId, Map<Integer, String> names,
+                                      Map<Integer, List<Integer>> prerequisites) {
         List<String> path = new ArrayList<>();
-        buildDependencyPath(target.get(), path, new HashSet<>());
+        buildDependencyPath(targetSkillId, names, prerequisites, path, new HashSet<>());
         Collections.reverse(path);
         return path;
     }
 
-    private void buildDependencyPath(Skill skill, List<String> path, Set<Integer> visited) {
-        if (visited.contains(skill.getSkillId())) return;
-        visited.add(skill.getSkillId());
+    private void buildDependencyPath(Integer skillId, Map<Integer, String> names,
+                                     Map<Integer, List<Integer>> prerequisites,
+                                     List<String> path, Set<Integer> visited) {
+        if (!visited.add(skillId)) return;
+
+        for (Integer prerequisiteId : prerequisites.getOrDefault(skillId, Collections.emptyList())) {
+            buildDependencyPath(prerequisiteId, names, prerequisites, path, visited);
+        }
+
+        path.add(names.get(skillId));
+    }
+
+    private List<Map<String, Object>> edgeList() {
+        List<Map<String, Object>> edges = new ArrayList<>();
+        for (DependencyEdge edge : dependencyRepo.findAllEdges()) {
+            edges.add(Map.of(
+                "from", edge.getPrerequisiteSkillId(),
+                "to", edge.getSkillId(),
+                "type", edge.getDependencyType().toString()
+            ));
+        }
+        return edges;
+    }
 
-        for (SkillDependency dep : skill.getDependencies()) {
-            if (dep.getDependencyType() == SkillDependency.DependencyType.required) {
-                buildDependencyPath(dep.getPrerequisiteSkill(), path, visited);
+    /**
+     * skillId -> ids of its required prerequisites
+     */
+    private Map<Integer, List<Integer>> requiredPrerequisites() {
+        Map<Integer, List<Integer>> prerequisites = new HashMap<>();
+        for (DependencyEdge edge : dependencyRepo.findAllEdges()) {
+            if (edge.getDependencyType() == SkillDependency.DependencyType.required) {
+                prerequisites.computeIfAbsent(edge.getSkillId(), id -> new ArrayList<>()).add(edge.getPrerequisiteSkillId());
             }
         }
+        return prerequisites;
+    }
+
+    private static Map<Integer, String> skillNames(List<Skill> skills) {
+        Map<Integer, String> names = new HashMap<>();
+        for (Skill skill : skills) {
+            names.put(skill.getSkillId(), skill.getName());
+        }
+        return names;
+    }
 
-        path.add(skill.getName());
+    private static String difficultyOf(Skill skill) {
+        // Skills seeded for roles have no difficulty level; same default as the skill catalog
+        return skill.getDifficultyLevel() != null ? skill.getDifficultyLevel().toString() : "Intermediate";
     }
 
     /**
@@ -158,7 +192,11 @@ public class SkillMapService {
             userSkill.setEvidenceType(UserSkill.EvidenceType.valueOf(evidenceType));
         }
 
-        return userSkillRepo.save(userSkill);
+        UserSkill saved = userSkillRepo.save(userSkill);
+        if (existing.isEmpty()) {
+            eventPublisher.publishEvent(new SkillTrackedEvent(userId, skill.getSkillId()));
+        }
+        return saved;
     }
 
     /**
@@ -192,11 +230,14 @@ public class SkillMapService {
             .filter(skill -> goalDescription.toLowerCase().contains(skill.getName().toLowerCase()))
             .toList();
 
-        // Build paths for each relevant skill
+        // Build paths for each relevant skill from one read of the graph
         Map<String, List<String>> paths = new HashMap<>();
-        for (Skill skill : relevantSkills) {
-            List<String> path = getSkillLearningPath(skill.getName());
-            paths.put(skill.getName(), path);
+        if (!relevantSkills.isEmpty()) {
+            Map<Integer, String> names = skillNames(allSkills);
+            Map<Integer, List<Integer>> prerequisites = requiredPrerequisites();
+            for (Skill skill : relevantSkills) {
+                paths.put(skill.getName(), learningPath(skill.getSkillId(), names, prerequisites));
+            }
         }
 
         return Map.of(
@@ -34,70 +34,36 @@ public class StateTransitionService {
         this.skillNodeRepo = skillNodeRepo;
     }
 
+    /**
+     * Apply one piece of evidence to the user's state for a skill. The transition rules run
+     * inside a single upsert, so the state is created or updated without reading it first.
+     */
     @Transactional
     public void updateStateFromEvidence(Integer userId, Integer skillId, double support, String evidenceType) {
         System.out.println("  --> StateTransitionService.updateStateFromEvidence()");
         System.out.println("      userId=" + userId + ", skillId=" + skillId + ", support=" + String.format("%.2f", support) + ", evidenceType=" + evidenceType);
 
-        UserSkillState state = userSkillStateRepo.findByUserIdAndSkillId(userId, skillId)
-                .orElseGet(() -> {
-                    System.out.println("      NO EXISTING STATE - Creating new UserSkillState");
-                    UserSkillState newState = new UserSkillState();
-                    newState.setUserId(userId);
-                    newState.setSkillId(skillId);
-                    return newState;
-                });
-
-        SkillStatus oldStatus = state.getStatus();
-        double oldConfidence = state.getConfidence();
-
-        System.out.println("      Current state: " + oldStatus + " (confidence=" + String.format("%.2f", oldConfidence) + ")");
-
         LocalDateTime now = LocalDateTime.now();
-        SkillNode skillNode = skillNodeRepo.findById(skillId).orElse(null);
-        int decayDays = (skillNode != null) ? skillNode.getDecayHalfLifeDays() : 180;
-
         boolean isHighTrust = isHighTrustEvidence(evidenceType);
         System.out.println("      High-trust evidence: " + isHighTrust);
         System.out.println("      Support > PROVED_THRESHOLD (" + PROVED_SUPPORT_THRESHOLD + "): " + (support > PROVED_SUPPORT_THRESHOLD));
 
         if (support > PROVED_SUPPORT_THRESHOLD && isHighTrust) {
             // RULE 1: Strong evidence from high-trust sources
+            // INFERRED/ACTIVE → PROVED; UNSEEN → INFERRED (can't skip to PROVED)
             System.out.println("      RULE 1 TRIGGERED: Strong evidence from high-trust source");
-            if (state.getStatus() == SkillStatus.INFERRED || state.getStatus() == SkillStatus.ACTIVE) {
-                System.out.println("      Transition: " + state.getStatus() + " → PROVED");
-                state.setStatus(SkillStatus.PROVED);
-            } else if (state.getStatus() == SkillStatus.UNSEEN) {
-                // High-trust evidence for UNSEEN skill → INFERRED (can't skip to PROVED)
-                System.out.println("      Transition: UNSEEN → INFERRED (high-trust evidence, but can't skip to PROVED)");
-                state.setStatus(SkillStatus.INFERRED);
-            } else {
-                System.out.println("      No transition (already at " + state.getStatus() + ")");
-            }
-            state.setConfidence(Math.max(state.getConfidence(), support));
-            state.setEvidenceScore(state.getEvidenceScore() + support * 10);
-            state.setLastEvidenceAt(now);
-            state.setStaleAt(now.plusDays(decayDays));
+            SkillNode skillNode = skillNodeRepo.findById(skillId).orElse(null);
+            int decayDays = (skillNode != null) ? skillNode.getDecayHalfLifeDays() : 180;
+            userSkillStateRepo.applyStrongEvidence(userId, skillId, support, support * 10, now, now.plusDays(decayDays));
         } else if (support > 0.4) {
-            // RULE 2: Medium evidence
+            // RULE 2: Medium evidence, UNSEEN → INFERRED
             System.out.println("      RULE 2 TRIGGERED: Medium evidence (support > 0.4)");
-            if (state.getStatus() == SkillStatus.UNSEEN) {
-                System.out.println("      Transition: UNSEEN → INFERRED");
-                state.setStatus(SkillStatus.INFERRED);
-            } else {
-                System.out.println("      No transition (already at " + state.getStatus() + ")");
-            }
-            state.setConfidence(Math.max(state.getConfidence(), support * 0.7));
-            state.setEvidenceScore(state.getEvidenceScore() + support * 5);
-            state.setLastEvidenceAt(now);
+            userSkillStateRepo.applyMediumEvidence(userId, skillId, support * 0.7, support * 5, now);
         } else {
             System.out.println("      NO RULE TRIGGERED: Support too low (" + String.format("%.2f", support) + " <= 0.4)");
+            userSkillStateRepo.touch(userId, skillId, now);
         }
 
-        state.setUpdatedAt(now);
-        UserSkillState savedState = userSkillStateRepo.save(state);
-
-        System.out.println("      SAVED: " + savedState.getStatus() + " (confidence=" + String.format("%.2f", savedState.getConfidence()) + ")");
         System.out.println("  <-- StateTransitionService.updateStateFromEvidence() COMPLETE");
     }
 
@@ -120,21 +86,72 @@ public class StateTransitionService {
         Map<Integer, Double> prereqConfidence = prereqStates.stream()
                 .collect(Collectors.toMap(UserSkillState::getSkillId, UserSkillState::getConfidence));
 
-        boolean hardPrereqsSatisfied = true;
+        if (activateIfReady(state, prereqs, prereqConfidence)) {
+            userSkillStateRepo.save(state);
+        }
+    }
+
+    /**
+     * Incremental frontier recompute after the given skills changed (e.g. a batch marked
+     * PROVED): only the skills they are prerequisites of are re-evaluated, with their
+     * edges and the user's states loaded in one query each.
+     *
+     * @return number of skills moved to ACTIVE
+     */
+    @Transactional
+    public int recomputeFrontierForDependents(Integer userId, Collection<Integer> changedSkillIds) {
+        if (changedSkillIds.isEmpty()) {
+            return 0;
+        }
+        List<Integer> dependentIds = prereqEdgeRepo.findByFromSkillIdIn(new ArrayList<>(changedSkillIds)).stream()
+                .map(PrereqEdge::getToSkillId)
+                .distinct()
+                .collect(Collectors.toList());
+        if (dependentIds.isEmpty()) {
+            return 0;
+        }
+
+        Map<Integer, List<PrereqEdge>> prereqsBySkill = prereqEdgeRepo.findByToSkillIdIn(dependentIds).stream()
+                .collect(Collectors.groupingBy(PrereqEdge::getToSkillId));
+        Set<Integer> involvedIds = new HashSet<>(dependentIds);
+        prereqsBySkill.values().forEach(edges -> edges.forEach(edge -> involvedIds.add(edge.getFromSkillId())));
+
+        Map<Integer, UserSkillState> states = userSkillStateRepo.findByUserIdAndSkillIdIn(userId, new ArrayList<>(involvedIds))
+                .stream()
+                .collect(Collectors.toMap(UserSkillState::getSkillId, state -> state));
+        Map<Integer, Double> confidence = new HashMap<>();
+        states.forEach((skillId, state) -> confidence.put(skillId, state.getConfidence()));
+
+        List<UserSkillState> activated = new ArrayList<>();
+        for (Integer skillId : dependentIds) {
+            UserSkillState state = states.get(skillId);
+            if (state != null && state.getStatus() != SkillStatus.PROVED
+                    && activateIfReady(state, prereqsBySkill.getOrDefault(skillId, List.of()), confidence)) {
+                activated.add(state);
+            }
+        }
+        userSkillStateRepo.saveAll(activated);
+        return activated.size();
+    }
+
+    /**
+     * INFERRED -> ACTIVE once every hard prereq is confident and the strength-weighted
+     * prereq confidence reaches the soft threshold. Returns whether the state changed.
+     */
+    private boolean activateIfReady(UserSkillState state, List<PrereqEdge> prereqs, Map<Integer, Double> prereqConfidence) {
+        if (prereqs.isEmpty()) {
+            return false;
+        }
+
         for (PrereqEdge edge : prereqs) {
             if (edge.getType() == PrereqEdge.EdgeType.HARD) {
                 double conf = prereqConfidence.getOrDefault(edge.getFromSkillId(), 0.0);
                 if (conf < HARD_PREREQ_THRESHOLD) {
-                    hardPrereqsSatisfied = false;
-                    break;
+                    return false;
                 }
             }
         }
 
-        if (!hardPrereqsSatisfied) {
-            return;
-        }
-
         double aggregateConfidence = 0.0;
         double totalStrength = 0.0;
         for (PrereqEdge edge : prereqs) {
@@ -147,8 +164,9 @@ public class StateTransitionService {
         if (avgConfidence >= SOFT_PREREQ_THRESHOLD && state.getStatus() == SkillStatus.INFERRED) {
             state.setStatus(SkillStatus.ACTIVE);
             state.setUpdatedAt(LocalDateTime.now());
-            userSkillStateRepo.save(state);
+            return true;
         }
+        return false;
     }
 
     @Transactional
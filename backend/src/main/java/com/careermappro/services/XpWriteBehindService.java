@@ -0,0 +1,182 @@
+package com.careermappro.services;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * XpWriteBehindService
+ * Coalesces XP increments and streak updates per user in memory and flushes
+ * them periodically with batched set-based UPDATEs, so bursty clients no
+ * longer read-modify-write the users row on every call.
+ *
+ * Reads go through current(), which returns committed totals plus whatever
+ * is still pending, so a user always sees their own writes.
+ */
+@Service
+public class XpWriteBehindService {
+
+    public static final int XP_PER_LEVEL = 100;
+
+    public record Totals(int xp, int level, int streak) {}
+
+    // Level is recomputed in SQL from the pre-update xp so it is correct on both
+    // MySQL (left-to-right SET evaluation) and PostgreSQL (SET sees old values)
+    private static final String FLUSH_XP_SQL =
+        "UPDATE users SET level = FLOOR((COALESCE(xp, 0) + ?) / " + XP_PER_LEVEL + ") + 1, xp = COALESCE(xp, 0) + ? WHERE id = ?";
+    private static final String FLUSH_STREAK_SQL = "UPDATE users SET streak = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // Marks a drained counter that flush has removed from pendingXp; adds that find it retry on a fresh one
+    private static final long RETIRED = Long.MIN_VALUE;
+
+    private final ConcurrentHashMap<Integer, AtomicLong> pendingXp = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, Integer> pendingStreak = new ConcurrentHashMap<>();
+
+    // Flush holds the write lock while moving deltas into the database; readers hold
+    // the read lock so they never see a delta both pending and committed (or neither)
+    private final ReentrantReadWriteLock flushLock = new ReentrantReadWriteLock();
+
+    public XpWriteBehindService(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Queue an XP increment. Never touches the database or takes a lock: the delta is added
+     * to the user's counter with a CAS, and lands either in the flush that drains it or the next.
+     */
+    public void addXp(Integer userId, int delta) {
+        if (delta == 0) {
+            return;
+        }
+        while (true) {
+            AtomicLong pending = pendingXp.computeIfAbsent(userId, id -> new AtomicLong());
+            long current = pending.get();
+            while (current != RETIRED) {
+                if (pending.compareAndSet(current, current + delta)) {
+                    return;
+                }
+                current = pending.get();
+            }
+            // Flush retired this counter after draining it; drop it and start a new one
+            pendingXp.remove(userId, pending);
+        }
+    }
+
+    /**
+     * Queue a streak update. Last write wins.
+     */
+    public void setStreak(Integer userId, int streak) {
+        pendingStreak.put(userId, streak);
+    }
+
+    /**
+     * Committed totals plus pending deltas for a user, or null if the user does not exist
+     */
+    public Totals current(Integer userId) {
+        flushLock.readLock().lock();
+        try {
+            List<int[]> rows = jdbcTemplate.query(
+                "SELECT COALESCE(xp, 0), COALESCE(streak, 0) FROM users WHERE id = ?",
+                (rs, rowNum) -> new int[] { rs.getInt(1), rs.getInt(2) },
+                userId
+            );
+            if (rows.isEmpty()) {
+                return null;
+            }
+            AtomicLong pending = pendingXp.get(userId);
+            long delta = pending != null ? pending.get() : 0;
+            int xp = rows.get(0)[0] + (delta != RETIRED ? (int) delta : 0);
+            int streak = pendingStreak.getOrDefault(userId, rows.get(0)[1]);
+            return new Totals(xp, levelFor(xp), streak);
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    public static int levelFor(int xp) {
+        return Math.floorDiv(xp, XP_PER_LEVEL) + 1;
+    }
+
+    @Scheduled(fixedDelayString = "${gamification.xp.flush-interval-ms:1000}")
+    public void flush() {
+        if (pendingXp.isEmpty() && pendingStreak.isEmpty()) {
+            return;
+        }
+
+        flushLock.writeLock().lock();
+        try {
+            flushXp();
+            flushStreaks();
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void flushXp() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Integer, AtomicLong> entry : pendingXp.entrySet()) {
+            // Take the pending delta and retire the counter in one CAS, then remove it, so the map
+            // only holds users with pending XP and a concurrent add moves to a fresh counter
+            AtomicLong pending = entry.getValue();
+            long delta = pending.getAndSet(RETIRED);
+            pendingXp.remove(entry.getKey(), pending);
+            if (delta != 0 && delta != RETIRED) {
+                batch.add(new Object[] { delta, delta, entry.getKey() });
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            // One transaction, so a failed batch leaves no rows applied and the retry can't double count
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_XP_SQL, batch));
+        } catch (Exception e) {
+            // Put the deltas back so they are retried on the next flush
+            for (Object[] row : batch) {
+                addXp((Integer) row[2], (int) (long) (Long) row[0]);
+            }
+            System.err.println("[XP] Flush failed, will retry: " + e.getMessage());
+        }
+    }
+
+    private void flushStreaks() {
+        List<Object[]> batch = new ArrayList<>();
+        for (Integer userId : pendingStreak.keySet()) {
+            Integer streak = pendingStreak.remove(userId);
+            if (streak != null) {
+                batch.add(new Object[] { streak, userId });
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_STREAK_SQL, batch);
+        } catch (Exception e) {
+            for (Object[] row : batch) {
+                pendingStreak.putIfAbsent((Integer) row[1], (Integer) row[0]);
+            }
+            System.err.println("[XP] Streak flush failed, will retry: " + e.getMessage());
+        }
+    }
+}
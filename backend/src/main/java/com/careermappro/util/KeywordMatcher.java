@@ -0,0 +1,113 @@
+package com.careermappro.util;
+
+import java.util.*;
+
+/**
+ * Immutable Aho-Corasick keyword matcher.
+ * Finds every keyword occurring as a substring of the input in a single
+ * pass over the text, regardless of how many keywords are registered.
+ * Keywords are matched case-sensitively; callers normalize both sides.
+ */
+public class KeywordMatcher<V> {
+
+    public record Hit<V>(String keyword, V value, int priority, int start) {}
+
+    private record Keyword<V>(String text, V value, int priority) {}
+
+    private static final class Node<V> {
+        final Map<Character, Node<V>> next = new HashMap<>();
+        Node<V> fail;
+        final List<Keyword<V>> outputs = new ArrayList<>();
+    }
+
+    private final Node<V> root;
+
+    private KeywordMatcher(Node<V> root) {
+        this.root = root;
+    }
+
+    public static <V> Builder<V> builder() {
+        return new Builder<>();
+    }
+
+    public static class Builder<V> {
+        private final List<Keyword<V>> keywords = new ArrayList<>();
+
+        /**
+         * Register a keyword. Lower priority wins in firstMatch().
+         */
+        public Builder<V> add(String keyword, V value, int priority) {
+            if (keyword != null && !keyword.isEmpty()) {
+                keywords.add(new Keyword<>(keyword, value, priority));
+            }
+            return this;
+        }
+
+        public KeywordMatcher<V> build() {
+            Node<V> root = new Node<>();
+            for (Keyword<V> keyword : keywords) {
+                Node<V> node = root;
+                for (char c : keyword.text().toCharArray()) {
+                    node = node.next.computeIfAbsent(c, k -> new Node<>());
+                }
+                node.outputs.add(keyword);
+            }
+
+            // Breadth-first failure links
+            Deque<Node<V>> queue = new ArrayDeque<>();
+            for (Node<V> child : root.next.values()) {
+                child.fail = root;
+                queue.add(child);
+            }
+            while (!queue.isEmpty()) {
+                Node<V> node = queue.poll();
+                for (Map.Entry<Character, Node<V>> edge : node.next.entrySet()) {
+                    Node<V> child = edge.getValue();
+                    Node<V> fallback = node.fail;
+                    while (fallback != null && !fallback.next.containsKey(edge.getKey())) {
+                        fallback = fallback.fail;
+                    }
+                    child.fail = fallback == null ? root : fallback.next.get(edge.getKey());
+                    child.outputs.addAll(child.fail.outputs);
+                    queue.add(child);
+                }
+            }
+            return new KeywordMatcher<>(root);
+        }
+    }
+
+    /**
+     * All keyword occurrences in the text, in order of their end position
+     */
+    public List<Hit<V>> findAll(String text) {
+        List<Hit<V>> hits = new ArrayList<>();
+        if (text == null) {
+            return hits;
+        }
+        Node<V> node = root;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            while (node != root && !node.next.containsKey(c)) {
+                node = node.fail;
+            }
+            node = node.next.getOrDefault(c, root);
+            for (Keyword<V> keyword : node.outputs) {
+                hits.add(new Hit<>(keyword.text(), keyword.value(), keyword.priority(), i - keyword.text().length() + 1));
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Value of the matching keyword with the lowest priority, if any keyword occurs in the text
+     */
+    public Optional<V> firstMatch(String text) {
+        Hit<V> best = null;
+        for (Hit<V> hit : findAll(text)) {
+            if (best == null || hit.priority() < best.priority()) {
+                best = hit;
+            }
+        }
+        return best == null ? Optional.empty() : Optional.of(best.value());
+    }
+}
@@ -0,0 +1,75 @@
+package com.careermappro.util;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring buffer for many producers and a single consumer.
+ * offer() never blocks: when the buffer is full the item is dropped and counted.
+ * drainTo() must only ever be called from one thread at a time.
+ */
+public class MpscRingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final int mask;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * @param capacity rounded up to the next power of two
+     */
+    public MpscRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * Publish an item. Returns false (and counts a drop) if the buffer is full.
+     */
+    public boolean offer(T item) {
+        while (true) {
+            long index = producerIndex.get();
+            if (index - consumerIndex.get() >= slots.length()) {
+                dropped.incrementAndGet();
+                return false;
+            }
+            if (producerIndex.compareAndSet(index, index + 1)) {
+                slots.lazySet((int) (index & mask), item);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Move up to maxItems published items into the target list. Single consumer only.
+     */
+    public int drainTo(List<T> target, int maxItems) {
+        long index = consumerIndex.get();
+        int drained = 0;
+        while (drained < maxItems) {
+            int slot = (int) (index & mask);
+            T item = slots.get(slot);
+            if (item == null) {
+                // Empty, or a producer has claimed the slot but not yet published it
+                break;
+            }
+            slots.lazySet(slot, null);
+            target.add(item);
+            index++;
+            drained++;
+        }
+        consumerIndex.lazySet(index);
+        return drained;
+    }
+
+    public int size() {
+        return (int) Math.max(0, producerIndex.get() - consumerIndex.get());
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+}
@@ -0,0 +1,221 @@
+package com.careermappro.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Size-augmented treap (randomized balanced BST).
+ * Supports insert, remove, rank and select in expected O(log n).
+ * Not thread-safe - callers guard it with their own lock.
+ */
+public class OrderStatisticTree<K> {
+
+    private static final class Node<K> {
+        final K key;
+        final int priority;
+        int size = 1;
+        Node<K> left;
+        Node<K> right;
+
+        Node(K key) {
+            this.key = key;
+            this.priority = ThreadLocalRandom.current().nextInt();
+        }
+    }
+
+    private final Comparator<? super K> comparator;
+    private Node<K> root;
+
+    public OrderStatisticTree(Comparator<? super K> comparator) {
+        this.comparator = comparator;
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public void clear() {
+        root = null;
+    }
+
+    /**
+     * Insert a key. Returns false if an equal key is already present.
+     */
+    public boolean insert(K key) {
+        if (contains(key)) {
+            return false;
+        }
+        root = insert(root, new Node<>(key));
+        return true;
+    }
+
+    /**
+     * Remove a key. Returns false if it was not present.
+     */
+    public boolean remove(K key) {
+        if (!contains(key)) {
+            return false;
+        }
+        root = remove(root, key);
+        return true;
+    }
+
+    public boolean contains(K key) {
+        Node<K> node = root;
+        while (node != null) {
+            int cmp = comparator.compare(key, node.key);
+            if (cmp == 0) {
+                return true;
+            }
+            node = cmp < 0 ? node.left : node.right;
+        }
+        return false;
+    }
+
+    /**
+     * Zero-based position of the key in sorted order, or -1 if absent.
+     */
+    public int rank(K key) {
+        Node<K> node = root;
+        int rank = 0;
+        while (node != null) {
+            int cmp = comparator.compare(key, node.key);
+            if (cmp == 0) {
+                return rank + size(node.left);
+            }
+            if (cmp < 0) {
+                node = node.left;
+            } else {
+                rank += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Key at the given zero-based position in sorted order.
+     */
+    public K select(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size());
+        }
+        Node<K> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.key;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Keys in positions [fromIndex, toIndex), clamped to the tree bounds.
+     * Costs O(log n + k) for k returned keys.
+     */
+    public List<K> range(int fromIndex, int toIndex) {
+        int from = Math.max(0, fromIndex);
+        int to = Math.min(size(), toIndex);
+        List<K> result = new ArrayList<>(Math.max(0, to - from));
+        if (from < to) {
+            collect(root, from, to, 0, result);
+        }
+        return result;
+    }
+
+    private void collect(Node<K> node, int from, int to, int offset, List<K> out) {
+        if (node == null) {
+            return;
+        }
+        int nodeIndex = offset + size(node.left);
+        if (from < nodeIndex) {
+            collect(node.left, from, to, offset, out);
+        }
+        if (nodeIndex >= from && nodeIndex < to) {
+            out.add(node.key);
+        }
+        if (to > nodeIndex + 1) {
+            collect(node.right, from, to, nodeIndex + 1, out);
+        }
+    }
+
+    private Node<K> insert(Node<K> node, Node<K> fresh) {
+        if (node == null) {
+            return fresh;
+        }
+        if (comparator.compare(fresh.key, node.key) < 0) {
+            node.left = insert(node.left, fresh);
+            if (node.left.priority > node.priority) {
+                node = rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, fresh);
+            if (node.right.priority > node.priority) {
+                node = rotateLeft(node);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private Node<K> remove(Node<K> node, K key) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = comparator.compare(key, node.key);
+        if (cmp < 0) {
+            node.left = remove(node.left, key);
+        } else if (cmp > 0) {
+            node.right = remove(node.right, key);
+        } else {
+            if (node.left == null) {
+                return node.right;
+            }
+            if (node.right == null) {
+                return node.left;
+            }
+            if (node.left.priority > node.right.priority) {
+                node = rotateRight(node);
+                node.right = remove(node.right, key);
+            } else {
+                node = rotateLeft(node);
+                node.left = remove(node.left, key);
+            }
+        }
+        update(node);
+        return node;
+    }
+
+    private Node<K> rotateRight(Node<K> node) {
+        Node<K> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private Node<K> rotateLeft(Node<K> node) {
+        Node<K> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        update(node);
+        update(pivot);
+        return pivot;
+    }
+
+    private void update(Node<K> node) {
+        node.size = 1 + size(node.left) + size(node.right);
+    }
+
+    private int size(Node<K> node) {
+        return node == null ? 0 : node.size;
+    }
+}
@@ -0,0 +1,124 @@
+package com.careermappro.util;
+
+import java.util.*;
+
+/**
+ * Incremental resume section splitter.
+ * Lines are fed one at a time as the document is extracted; a short line that
+ * reads like a heading ("Work Experience", "TECHNICAL SKILLS:", "Projects")
+ * switches the current section. Text is cut into chunks of at most
+ * maxChunkChars per section, and at most maxChunks are kept overall, so memory
+ * stays bounded however long the document is.
+ */
+public class ResumeSectionSplitter {
+
+    public enum Section { SUMMARY, EXPERIENCE, SKILLS, PROJECTS, EDUCATION, OTHER }
+
+    public record Chunk(Section section, String text) {}
+
+    private static final int MAX_HEADING_LENGTH = 40;
+
+    private static final Map<Section, List<String>> HEADINGS = new EnumMap<>(Map.of(
+        Section.SUMMARY, List.of("summary", "profile", "objective", "about me", "professional summary"),
+        Section.EXPERIENCE, List.of("experience", "work experience", "professional experience", "employment",
+            "employment history", "work history", "career history"),
+        Section.SKILLS, List.of("skills", "technical skills", "core skills", "technologies", "tech stack",
+            "tools", "competencies", "core competencies", "languages and tools", "skills and tools"),
+        Section.PROJECTS, List.of("projects", "personal projects", "selected projects", "side projects",
+            "open source", "open source contributions"),
+        Section.EDUCATION, List.of("education", "certifications", "certificates", "courses", "training",
+            "education and certifications")
+    ));
+
+    private static final Map<String, Section> HEADING_INDEX = new HashMap<>();
+
+    static {
+        HEADINGS.forEach((section, names) -> names.forEach(name -> HEADING_INDEX.put(normalize(name), section)));
+    }
+
+    private final int maxChunkChars;
+    private final int maxChunks;
+
+    private final List<Chunk> chunks = new ArrayList<>();
+    private final StringBuilder current = new StringBuilder();
+    private Section section = Section.OTHER;
+    private long droppedChars;
+
+    public ResumeSectionSplitter(int maxChunkChars, int maxChunks) {
+        this.maxChunkChars = maxChunkChars;
+        this.maxChunks = maxChunks;
+    }
+
+    public void accept(String line) {
+        String trimmed = line.strip();
+        if (trimmed.isEmpty()) {
+            return;
+        }
+
+        Section heading = headingOf(trimmed);
+        if (heading != null) {
+            flush();
+            section = heading;
+            return;
+        }
+
+        if (current.length() + trimmed.length() + 1 > maxChunkChars) {
+            flush();
+        }
+        if (chunks.size() >= maxChunks) {
+            droppedChars += trimmed.length();
+            return;
+        }
+        // A single line longer than a chunk is cut rather than kept whole
+        String text = trimmed.length() > maxChunkChars ? trimmed.substring(0, maxChunkChars) : trimmed;
+        current.append(text).append('\n');
+    }
+
+    /**
+     * Chunks in document order, including the one still being filled
+     */
+    public List<Chunk> finish() {
+        flush();
+        return List.copyOf(chunks);
+    }
+
+    /**
+     * Characters skipped after maxChunks was reached
+     */
+    public long getDroppedChars() {
+        return droppedChars;
+    }
+
+    private void flush() {
+        if (current.length() == 0) {
+            return;
+        }
+        if (chunks.size() < maxChunks) {
+            chunks.add(new Chunk(section, current.toString()));
+        } else {
+            droppedChars += current.length();
+        }
+        current.setLength(0);
+    }
+
+    static Section headingOf(String line) {
+        if (line.length() > MAX_HEADING_LENGTH) {
+            return null;
+        }
+        return HEADING_INDEX.get(normalize(line));
+    }
+
+    /**
+     * Lowercase words only, without "and": "Skills & Tools:" and "skills and tools" both
+     * become "skills tools"
+     */
+    private static String normalize(String text) {
+        StringJoiner words = new StringJoiner(" ");
+        for (String word : text.toLowerCase(Locale.ROOT).split("[^a-z]+")) {
+            if (!word.isEmpty() && !word.equals("and")) {
+                words.add(word);
+            }
+        }
+        return words.toString();
+    }
+}
@@ -0,0 +1,62 @@
+package com.careermappro.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls for the same key into one execution.
+ *
+ * The first caller for a key (the leader) runs the work on its own thread; callers
+ * arriving while it is in flight block on the same CompletableFuture and receive
+ * its result or exception. Nothing is cached: once the leader releases the key,
+ * the next call runs the work again.
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    public V execute(K key, Supplier<V> work) {
+        return execute(key, work, Runnable::run);
+    }
+
+    /**
+     * @param deferRelease receives the action that releases the key once the leader is
+     *                     done, e.g. to hold the key until the leader's transaction
+     *                     commits so late arrivals share the result instead of writing again
+     */
+    public V execute(K key, Supplier<V> work, Consumer<Runnable> deferRelease) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            V value = work.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            deferRelease.accept(() -> inFlight.remove(key, mine));
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.careermappro.util;
+
+/**
+ * Token bucket refilled continuously at a fixed rate per minute.
+ *
+ * Callers reserve permits rather than take them: a reservation may push the balance
+ * below zero, and the deficit is how long the caller has to wait. That lets one
+ * caller hold reservations on several buckets (requests and tokens) and sleep once
+ * for the longest wait. Not thread-safe on its own; guard a group of buckets with
+ * one lock so a caller reserves on all of them or none.
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+    private double available;
+    private long lastRefillNanos;
+
+    public TokenBucket(long perMinute) {
+        this.capacity = perMinute;
+        this.refillPerNano = perMinute / 60_000_000_000.0;
+        this.available = perMinute;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Nanoseconds until the given permits would be covered (0 if they are now)
+     */
+    public long nanosUntilAvailable(long permits) {
+        refill();
+        // A request larger than the whole bucket waits for a full bucket instead of forever
+        double needed = Math.min(permits, capacity) - available;
+        return needed <= 0 ? 0 : (long) Math.ceil(needed / refillPerNano);
+    }
+
+    /**
+     * Reserve permits unconditionally; the balance may go negative
+     */
+    public void reserve(long permits) {
+        refill();
+        available -= Math.min(permits, capacity);
+    }
+
+    /**
+     * Return permits that were reserved but not used, e.g. when actual token usage was below the estimate
+     */
+    public void release(long permits) {
+        refill();
+        available = Math.min(capacity, available + permits);
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        available = Math.min(capacity, available + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+    }
+}
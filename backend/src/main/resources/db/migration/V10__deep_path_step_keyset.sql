@@ -0,0 +1,7 @@
+-- V10: Keyset index for paging deep path steps
+-- /api/frontier/paths/{pathId}/steps/page and the NDJSON stream read steps in
+-- (week_number, order_in_week, step_id) order after a cursor; this index serves
+-- both the filter on deep_path_id and the ordering without a sort.
+
+CREATE INDEX idx_deep_path_steps_keyset
+    ON deep_path_steps (deep_path_id, week_number, order_in_week, step_id);
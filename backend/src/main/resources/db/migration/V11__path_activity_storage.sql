@@ -0,0 +1,23 @@
+-- V11: path_activities read indexes and daily rollup table
+-- The per-type finders and counts in PathActivityRepository filter on user (and
+-- path) plus activity_type and sort by created_at. InnoDB secondary indexes carry
+-- the primary key, so the COUNT / GROUP BY variants are answered from the index
+-- alone. idx_type is superseded by both.
+--
+-- path_activity_daily holds the rollup the retention job writes before it removes
+-- raw activities older than paths.activities.retention-months.
+
+CREATE INDEX idx_user_type_time ON path_activities (user_id, activity_type, created_at);
+CREATE INDEX idx_user_path_type_time ON path_activities (user_id, path_id, activity_type, created_at);
+DROP INDEX idx_type ON path_activities;
+
+CREATE TABLE IF NOT EXISTS path_activity_daily (
+    user_id INT NOT NULL,
+    path_id INT NOT NULL,
+    activity_date DATE NOT NULL,
+    activity_type VARCHAR(32) NOT NULL,
+    activity_count INT NOT NULL,
+    total_minutes INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, path_id, activity_date, activity_type),
+    INDEX idx_daily_date (activity_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,21 @@
+-- V12: resume keyword index
+-- Inverted index from a skill keyword to the (career role, node) pairs it proves,
+-- used by ResumeAnalysisService to map extracted resume skills onto every role's
+-- path. Rows are generated by ResumeKeywordIndex from skill_nodes names and aliases
+-- found in the path templates (plus the curated path-templates/resume-keywords.json),
+-- and regenerated when the template version changes or a career role has no rows.
+-- node_id is a template-local path node id, not a skill_nodes id.
+--
+-- source is CURATED or TEMPLATE. Curated keywords match anywhere in a skill name
+-- ("postgres" in "postgresql"); generated ones only as whole words.
+
+CREATE TABLE IF NOT EXISTS resume_keyword_index (
+    keyword VARCHAR(100) NOT NULL,
+    career_role_id INT NOT NULL,
+    node_id INT NOT NULL,
+    source VARCHAR(16) NOT NULL,
+    template_version INT NOT NULL,
+    PRIMARY KEY (keyword, career_role_id, node_id)
+);
+
+CREATE INDEX idx_keyword_role ON resume_keyword_index (career_role_id);
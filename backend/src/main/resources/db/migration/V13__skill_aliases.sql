@@ -0,0 +1,17 @@
+-- V13: skill_aliases side table
+-- One row per normalized (lowercase, trimmed) canonical name or alias of a skill node,
+-- so SkillNodeRepository.findByAlias and evidence canonicalization seek the primary key
+-- instead of scanning skill_nodes.aliases with JSON_CONTAINS. The primary key is the
+-- unique index; an alias shared by two nodes gets two rows.
+--
+-- Rows are written by SkillNodeRepository.save / saveAll. Nodes without rows (seeded
+-- by SQL, or present before this migration) are filled in at startup by
+-- SkillNodeRepository.syncMissingAliases.
+
+CREATE TABLE IF NOT EXISTS skill_aliases (
+    alias_normalized VARCHAR(191) NOT NULL,
+    skill_node_id INT NOT NULL,
+    PRIMARY KEY (alias_normalized, skill_node_id),
+    INDEX idx_skill_aliases_node (skill_node_id),
+    FOREIGN KEY (skill_node_id) REFERENCES skill_nodes(skill_node_id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,15 @@
+-- V8: Per-user achievement progress counters
+-- Maintained incrementally from domain events (quiz completed, skill tracked,
+-- goal created/deleted, streak updated) so achievement progress is a single
+-- primary-key read instead of counting quizzes/skills/goals on every request.
+
+CREATE TABLE IF NOT EXISTS user_progress_counters (
+    user_id INT PRIMARY KEY,
+    quizzes_completed INT NOT NULL DEFAULT 0,
+    skills_tracked INT NOT NULL DEFAULT 0,
+    goals_set INT NOT NULL DEFAULT 0,
+    streak INT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
@@ -0,0 +1,6 @@
+-- V9: Versioned path snapshots
+-- getPathState stores its result in path_snapshots together with a fingerprint of
+-- the inputs (primary role, role_skill rows, user_skill_states rows). Requests whose
+-- fingerprint matches the latest snapshot are served from it without recomputing.
+
+ALTER TABLE path_snapshots ADD COLUMN state_version CHAR(64) NULL;
@@ -0,0 +1,53 @@
+-- Opt-in: range-partition path_activities by month (MySQL 8)
+-- Run once, then set paths.activities.partitioned=true so the retention job
+-- creates upcoming monthly partitions and drops expired ones instead of deleting rows.
+--
+-- MySQL requires the partitioning column in every unique key and doesn't allow
+-- foreign keys on partitioned tables, so the primary key becomes
+-- (activity_id, created_at) and any foreign keys are dropped; user, path and step
+-- deletes no longer cascade to activities. Foreign key names differ between a
+-- schema created by Hibernate and one created from V4, so they are looked up.
+--
+-- Bounds are RANGE COLUMNS on created_at, which needs a DATETIME column: Hibernate
+-- creates one, V4 created a TIMESTAMP, so the column is converted first. The
+-- retention job adds partitions with the same kind of bound.
+--
+-- Partitions are named pYYYYMM and hold [first of month, first of next month).
+-- Adjust the first bound to the oldest month in the table before running.
+
+SELECT CONCAT('ALTER TABLE path_activities ',
+              GROUP_CONCAT(CONCAT('DROP FOREIGN KEY `', CONSTRAINT_NAME, '`') SEPARATOR ', '))
+INTO @drop_foreign_keys
+FROM information_schema.TABLE_CONSTRAINTS
+WHERE TABLE_SCHEMA = DATABASE()
+  AND TABLE_NAME = 'path_activities'
+  AND CONSTRAINT_TYPE = 'FOREIGN KEY';
+
+SET @drop_foreign_keys = COALESCE(@drop_foreign_keys, 'DO 0');
+PREPARE drop_foreign_keys FROM @drop_foreign_keys;
+EXECUTE drop_foreign_keys;
+DEALLOCATE PREPARE drop_foreign_keys;
+
+ALTER TABLE path_activities
+    MODIFY created_at DATETIME(6) NOT NULL;
+
+ALTER TABLE path_activities
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (activity_id, created_at);
+
+ALTER TABLE path_activities
+    PARTITION BY RANGE COLUMNS (created_at) (
+        PARTITION p_old VALUES LESS THAN ('2026-01-01 00:00:00'),
+        PARTITION p202601 VALUES LESS THAN ('2026-02-01 00:00:00'),
+        PARTITION p202602 VALUES LESS THAN ('2026-03-01 00:00:00'),
+        PARTITION p202603 VALUES LESS THAN ('2026-04-01 00:00:00'),
+        PARTITION p202604 VALUES LESS THAN ('2026-05-01 00:00:00'),
+        PARTITION p202605 VALUES LESS THAN ('2026-06-01 00:00:00'),
+        PARTITION p202606 VALUES LESS THAN ('2026-07-01 00:00:00'),
+        PARTITION p202607 VALUES LESS THAN ('2026-08-01 00:00:00'),
+        PARTITION p202608 VALUES LESS THAN ('2026-09-01 00:00:00'),
+        PARTITION p202609 VALUES LESS THAN ('2026-10-01 00:00:00'),
+        PARTITION p202610 VALUES LESS THAN ('2026-11-01 00:00:00'),
+        PARTITION p202611 VALUES LESS THAN ('2026-12-01 00:00:00'),
+        PARTITION p_future VALUES LESS THAN MAXVALUE
+    );
@@ -0,0 +1,66 @@
+-- Opt-in: range-partition path_activities by month (PostgreSQL 12+)
+-- Run once during a quiet period, then set paths.activities.partitioned=true so the
+-- retention job creates upcoming monthly partitions and drops expired ones.
+--
+-- An existing table can't be turned into a partitioned one in place, so this
+-- renames it, creates a partitioned table with the same columns, copies the rows
+-- and carries the id sequence over. The primary key has to include created_at.
+-- Partitions are named path_activities_pYYYYMM and hold [first of month, first of
+-- next month); path_activities_default catches anything outside them.
+
+BEGIN;
+
+ALTER TABLE path_activities RENAME TO path_activities_unpartitioned;
+
+CREATE TABLE path_activities (
+    activity_id INTEGER NOT NULL GENERATED BY DEFAULT AS IDENTITY,
+    user_id INTEGER NOT NULL,
+    path_id INTEGER NOT NULL,
+    step_id INTEGER,
+    activity_type VARCHAR(255) NOT NULL,
+    description TEXT,
+    metadata JSON,
+    created_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (activity_id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE path_activities_default PARTITION OF path_activities DEFAULT;
+
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', COALESCE(
+        (SELECT MIN(created_at) FROM path_activities_unpartitioned), now()))::date;
+BEGIN
+    WHILE month_start <= date_trunc('month', now() + interval '2 months')::date LOOP
+        EXECUTE format('CREATE TABLE path_activities_p%s PARTITION OF path_activities FOR VALUES FROM (%L) TO (%L)',
+            to_char(month_start, 'YYYYMM'), month_start, (month_start + interval '1 month')::date);
+        month_start := (month_start + interval '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO path_activities (activity_id, user_id, path_id, step_id, activity_type, description, metadata, created_at)
+SELECT activity_id, user_id, path_id, step_id, activity_type, description, metadata, created_at
+FROM path_activities_unpartitioned;
+
+SELECT setval(pg_get_serial_sequence('path_activities', 'activity_id'),
+              COALESCE((SELECT MAX(activity_id) FROM path_activities), 0) + 1, false);
+
+CREATE INDEX idx_user_time ON path_activities (user_id, created_at);
+CREATE INDEX idx_path_time ON path_activities (path_id, created_at);
+CREATE INDEX idx_user_type_time ON path_activities (user_id, activity_type, created_at);
+CREATE INDEX idx_user_path_type_time ON path_activities (user_id, path_id, activity_type, created_at);
+
+DROP TABLE path_activities_unpartitioned;
+
+CREATE TABLE IF NOT EXISTS path_activity_daily (
+    user_id INTEGER NOT NULL,
+    path_id INTEGER NOT NULL,
+    activity_date DATE NOT NULL,
+    activity_type VARCHAR(32) NOT NULL,
+    activity_count INTEGER NOT NULL,
+    total_minutes INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (user_id, path_id, activity_date, activity_type)
+);
+CREATE INDEX IF NOT EXISTS idx_daily_date ON path_activity_daily (activity_date);
+
+COMMIT;
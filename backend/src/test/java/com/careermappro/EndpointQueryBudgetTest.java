@@ -0,0 +1,187 @@
+package com.careermappro;
+
+import com.careermappro.entities.*;
+import com.careermappro.repositories.*;
+import com.careermappro.support.QueryCounter;
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Guards the most-used read endpoints against N+1 regressions.
+ *
+ * Boots the whole application against H2 in MySQL mode on the Hibernate schema,
+ * lets DataInitializationService seed roles, skills and achievements, then adds a
+ * user with a primary role, skills, achievements and sessions. The MySQL-only
+ * migrations are not replayed here.
+ *
+ * Each endpoint is called once to warm caches (achievement catalog, path snapshot,
+ * progress counters) and then measured; every call must answer 200, so an endpoint
+ * that fails before querying can't pass its budget.
+ *
+ * Limit: QueryCounter is a Hibernate StatementInspector, so only statements prepared
+ * through Hibernate are counted. JdbcTemplate reads are not, and are noted next to
+ * the budgets they add to (XP totals from XpWriteBehindService.current, the path
+ * state version from PathSnapshotService.stateVersion).
+ * Budgets are upper bounds: lowering one after a fix is welcome, raising one needs a reason.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:endpoint-budgets;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class EndpointQueryBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private UserRoleRepository userRoleRepository;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private UserSkillRepository userSkillRepository;
+
+    @Autowired
+    private AchievementRepository achievementRepository;
+
+    @Autowired
+    private UserAchievementRepository userAchievementRepository;
+
+    @Autowired
+    private SkillNodeRepository skillNodeRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private CareerGoalRepository careerGoalRepository;
+
+    @Autowired
+    private DomainRepository domainRepository;
+
+    @Autowired
+    private CareerRoleRepository careerRoleRepository;
+
+    private Integer userId;
+    private Integer domainId;
+    private Integer careerRoleId;
+
+    @BeforeAll
+    void seedUser() {
+        User user = userRepository.save(new User("Budget User", "budget-user@example.com"));
+        userId = user.getId();
+
+        Role role = roleRepository.findAll().get(0);
+        userRoleRepository.save(new UserRole(user, role, true));
+
+        List<Skill> skills = skillRepository.findAll();
+        for (Skill skill : skills.subList(0, Math.min(5, skills.size()))) {
+            userSkillRepository.save(new UserSkill(userId, skill, 40));
+        }
+
+        List<Achievement> achievements = achievementRepository.findAll();
+        for (Achievement achievement : achievements.subList(0, Math.min(3, achievements.size()))) {
+            UserAchievement unlocked = new UserAchievement(user, achievement, 100);
+            unlocked.setUnlockedAt(LocalDateTime.now());
+            userAchievementRepository.save(unlocked);
+        }
+
+        for (int i = 0; i < 3; i++) {
+            SkillNode node = new SkillNode();
+            node.setCanonicalName("budget-node-" + i);
+            node.setDomain("backend");
+            node = skillNodeRepository.save(node);
+
+            Session session = new Session();
+            session.setUserId(userId);
+            session.setSkillNode(node);
+            session.setSessionType(Session.SessionType.PROBE);
+            session.setSessionState(i == 0 ? Session.SessionState.PROPOSED : Session.SessionState.COMPLETED);
+            session.setExpiresAt(LocalDateTime.now().plusDays(1));
+            sessionRepository.save(session);
+        }
+
+        careerGoalRepository.save(new CareerGoal(userId, "Backend Engineer", 0.4));
+
+        Domain domain = domainRepository.findAll().get(0);
+        domainId = domain.getDomainId();
+        careerRoleId = careerRoleRepository.findByDomain_DomainId(domainId).get(0).getCareerRoleId();
+    }
+
+    /**
+     * Endpoint -> maximum SQL statements per request
+     */
+    private Map<String, Integer> budgets() {
+        Map<String, Integer> budgets = new LinkedHashMap<>();
+        // primary role (role fetched with it) + latest snapshot; plus one uncounted JdbcTemplate state-version read
+        budgets.put("/api/v1/path?userId=" + userId, 2);
+        budgets.put("/api/v1/path/history?userId=" + userId, 1);
+        budgets.put("/api/v1/roles", 1);
+        // skills + dependency edges
+        budgets.put("/api/skillmap/graph", 2);
+        budgets.put("/api/skillmap/user/" + userId, 3);
+        budgets.put("/api/skillmap/path/Java", 3);
+        budgets.put("/api/skillmap/categories", 1);
+        budgets.put("/api/skillmap/search?q=java", 1);
+        // progress counters + user achievements (achievement fetched with it); plus one uncounted JdbcTemplate XP read
+        budgets.put("/api/gamification/user/" + userId, 2);
+        // served from the in-memory order-statistic tree
+        budgets.put("/api/gamification/leaderboard", 0);
+        budgets.put("/api/goals/" + userId, 1);
+        budgets.put("/api/proficiencies/" + userId, 1);
+        budgets.put("/api/quizzes/user/" + userId, 1);
+        budgets.put("/api/sessions/user/" + userId, 1);
+        // session, then its EAGER skill node
+        budgets.put("/api/sessions/current?userId=" + userId, 2);
+        budgets.put("/api/frontier/domains", 1);
+        // one flat hierarchy query; a role with a deep path is then served from the cache
+        budgets.put("/api/frontier/hierarchy?domainId=" + domainId + "&roleId=" + careerRoleId, 1);
+        // primary role + skill states + role skills
+        budgets.put("/api/v2/frontier?userId=" + userId, 3);
+        budgets.put("/api/skills/catalog", 1);
+        // plus one uncounted JdbcTemplate XP read
+        budgets.put("/api/auth/user/" + userId, 1);
+        return budgets;
+    }
+
+    @Test
+    void readEndpointsStayWithinStatementBudgets() throws Exception {
+        SoftAssertions softly = new SoftAssertions();
+
+        for (Map.Entry<String, Integer> endpoint : budgets().entrySet()) {
+            mockMvc.perform(get(endpoint.getKey())).andExpect(status().isOk());
+
+            // MockMvc dispatches on the calling thread, so the thread-local counter sees the whole request
+            QueryCounter.reset();
+            mockMvc.perform(get(endpoint.getKey())).andExpect(status().isOk());
+
+            softly.assertThat(QueryCounter.count())
+                .as("GET %s: %s", endpoint.getKey(), QueryCounter.statements())
+                .isLessThanOrEqualTo(endpoint.getValue());
+        }
+
+        softly.assertAll();
+    }
+}
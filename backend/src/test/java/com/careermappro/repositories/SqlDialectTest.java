@@ -0,0 +1,37 @@
+package com.careermappro.repositories;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlDialectTest {
+
+    @Test
+    void dialectIsChosenFromProductName() {
+        assertThat(SqlDialect.fromProductName("PostgreSQL")).isEqualTo(SqlDialect.POSTGRESQL);
+        assertThat(SqlDialect.fromProductName("H2")).isEqualTo(SqlDialect.H2);
+        assertThat(SqlDialect.fromProductName("MySQL")).isEqualTo(SqlDialect.MYSQL);
+        assertThat(SqlDialect.fromProductName("MariaDB")).isEqualTo(SqlDialect.MYSQL);
+        assertThat(SqlDialect.fromProductName(null)).isEqualTo(SqlDialect.MYSQL);
+    }
+
+    @Test
+    void jsonArrayContainsPerDialect() {
+        assertThat(SqlDialect.MYSQL.jsonArrayContains("tags", "?"))
+            .isEqualTo("JSON_CONTAINS(tags, JSON_QUOTE(?))");
+        assertThat(SqlDialect.POSTGRESQL.jsonArrayContains("tags", "?"))
+            .isEqualTo("CAST(tags AS jsonb) @> jsonb_build_array(CAST(? AS text))");
+        assertThat(SqlDialect.H2.jsonArrayContains("tags", "?"))
+            .isEqualTo("CAST(tags AS VARCHAR) LIKE CONCAT('%\"', ?, '\"%')");
+    }
+
+    @Test
+    void jsonIntFieldPerDialect() {
+        assertThat(SqlDialect.MYSQL.jsonIntField("metadata", "minutes"))
+            .isEqualTo("CAST(JSON_UNQUOTE(JSON_EXTRACT(metadata, '$.minutes')) AS UNSIGNED)");
+        assertThat(SqlDialect.POSTGRESQL.jsonIntField("metadata", "minutes"))
+            .isEqualTo("CAST(metadata ->> 'minutes' AS INTEGER)");
+        assertThat(SqlDialect.H2.jsonIntField("metadata", "minutes"))
+            .isEqualTo("CAST(NULL AS INTEGER)");
+    }
+}
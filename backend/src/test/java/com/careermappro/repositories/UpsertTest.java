@@ -0,0 +1,73 @@
+package com.careermappro.repositories;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UpsertTest {
+
+    private static final String INSERT =
+        "INSERT INTO counters (user_id, skill_id, hits, updated_at) VALUES (?, ?, ?, ?)";
+
+    private static final Upsert ACCUMULATE = Upsert.into("counters")
+        .columns("user_id", "skill_id", "hits", "updated_at")
+        .key("user_id", "skill_id")
+        .set("hits", "{hits} + {new.hits}")
+        .setIncoming("updated_at")
+        .build();
+
+    private static final Upsert IF_ABSENT = Upsert.into("counters")
+        .columns("user_id", "skill_id", "hits", "updated_at")
+        .key("user_id", "skill_id")
+        .build();
+
+    @Test
+    void mysqlUsesOnDuplicateKeyWithValuesReferences() {
+        assertThat(ACCUMULATE.toSql(SqlDialect.MYSQL)).isEqualTo(INSERT +
+            " ON DUPLICATE KEY UPDATE hits = hits + VALUES(hits), updated_at = VALUES(updated_at)");
+    }
+
+    @Test
+    void h2RendersLikeMysql() {
+        assertThat(ACCUMULATE.toSql(SqlDialect.H2)).isEqualTo(ACCUMULATE.toSql(SqlDialect.MYSQL));
+        assertThat(IF_ABSENT.toSql(SqlDialect.H2)).isEqualTo(IF_ABSENT.toSql(SqlDialect.MYSQL));
+    }
+
+    @Test
+    void postgresqlUsesOnConflictWithTableAndExcludedReferences() {
+        assertThat(ACCUMULATE.toSql(SqlDialect.POSTGRESQL)).isEqualTo(INSERT +
+            " ON CONFLICT (user_id, skill_id) DO UPDATE SET hits = counters.hits + EXCLUDED.hits," +
+            " updated_at = EXCLUDED.updated_at");
+    }
+
+    @Test
+    void withoutAssignmentsTheExistingRowIsKept() {
+        assertThat(IF_ABSENT.toSql(SqlDialect.MYSQL))
+            .isEqualTo(INSERT + " ON DUPLICATE KEY UPDATE user_id = user_id");
+        assertThat(IF_ABSENT.toSql(SqlDialect.POSTGRESQL))
+            .isEqualTo(INSERT + " ON CONFLICT (user_id, skill_id) DO NOTHING");
+    }
+
+    @Test
+    void updateParametersAndLiteralsAreLeftInPlace() {
+        Upsert upsert = Upsert.into("states")
+            .columns("user_id", "status")
+            .key("user_id")
+            .set("status", "CASE WHEN {status} = 'UNSEEN' THEN ? ELSE {status} END")
+            .build();
+
+        assertThat(upsert.toSql(SqlDialect.POSTGRESQL)).endsWith(
+            "DO UPDATE SET status = CASE WHEN states.status = 'UNSEEN' THEN ? ELSE states.status END");
+        assertThat(upsert.toSql(SqlDialect.MYSQL)).endsWith(
+            "UPDATE status = CASE WHEN status = 'UNSEEN' THEN ? ELSE status END");
+    }
+
+    @Test
+    void buildRequiresColumnsAndKey() {
+        assertThatThrownBy(() -> Upsert.into("counters").columns("user_id").build())
+            .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> Upsert.into("counters").key("user_id").build())
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,129 @@
+package com.careermappro.repositories;
+
+import com.careermappro.entities.UserSkillState;
+import com.careermappro.entities.UserSkillState.SkillStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The native upserts against H2: statuses only move forward, and a state the
+ * persistence context already holds is reloaded after a write.
+ */
+@DataJpaTest
+@Import(NativeSqlTemplate.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserSkillStateRepositoryUpsertTest {
+
+    private static final int USER_ID = 301;
+
+    @Autowired
+    private UserSkillStateRepository repository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @AfterEach
+    void cleanUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void provedStateIsNeverDowngraded() {
+        save(1, SkillStatus.PROVED, 0.9);
+
+        inTransaction(() -> {
+            repository.applyStrongEvidence(USER_ID, 1, 0.4, 1.0, now, now.plusDays(90));
+            repository.applyMediumEvidence(USER_ID, 1, 0.3, 0.5, now);
+            repository.touch(USER_ID, 1, now);
+            repository.insertProvedIfAbsent(USER_ID, List.of(1), 0.5, now);
+        });
+
+        UserSkillState state = repository.findByUserIdAndSkillId(USER_ID, 1).orElseThrow();
+        assertThat(state.getStatus()).isEqualTo(SkillStatus.PROVED);
+        assertThat(state.getConfidence()).isEqualTo(0.9);
+    }
+
+    @Test
+    void evidencePromotesOneStepAtATime() {
+        save(1, SkillStatus.UNSEEN, 0.0);
+        save(2, SkillStatus.INFERRED, 0.5);
+        save(3, SkillStatus.ACTIVE, 0.6);
+
+        inTransaction(() -> {
+            repository.applyMediumEvidence(USER_ID, 1, 0.3, 0.5, now);
+            repository.applyStrongEvidence(USER_ID, 2, 0.4, 1.0, now, now.plusDays(90));
+            repository.applyMediumEvidence(USER_ID, 3, 0.8, 0.5, now);
+        });
+
+        assertThat(status(1)).isEqualTo(SkillStatus.INFERRED);
+        assertThat(status(2)).isEqualTo(SkillStatus.PROVED);
+        assertThat(status(3)).isEqualTo(SkillStatus.ACTIVE);
+        assertThat(repository.findByUserIdAndSkillId(USER_ID, 2).orElseThrow().getConfidence()).isEqualTo(0.5);
+        assertThat(repository.findByUserIdAndSkillId(USER_ID, 3).orElseThrow().getConfidence()).isEqualTo(0.8);
+    }
+
+    @Test
+    void missingStatesAreInsertedAndExistingOnesKept() {
+        save(1, SkillStatus.INFERRED, 0.5);
+
+        inTransaction(() -> {
+            repository.insertProvedIfAbsent(USER_ID, List.of(1, 2), 0.85, now);
+            repository.touch(USER_ID, 3, now);
+        });
+
+        assertThat(status(1)).isEqualTo(SkillStatus.INFERRED);
+        assertThat(status(2)).isEqualTo(SkillStatus.PROVED);
+        assertThat(status(3)).isEqualTo(SkillStatus.UNSEEN);
+    }
+
+    @Test
+    void managedStateIsReloadedAfterUpsert() {
+        save(1, SkillStatus.INFERRED, 0.5);
+        save(2, SkillStatus.INFERRED, 0.5);
+
+        UserSkillState reloaded = transactionTemplate.execute(status -> {
+            UserSkillState written = repository.findByUserIdAndSkillId(USER_ID, 1).orElseThrow();
+            UserSkillState untouched = repository.findByUserIdAndSkillId(USER_ID, 2).orElseThrow();
+            repository.applyStrongEvidence(USER_ID, 1, 0.8, 1.0, now, now.plusDays(90));
+
+            // Only the written state leaves the persistence context
+            assertThat(repository.findByUserIdAndSkillId(USER_ID, 2).orElseThrow()).isSameAs(untouched);
+            UserSkillState fresh = repository.findByUserIdAndSkillId(USER_ID, 1).orElseThrow();
+            assertThat(fresh).isNotSameAs(written);
+            return fresh;
+        });
+
+        assertThat(reloaded.getStatus()).isEqualTo(SkillStatus.PROVED);
+        assertThat(reloaded.getConfidence()).isEqualTo(0.8);
+    }
+
+    private void save(int skillId, SkillStatus status, double confidence) {
+        UserSkillState state = new UserSkillState();
+        state.setUserId(USER_ID);
+        state.setSkillId(skillId);
+        state.setStatus(status);
+        state.setConfidence(confidence);
+        repository.save(state);
+    }
+
+    private SkillStatus status(int skillId) {
+        return repository.findByUserIdAndSkillId(USER_ID, skillId).orElseThrow().getStatus();
+    }
+
+    private void inTransaction(Runnable writes) {
+        transactionTemplate.executeWithoutResult(status -> writes.run());
+    }
+}
@@ -0,0 +1,43 @@
+package com.careermappro.services;
+
+import com.careermappro.openai.OpenAiStubServer;
+import com.careermappro.openai.RecordedCompletions;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GPTService against the local stub: the base URL property is honoured, 429s are
+ * retried by OpenAiClient and then surface as an error string rather than an exception.
+ */
+class GPTServiceStubTest {
+
+    private GPTService serviceFor(OpenAiStubServer stub) {
+        // Telemetry only buffers records; its scheduled writer never runs here
+        return new GPTService(new OpenAiClient(new AiCallTelemetry(null), "test-key", stub.baseUrl(), 500, 200_000));
+    }
+
+    @Test
+    void returnsRecordedCompletionFromConfiguredBaseUrl() throws Exception {
+        RecordedCompletions completions = RecordedCompletions.defaults()
+            .with("Explain recursion", "Recursion is a function calling itself.");
+
+        try (OpenAiStubServer stub = OpenAiStubServer.builder().completions(completions).start()) {
+            String text = serviceFor(stub).generateText("Explain recursion briefly");
+
+            assertThat(text).isEqualTo("Recursion is a function calling itself.");
+            assertThat(stub.requestCount()).isEqualTo(1);
+            assertThat(stub.lastRequest().path("model").asText()).isEqualTo("gpt-3.5-turbo");
+        }
+    }
+
+    @Test
+    void rateLimitedCallIsRetriedThenReturnsErrorText() throws Exception {
+        try (OpenAiStubServer stub = OpenAiStubServer.builder().rateLimitRate(1.0).retryAfterSeconds(0).start()) {
+            String text = serviceFor(stub).generateText("Explain recursion briefly");
+
+            assertThat(text).startsWith("Error calling GPT API").contains("HTTP_429");
+            assertThat(stub.rateLimitedCount()).isEqualTo(3);
+        }
+    }
+}
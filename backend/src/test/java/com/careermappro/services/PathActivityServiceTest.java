@@ -0,0 +1,195 @@
+package com.careermappro.services;
+
+import com.careermappro.entities.PathActivity;
+import com.careermappro.entities.PathActivity.ActivityType;
+import com.careermappro.entities.PathProgress;
+import com.careermappro.entities.PathStep;
+import com.careermappro.entities.PathUnit;
+import com.careermappro.repositories.NativeSqlTemplate;
+import com.careermappro.repositories.PathActivityDailyRepository;
+import com.careermappro.repositories.PathActivityRepository;
+import com.careermappro.repositories.PathProgressRepository;
+import com.careermappro.repositories.PathStepRepository;
+import com.careermappro.repositories.PathUnitRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Progress counters kept by record(), recomputed by rebuild() and preserved across
+ * the retention rollup. Each service call runs in its own transaction.
+ *
+ * Minutes are only passed to record() here: H2 stores the metadata column as a JSON
+ * string and SqlDialect.H2 has no JSON field access, so minutes read back from the
+ * log are not meaningful in this database.
+ */
+@DataJpaTest
+@Import({PathActivityService.class, PathActivityRetentionService.class, NativeSqlTemplate.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PathActivityServiceTest {
+
+    private static final int USER_ID = 201;
+    private static final int PATH_ID = 1;
+
+    @Autowired
+    private PathActivityService pathActivityService;
+
+    @Autowired
+    private PathActivityRetentionService retentionService;
+
+    @Autowired
+    private PathActivityRepository activityRepository;
+
+    @Autowired
+    private PathActivityDailyRepository dailyRepository;
+
+    @Autowired
+    private PathProgressRepository progressRepository;
+
+    @Autowired
+    private PathUnitRepository unitRepository;
+
+    @Autowired
+    private PathStepRepository stepRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Integer stepId;
+
+    @BeforeEach
+    void seed() {
+        // One unit with four steps
+        PathUnit unit = unitRepository.save(new PathUnit(PATH_ID, 1, "Foundations"));
+        for (int i = 1; i <= 4; i++) {
+            PathStep step = stepRepository.save(new PathStep(unit.getUnitId(), 10 + i, i, "Step " + i));
+            if (i == 1) {
+                stepId = step.getStepId();
+            }
+        }
+    }
+
+    @AfterEach
+    void cleanUp() {
+        activityRepository.deleteAll();
+        dailyRepository.deleteAll();
+        progressRepository.deleteAll();
+        stepRepository.deleteAll();
+        unitRepository.deleteAll();
+    }
+
+    @Test
+    void recordCreatesProgressRowAndAppliesEachDelta() {
+        pathActivityService.record(USER_ID, PATH_ID, stepId, ActivityType.STEP_STARTED, null, null);
+        pathActivityService.record(USER_ID, PATH_ID, stepId, ActivityType.STEP_COMPLETED, 25, "done");
+        pathActivityService.record(USER_ID, PATH_ID, null, ActivityType.QUIZ_TAKEN, 10, null);
+        pathActivityService.record(USER_ID, PATH_ID, null, ActivityType.EVIDENCE_SUBMITTED, null, null);
+
+        PathProgress progress = pathActivityService.getProgress(USER_ID, PATH_ID);
+        assertThat(progress.getTotalUnits()).isEqualTo(1);
+        assertThat(progress.getTotalSteps()).isEqualTo(4);
+        assertThat(progress.getCompletedSteps()).isEqualTo(1);
+        assertThat(progress.getQuizzesCompleted()).isEqualTo(1);
+        assertThat(progress.getEvidenceSubmitted()).isEqualTo(1);
+        assertThat(progress.getTotalTimeMinutes()).isEqualTo(35);
+        assertThat(progress.getCurrentStepId()).isEqualTo(stepId);
+        assertThat(progress.getOverallProgress()).isEqualByComparingTo(new BigDecimal("25.00"));
+        assertThat(progressRepository.findByUserId(USER_ID)).hasSize(1);
+    }
+
+    @Test
+    void recordKeepsProgressRowCreatedByConcurrentFirstActivity() {
+        // Another transaction created the row between this record's UPDATE and its insert
+        PathProgress existing = new PathProgress(PATH_ID, USER_ID);
+        existing.setTotalSteps(4);
+        existing.setCompletedSteps(2);
+        transactionTemplate.executeWithoutResult(status -> {
+            progressRepository.insertIfAbsent(existing);
+            progressRepository.insertIfAbsent(new PathProgress(PATH_ID, USER_ID));
+        });
+
+        pathActivityService.record(USER_ID, PATH_ID, stepId, ActivityType.STEP_COMPLETED, null, null);
+
+        assertThat(progressRepository.findByUserId(USER_ID)).singleElement()
+            .satisfies(progress -> assertThat(progress.getCompletedSteps()).isEqualTo(3));
+    }
+
+    @Test
+    void rebuildRestoresCountersFromLog() {
+        pathActivityService.record(USER_ID, PATH_ID, stepId, ActivityType.STEP_COMPLETED, null, null);
+        pathActivityService.record(USER_ID, PATH_ID, stepId, ActivityType.STEP_COMPLETED, null, null);
+        pathActivityService.record(USER_ID, PATH_ID, null, ActivityType.UNIT_COMPLETED, null, null);
+        pathActivityService.record(USER_ID, PATH_ID, null, ActivityType.QUIZ_TAKEN, null, null);
+
+        // Drift the stored row away from the log
+        PathProgress drifted = pathActivityService.getProgress(USER_ID, PATH_ID);
+        drifted.setCompletedSteps(0);
+        drifted.setCompletedUnits(7);
+        drifted.setQuizzesCompleted(0);
+        progressRepository.save(drifted);
+
+        pathActivityService.rebuild(USER_ID, PATH_ID);
+
+        PathProgress rebuilt = pathActivityService.getProgress(USER_ID, PATH_ID);
+        assertThat(rebuilt.getCompletedSteps()).isEqualTo(2);
+        assertThat(rebuilt.getCompletedUnits()).isEqualTo(1);
+        assertThat(rebuilt.getQuizzesCompleted()).isEqualTo(1);
+        assertThat(rebuilt.getEvidenceSubmitted()).isZero();
+        assertThat(rebuilt.getOverallProgress()).isEqualByComparingTo(new BigDecimal("50.00"));
+        assertThat(rebuilt.getLastActivityAt()).isNotNull();
+    }
+
+    @Test
+    void rebuildCreatesMissingProgressRow() {
+        activityRepository.save(new PathActivity(USER_ID, PATH_ID, ActivityType.STEP_COMPLETED));
+
+        pathActivityService.rebuild(USER_ID, PATH_ID);
+
+        PathProgress progress = pathActivityService.getProgress(USER_ID, PATH_ID);
+        assertThat(progress.getCompletedSteps()).isEqualTo(1);
+        assertThat(progress.getTotalSteps()).isEqualTo(4);
+    }
+
+    @Test
+    void retentionRollupKeepsRebuiltCountersIntact() {
+        LocalDateTime expired = LocalDate.now().minusMonths(14).withDayOfMonth(3).atTime(9, 0);
+        activityRepository.save(activityAt(ActivityType.STEP_COMPLETED, expired));
+        activityRepository.save(activityAt(ActivityType.STEP_COMPLETED, expired.plusHours(2)));
+        activityRepository.save(activityAt(ActivityType.QUIZ_TAKEN, expired.plusDays(1)));
+        pathActivityService.record(USER_ID, PATH_ID, stepId, ActivityType.STEP_COMPLETED, null, null);
+
+        int compacted = retentionService.compactBefore(YearMonth.now().minusMonths(12));
+
+        assertThat(compacted).isPositive();
+        assertThat(activityRepository.findByUserIdAndPathId(USER_ID, PATH_ID)).hasSize(1);
+        assertThat(dailyRepository.findAll()).hasSize(2);
+        assertThat(dailyRepository.sumByTypeForUserAndPath(USER_ID, PATH_ID))
+            .extracting(row -> row[0] + "=" + ((Number) row[1]).intValue())
+            .containsExactlyInAnyOrder("STEP_COMPLETED=2", "QUIZ_TAKEN=1");
+
+        pathActivityService.rebuild(USER_ID, PATH_ID);
+
+        PathProgress progress = pathActivityService.getProgress(USER_ID, PATH_ID);
+        assertThat(progress.getCompletedSteps()).isEqualTo(3);
+        assertThat(progress.getQuizzesCompleted()).isEqualTo(1);
+    }
+
+    private PathActivity activityAt(ActivityType type, LocalDateTime at) {
+        PathActivity activity = new PathActivity(USER_ID, PATH_ID, type);
+        activity.setCreatedAt(at);
+        return activity;
+    }
+}
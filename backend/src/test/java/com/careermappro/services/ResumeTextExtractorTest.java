@@ -0,0 +1,136 @@
+package com.careermappro.services;
+
+import com.careermappro.services.ResumeTextExtractor.Format;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResumeTextExtractorTest {
+
+    private final ResumeTextExtractor extractor = new ResumeTextExtractor();
+    private final List<String> lines = new ArrayList<>();
+
+    @Test
+    void plainTextIsStreamedLineByLine() throws IOException {
+        byte[] text = "Jane Doe\nSKILLS\nJava, SQL\r\n\nEXPERIENCE".getBytes(StandardCharsets.UTF_8);
+
+        Format format = extractor.extract(new ByteArrayInputStream(text), lines::add);
+
+        assertThat(format).isEqualTo(Format.TEXT);
+        assertThat(lines).containsExactly("Jane Doe", "SKILLS", "Java, SQL", "", "EXPERIENCE");
+    }
+
+    @Test
+    void docxParagraphsAndBreaksBecomeLines() throws IOException {
+        byte[] docx = docx(
+            "<w:p><w:r><w:t>Jane </w:t></w:r><w:r><w:t>Doe</w:t></w:r></w:p>" +
+            "<w:p><w:r><w:t>SKILLS</w:t><w:br/><w:t>Java</w:t><w:tab/><w:t>SQL</w:t></w:r></w:p>" +
+            "<w:p/>");
+
+        Format format = extractor.extract(new ByteArrayInputStream(docx), lines::add);
+
+        assertThat(format).isEqualTo(Format.DOCX);
+        assertThat(lines).containsExactly("Jane Doe", "SKILLS", "Java\tSQL");
+    }
+
+    @Test
+    void zipWithoutDocumentBodyIsRejected() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry("notes.txt"));
+            zip.write("not a resume".getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+
+        assertThatThrownBy(() -> extractor.extract(new ByteArrayInputStream(bytes.toByteArray()), lines::add))
+            .isInstanceOf(IOException.class)
+            .hasMessageContaining("word/document.xml");
+    }
+
+    @Test
+    void pdfTextIsExtractedPerPage() throws IOException {
+        byte[] pdf = pdf(List.of("Jane Doe", "SKILLS"), List.of("EXPERIENCE"));
+
+        Format format = extractor.extract(new ByteArrayInputStream(pdf), lines::add);
+
+        assertThat(format).isEqualTo(Format.PDF);
+        assertThat(lines).map(String::strip).filteredOn(line -> !line.isEmpty())
+            .containsExactly("Jane Doe", "SKILLS", "EXPERIENCE");
+    }
+
+    @Test
+    void formatIsSniffedFromLeadingBytesWithoutConsumingThem() throws IOException {
+        BufferedInputStream pdf = new BufferedInputStream(new ByteArrayInputStream("%PDF-1.7".getBytes(StandardCharsets.US_ASCII)));
+        assertThat(ResumeTextExtractor.detect(pdf)).isEqualTo(Format.PDF);
+        assertThat(pdf.readAllBytes()).hasSize(8);
+
+        BufferedInputStream zip = new BufferedInputStream(new ByteArrayInputStream(new byte[] {'P', 'K', 3, 4, 0}));
+        assertThat(ResumeTextExtractor.detect(zip)).isEqualTo(Format.DOCX);
+
+        // Too short for a signature, or text that only names a format
+        assertThat(ResumeTextExtractor.detect(new BufferedInputStream(new ByteArrayInputStream("%P".getBytes(StandardCharsets.US_ASCII)))))
+            .isEqualTo(Format.TEXT);
+        assertThat(ResumeTextExtractor.detect(new BufferedInputStream(new ByteArrayInputStream("resume.pdf".getBytes(StandardCharsets.US_ASCII)))))
+            .isEqualTo(Format.TEXT);
+    }
+
+    private static byte[] docx(String bodyXml) throws IOException {
+        String documentXml = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>" +
+            "<w:document xmlns:w=\"http://schemas.openxmlformats.org/wordprocessingml/2006/main\"><w:body>" +
+            bodyXml + "</w:body></w:document>";
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry("[Content_Types].xml"));
+            zip.write("<Types/>".getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+            zip.putNextEntry(new ZipEntry("word/document.xml"));
+            zip.write(documentXml.getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * One page per argument, each line drawn below the previous one
+     */
+    @SafeVarargs
+    private static byte[] pdf(List<String>... pages) throws IOException {
+        PDType1Font font = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+        try (PDDocument document = new PDDocument()) {
+            for (List<String> pageLines : pages) {
+                PDPage page = new PDPage();
+                document.addPage(page);
+                try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                    content.beginText();
+                    content.setFont(font, 12);
+                    content.setLeading(16);
+                    content.newLineAtOffset(72, 700);
+                    for (String line : pageLines) {
+                        content.showText(line);
+                        content.newLine();
+                    }
+                    content.endText();
+                }
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            document.save(bytes);
+            return bytes.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.careermappro.services;
+
+import com.careermappro.entities.Session;
+import com.careermappro.entities.Session.SessionState;
+import com.careermappro.entities.SkillNode;
+import com.careermappro.repositories.NativeSqlTemplate;
+import com.careermappro.repositories.SessionRepository;
+import com.careermappro.repositories.SkillNodeRepository;
+import com.careermappro.repositories.UserSkillStateRepository;
+import com.careermappro.support.QueryCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * The propose → start → complete loop must stay within a fixed number of SQL round-trips.
+ * Each service call runs in its own transaction, as it does behind the controllers.
+ */
+@DataJpaTest
+@Import({SessionService.class, SessionExpiryService.class, NativeSqlTemplate.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SessionServiceQueryCountTest {
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private SkillNodeRepository skillNodeRepository;
+
+    @Autowired
+    private UserSkillStateRepository userSkillStateRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private SkillNode skillNode;
+    private SkillNode otherSkillNode;
+
+    @BeforeEach
+    void seed() {
+        skillNode = skillNodeRepository.save(node("sql-joins"));
+        otherSkillNode = skillNodeRepository.save(node("rest-apis"));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        sessionRepository.deleteAll();
+        userSkillStateRepository.deleteAll();
+        skillNodeRepository.deleteAll();
+    }
+
+    @Test
+    void proposeStartCompleteStaysWithinBudget() {
+        int userId = 101;
+
+        QueryCounter.reset();
+        Session proposed = sessionService.proposeProbeSession(userId, skillNode.getSkillNodeId());
+        assertThat(QueryCounter.count()).as("propose: %s", QueryCounter.statements()).isLessThanOrEqualTo(2);
+        assertThat(proposed.getSessionState()).isEqualTo(SessionState.PROPOSED);
+
+        QueryCounter.reset();
+        Session started = sessionService.startSession(proposed.getSessionId());
+        assertThat(QueryCounter.count()).as("start: %s", QueryCounter.statements()).isLessThanOrEqualTo(2);
+        assertThat(started.getSessionState()).isEqualTo(SessionState.ACTIVE);
+
+        // One read, then one write per table touched (sessions, user_skill_states)
+        QueryCounter.reset();
+        Session completed = sessionService.completeSession(proposed.getSessionId(), new BigDecimal("0.9"), null);
+        assertThat(QueryCounter.count()).as("complete: %s", QueryCounter.statements()).isLessThanOrEqualTo(3);
+        assertThat(completed.getSessionState()).isEqualTo(SessionState.COMPLETED);
+        assertThat(userSkillStateRepository.findByUserIdAndSkillId(userId, skillNode.getSkillNodeId())).isPresent();
+    }
+
+    @Test
+    void repeatedProposalForSameSkillIsServedFromCache() {
+        int userId = 102;
+        Session first = sessionService.proposeProbeSession(userId, skillNode.getSkillNodeId());
+
+        QueryCounter.reset();
+        Session second = sessionService.proposeProbeSession(userId, skillNode.getSkillNodeId());
+
+        assertThat(second.getSessionId()).isEqualTo(first.getSessionId());
+        assertThat(QueryCounter.count()).as("repeat propose: %s", QueryCounter.statements()).isZero();
+    }
+
+    @Test
+    void rolledBackProposalIsNotCached() {
+        int userId = 105;
+        Session rolledBack = transactionTemplate.execute(status -> {
+            Session proposed = sessionService.proposeProbeSession(userId, skillNode.getSkillNodeId());
+            status.setRollbackOnly();
+            return proposed;
+        });
+
+        Session proposed = sessionService.proposeProbeSession(userId, skillNode.getSkillNodeId());
+
+        assertThat(proposed.getSessionId()).isNotEqualTo(rolledBack.getSessionId());
+        assertThat(sessionRepository.findById(proposed.getSessionId())).isPresent();
+    }
+
+    @Test
+    void proposalForDifferentSkillIsRejectedWhileOneIsPending() {
+        int userId = 103;
+        sessionService.proposeProbeSession(userId, skillNode.getSkillNodeId());
+
+        assertThatThrownBy(() -> sessionService.proposeProbeSession(userId, otherSkillNode.getSkillNodeId()))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void unknownSkillNodeIsRejectedInOneQuery() {
+        QueryCounter.reset();
+
+        assertThatThrownBy(() -> sessionService.proposeProbeSession(104, -1))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThat(QueryCounter.count()).isEqualTo(1);
+    }
+
+    private static SkillNode node(String name) {
+        SkillNode node = new SkillNode();
+        node.setCanonicalName(name);
+        node.setDomain("backend");
+        return node;
+    }
+}
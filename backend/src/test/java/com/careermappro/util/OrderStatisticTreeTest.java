@@ -0,0 +1,94 @@
+package com.careermappro.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderStatisticTreeTest {
+
+    // Same shape as the leaderboard key: score descending, ties broken by user id ascending
+    private record Key(int score, int userId) {}
+
+    private static final Comparator<Key> ORDER = Comparator
+            .comparingInt(Key::score).reversed()
+            .thenComparingInt(Key::userId);
+
+    private final OrderStatisticTree<Key> tree = new OrderStatisticTree<>(ORDER);
+
+    @Test
+    void randomOperationsMatchSortedListOracle() {
+        Random random = new Random(42);
+        List<Key> oracle = new ArrayList<>();
+
+        for (int step = 0; step < 5_000; step++) {
+            // Narrow score range so many keys share a score
+            Key key = new Key(random.nextInt(50), random.nextInt(400));
+            int position = Collections.binarySearch(oracle, key, ORDER);
+
+            if (random.nextInt(3) == 0) {
+                assertThat(tree.remove(key)).isEqualTo(position >= 0);
+                if (position >= 0) {
+                    oracle.remove(position);
+                }
+            } else {
+                assertThat(tree.insert(key)).isEqualTo(position < 0);
+                if (position < 0) {
+                    oracle.add(-position - 1, key);
+                }
+            }
+
+            if (step % 250 == 0) {
+                assertMatches(oracle);
+            }
+        }
+        assertMatches(oracle);
+    }
+
+    @Test
+    void equalScoresAreOrderedByTieBreaker() {
+        tree.insert(new Key(100, 7));
+        tree.insert(new Key(100, 3));
+        tree.insert(new Key(250, 9));
+        tree.insert(new Key(100, 5));
+
+        assertThat(tree.range(0, 10)).containsExactly(
+                new Key(250, 9), new Key(100, 3), new Key(100, 5), new Key(100, 7));
+        assertThat(tree.rank(new Key(100, 5))).isEqualTo(2);
+        assertThat(tree.select(1)).isEqualTo(new Key(100, 3));
+    }
+
+    @Test
+    void duplicateInsertAndMissingRemoveLeaveTreeUnchanged() {
+        assertThat(tree.insert(new Key(10, 1))).isTrue();
+        assertThat(tree.insert(new Key(10, 1))).isFalse();
+        assertThat(tree.remove(new Key(10, 2))).isFalse();
+
+        assertThat(tree.size()).isEqualTo(1);
+        assertThat(tree.rank(new Key(10, 2))).isEqualTo(-1);
+    }
+
+    @Test
+    void selectRejectsOutOfBoundsIndex() {
+        tree.insert(new Key(10, 1));
+
+        assertThatThrownBy(() -> tree.select(1)).isInstanceOf(IndexOutOfBoundsException.class);
+        assertThatThrownBy(() -> tree.select(-1)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    private void assertMatches(List<Key> oracle) {
+        assertThat(tree.size()).isEqualTo(oracle.size());
+        for (int i = 0; i < oracle.size(); i++) {
+            assertThat(tree.select(i)).isEqualTo(oracle.get(i));
+            assertThat(tree.rank(oracle.get(i))).isEqualTo(i);
+        }
+        assertThat(tree.range(0, oracle.size())).isEqualTo(oracle);
+        assertThat(tree.range(-5, 3)).isEqualTo(oracle.subList(0, Math.min(3, oracle.size())));
+    }
+}
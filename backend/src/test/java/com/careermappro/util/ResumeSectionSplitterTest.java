@@ -0,0 +1,53 @@
+package com.careermappro.util;
+
+import com.careermappro.util.ResumeSectionSplitter.Chunk;
+import com.careermappro.util.ResumeSectionSplitter.Section;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResumeSectionSplitterTest {
+
+    @Test
+    void headingsSwitchSections() {
+        ResumeSectionSplitter splitter = new ResumeSectionSplitter(1_000, 8);
+        """
+            Jane Doe
+            jane@example.com
+
+            WORK EXPERIENCE
+            Backend engineer at Acme, built Spring services
+            TECHNICAL SKILLS:
+            Java, PostgreSQL, Kafka
+            Skills & Tools
+            Docker
+            Projects
+            Rate limiter in Go
+            """.lines().forEach(splitter::accept);
+
+        List<Chunk> chunks = splitter.finish();
+
+        assertThat(chunks).extracting(Chunk::section)
+            .containsExactly(Section.OTHER, Section.EXPERIENCE, Section.SKILLS, Section.SKILLS, Section.PROJECTS);
+        assertThat(chunks.get(2).text()).isEqualTo("Java, PostgreSQL, Kafka\n");
+    }
+
+    @Test
+    void longSectionsAreChunkedAndCapped() {
+        ResumeSectionSplitter splitter = new ResumeSectionSplitter(100, 3);
+        splitter.accept("Experience");
+        for (int i = 0; i < 50; i++) {
+            splitter.accept("Shipped feature number " + i + " to production");
+        }
+
+        List<Chunk> chunks = splitter.finish();
+
+        assertThat(chunks).hasSize(3).allSatisfy(chunk -> {
+            assertThat(chunk.section()).isEqualTo(Section.EXPERIENCE);
+            assertThat(chunk.text().length()).isLessThanOrEqualTo(100);
+        });
+        assertThat(splitter.getDroppedChars()).isPositive();
+    }
+}
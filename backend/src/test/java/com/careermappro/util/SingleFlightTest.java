@@ -0,0 +1,86 @@
+package com.careermappro.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void concurrentCallersForOneKeyShareOneExecution() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(pool.submit(() -> singleFlight.execute("node-7", () -> {
+                executions.incrementAndGet();
+                leaderStarted.countDown();
+                await(release);
+                return "resources";
+            })));
+            leaderStarted.await();
+            for (int i = 0; i < 7; i++) {
+                results.add(pool.submit(() -> singleFlight.execute("node-7", () -> {
+                    executions.incrementAndGet();
+                    return "duplicate";
+                })));
+            }
+            // Give the followers time to find the in-flight call before the leader finishes
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("resources");
+            }
+            assertThat(executions).hasValue(1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void keyIsReleasedAfterTheCallSoLaterCallsRunAgain() {
+        assertThat(singleFlight.execute("k", () -> "first")).isEqualTo("first");
+        assertThat(singleFlight.execute("k", () -> "second")).isEqualTo("second");
+    }
+
+    @Test
+    void failureIsRethrownAndDoesNotPinTheKey() {
+        assertThatThrownBy(() -> singleFlight.execute("k", () -> {
+            throw new IllegalStateException("upstream down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(singleFlight.execute("k", () -> "recovered")).isEqualTo("recovered");
+    }
+
+    @Test
+    void deferredReleaseKeepsServingTheResultUntilReleased() {
+        List<Runnable> pending = new ArrayList<>();
+        singleFlight.execute("k", () -> "committed", pending::add);
+
+        // Still claimed: a late caller gets the leader's result instead of running again
+        assertThat(singleFlight.execute("k", () -> "again")).isEqualTo("committed");
+
+        pending.forEach(Runnable::run);
+        assertThat(singleFlight.execute("k", () -> "again")).isEqualTo("again");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
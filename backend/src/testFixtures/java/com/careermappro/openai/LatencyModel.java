@@ -0,0 +1,53 @@
+package com.careermappro.openai;
+
+import java.util.Random;
+
+/**
+ * How long the stub takes to answer one completion, in milliseconds.
+ *
+ * Spec strings (for command lines):
+ *   fixed:800             always 800 ms
+ *   uniform:200-1500      evenly between 200 and 1500 ms
+ *   lognormal:800,0.5     median 800 ms, sigma 0.5 (long right tail, like real completions)
+ */
+public interface LatencyModel {
+
+    long sampleMillis(Random random);
+
+    static LatencyModel none() {
+        return random -> 0;
+    }
+
+    static LatencyModel fixed(long millis) {
+        return random -> millis;
+    }
+
+    static LatencyModel uniform(long minMillis, long maxMillis) {
+        return random -> minMillis + (long) (random.nextDouble() * (maxMillis - minMillis));
+    }
+
+    static LatencyModel logNormal(long medianMillis, double sigma) {
+        return random -> Math.round(medianMillis * Math.exp(sigma * random.nextGaussian()));
+    }
+
+    static LatencyModel parse(String spec) {
+        String[] parts = spec.split(":", 2);
+        String args = parts.length > 1 ? parts[1] : "";
+        switch (parts[0]) {
+            case "none":
+                return none();
+            case "fixed":
+                return fixed(Long.parseLong(args));
+            case "uniform": {
+                String[] range = args.split("-");
+                return uniform(Long.parseLong(range[0]), Long.parseLong(range[1]));
+            }
+            case "lognormal": {
+                String[] params = args.split(",");
+                return logNormal(Long.parseLong(params[0]), params.length > 1 ? Double.parseDouble(params[1]) : 0.5);
+            }
+            default:
+                throw new IllegalArgumentException("Unknown latency model: " + spec);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.careermappro.openai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Embeddable OpenAI-compatible server for tests and load runs. Serves
+ * POST {baseUrl}/chat/completions; set openai.api.base-url to baseUrl().
+ *
+ *   try (OpenAiStubServer stub = OpenAiStubServer.builder()
+ *           .latency(LatencyModel.logNormal(800, 0.5))
+ *           .rateLimitRate(0.02)
+ *           .start()) {
+ *       ...
+ *   }
+ *
+ * Each request draws its latency and outcome from Random(seed, request number), so
+ * the n-th request of a run behaves the same on every replay:
+ * - with probability rateLimitRate: 429 with a Retry-After header, answered at once
+ * - with probability errorRate: 500 server_error, after the sampled latency
+ * - otherwise the recorded completion, after the sampled latency; requests with
+ *   "stream": true get it as SSE chunks, chunkDelay apart, ending with [DONE]
+ */
+public final class OpenAiStubServer implements AutoCloseable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final int CHUNK_CHARS = 24;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Builder config;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong rateLimited = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicReference<JsonNode> lastRequest = new AtomicReference<>();
+
+    public static final class Builder {
+        private int port;
+        private LatencyModel latency = LatencyModel.none();
+        private long chunkDelayMillis = 20;
+        private double errorRate;
+        private double rateLimitRate;
+        private int retryAfterSeconds = 1;
+        private long seed = 42;
+        private RecordedCompletions completions = RecordedCompletions.defaults();
+
+        private Builder() {}
+
+        /** 0 (the default) picks a free port */
+        public Builder port(int port) { this.port = port; return this; }
+        public Builder latency(LatencyModel latency) { this.latency = latency; return this; }
+        public Builder chunkDelayMillis(long millis) { this.chunkDelayMillis = millis; return this; }
+        public Builder errorRate(double rate) { this.errorRate = rate; return this; }
+        public Builder rateLimitRate(double rate) { this.rateLimitRate = rate; return this; }
+        public Builder retryAfterSeconds(int seconds) { this.retryAfterSeconds = seconds; return this; }
+        public Builder seed(long seed) { this.seed = seed; return this; }
+        public Builder completions(RecordedCompletions completions) { this.completions = completions; return this; }
+
+        public OpenAiStubServer start() throws IOException {
+            OpenAiStubServer stub = new OpenAiStubServer(this);
+            stub.server.start();
+            System.out.println("[OPENAI-STUB] Listening on " + stub.baseUrl());
+            return stub;
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    private OpenAiStubServer(Builder config) throws IOException {
+        this.config = config;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", config.port), 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/v1/chat/completions", this::handle);
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/v1";
+    }
+
+    public long requestCount() {
+        return requests.get();
+    }
+
+    public long rateLimitedCount() {
+        return rateLimited.get();
+    }
+
+    public long failedCount() {
+        return failed.get();
+    }
+
+    /** Body of the most recent request, for asserting on model, messages or parameters */
+    public JsonNode lastRequest() {
+        return lastRequest.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            long n = requests.incrementAndGet();
+            Random random = new Random(config.seed * 31 + n);
+            JsonNode request = MAPPER.readTree(exchange.getRequestBody());
+            lastRequest.set(request);
+
+            double roll = random.nextDouble();
+            if (roll < config.rateLimitRate) {
+                rateLimited.incrementAndGet();
+                exchange.getResponseHeaders().set("Retry-After", String.valueOf(config.retryAfterSeconds));
+                sendJson(exchange, 429, error("Rate limit reached for requests", "requests", "rate_limit_exceeded"));
+                return;
+            }
+
+            Thread.sleep(Math.max(0, config.latency.sampleMillis(random)));
+
+            if (roll < config.rateLimitRate + config.errorRate) {
+                failed.incrementAndGet();
+                sendJson(exchange, 500, error("The server had an error while processing your request", "server_error", null));
+                return;
+            }
+
+            String model = request.path("model").asText("stub");
+            String prompt = request.path("messages").toString();
+            String content = config.completions.contentFor(prompt);
+            if (request.path("stream").asBoolean(false)) {
+                stream(exchange, n, model, content);
+            } else {
+                sendJson(exchange, 200, completion(n, model, prompt, content));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void stream(HttpExchange exchange, long n, String model, String content) throws IOException, InterruptedException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream out = exchange.getResponseBody()) {
+            for (int i = 0; i < content.length(); i += CHUNK_CHARS) {
+                String piece = content.substring(i, Math.min(content.length(), i + CHUNK_CHARS));
+                writeEvent(out, chunk(n, model, Map.of("content", piece), null));
+                if (config.chunkDelayMillis > 0) {
+                    Thread.sleep(config.chunkDelayMillis);
+                }
+            }
+            writeEvent(out, chunk(n, model, Map.of(), "stop"));
+            out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static void writeEvent(OutputStream out, Map<String, Object> event) throws IOException {
+        out.write(("data: " + MAPPER.writeValueAsString(event) + "\n\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private static Map<String, Object> completion(long n, String model, String prompt, String content) {
+        int promptTokens = prompt.length() / 4;
+        int completionTokens = content.length() / 4;
+        return Map.of(
+            "id", "chatcmpl-stub-" + n,
+            "object", "chat.completion",
+            "model", model,
+            "choices", List.of(Map.of(
+                "index", 0,
+                "message", Map.of("role", "assistant", "content", content),
+                "finish_reason", "stop"
+            )),
+            "usage", Map.of("prompt_tokens", promptTokens, "completion_tokens", completionTokens,
+                            "total_tokens", promptTokens + completionTokens)
+        );
+    }
+
+    private static Map<String, Object> chunk(long n, String model, Map<String, Object> delta, String finishReason) {
+        Map<String, Object> choice = new LinkedHashMap<>();
+        choice.put("index", 0);
+        choice.put("delta", delta);
+        choice.put("finish_reason", finishReason);
+        return Map.of(
+            "id", "chatcmpl-stub-" + n,
+            "object", "chat.completion.chunk",
+            "model", model,
+            "choices", List.of(choice)
+        );
+    }
+
+    private static Map<String, Object> error(String message, String type, String code) {
+        Map<String, Object> error = new LinkedHashMap<>();
+        error.put("message", message);
+        error.put("type", type);
+        error.put("code", code);
+        return Map.of("error", error);
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = MAPPER.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+        System.out.println(String.format("[OPENAI-STUB] Stopped after %d requests (%d rate limited, %d failed)",
+            requests.get(), rateLimited.get(), failed.get()));
+    }
+}
@@ -0,0 +1,103 @@
+package com.careermappro.openai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Completions the stub replays, chosen by the first recording whose "match" text
+ * occurs in the request's messages.
+ *
+ * Recordings are NDJSON, one {"match": "...", "content": "..."} per line, so a real
+ * response can be captured once and replayed forever. Without a match the built-in
+ * defaults answer: a quiz question array when the prompt asks for "questionText",
+ * a {"skills": [...]} object for extraction and resume prompts, and a short
+ * paragraph for everything else. These are shaped for the backend's own parsers.
+ */
+public final class RecordedCompletions {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Pattern QUESTION_COUNT = Pattern.compile("EXACTLY (\\d+) questions");
+
+    private static final String QUIZ_QUESTION = """
+        {"questionType": "MCQ", "questionText": "Which statement about %s is correct?",
+         "optionA": "The correct statement", "optionB": "A plausible distractor",
+         "optionC": "Another distractor", "optionD": "A final distractor",
+         "correctAnswer": "A", "explanation": "Stubbed explanation", "subtopic": "Fundamentals"}""";
+
+    private static final String SKILLS = """
+        {"skills": [
+          {"name": "Java", "support": 0.8, "confidence": 0.9, "proficiency": 7},
+          {"name": "SQL", "support": 0.6, "confidence": 0.8, "proficiency": 6},
+          {"name": "Docker", "support": 0.4, "confidence": 0.7, "proficiency": 5}
+        ]}""";
+
+    private static final String TEXT =
+        "This is a stubbed explanation. Focus on fundamentals first, then practise with a small project.";
+
+    private record Recording(String match, String content) {}
+
+    private final List<Recording> recordings;
+
+    private RecordedCompletions(List<Recording> recordings) {
+        this.recordings = recordings;
+    }
+
+    public static RecordedCompletions defaults() {
+        return new RecordedCompletions(List.of());
+    }
+
+    public static RecordedCompletions load(Path ndjson) throws IOException {
+        List<Recording> recordings = new ArrayList<>();
+        for (String line : Files.readAllLines(ndjson)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonNode node = MAPPER.readTree(line);
+            recordings.add(new Recording(node.path("match").asText(""), node.path("content").asText()));
+        }
+        return new RecordedCompletions(List.copyOf(recordings));
+    }
+
+    /**
+     * Returns a copy answering prompts containing match with content before anything else
+     */
+    public RecordedCompletions with(String match, String content) {
+        List<Recording> combined = new ArrayList<>();
+        combined.add(new Recording(match, content));
+        combined.addAll(recordings);
+        return new RecordedCompletions(List.copyOf(combined));
+    }
+
+    /**
+     * @param prompt the request's messages array, serialized
+     */
+    public String contentFor(String prompt) {
+        for (Recording recording : recordings) {
+            if (prompt.contains(recording.match())) {
+                return recording.content();
+            }
+        }
+
+        if (prompt.contains("questionText")) {
+            Matcher m = QUESTION_COUNT.matcher(prompt);
+            int count = m.find() ? Integer.parseInt(m.group(1)) : 5;
+            StringBuilder questions = new StringBuilder("[");
+            for (int i = 0; i < count; i++) {
+                questions.append(i == 0 ? "" : ",").append(QUIZ_QUESTION.formatted("topic " + (i + 1)));
+            }
+            return questions.append("]").toString();
+        }
+        if (prompt.contains("\\\"skills\\\"") || prompt.toLowerCase().contains("extract")) {
+            return SKILLS;
+        }
+        return TEXT;
+    }
+}